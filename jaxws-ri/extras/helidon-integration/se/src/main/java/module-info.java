@@ -26,6 +26,7 @@ module org.glassfish.metro.helidon {
     requires transitive com.sun.xml.ws.rt;
     requires transitive org.glassfish.metro.wsit.impl;
     requires io.helidon.webserver;
+    requires io.helidon.webclient;
     requires io.helidon.common.serviceloader;
 
     uses org.eclipse.metro.helidon.APISupportImpl;
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.metro.helidon;
+
+import com.oracle.webservices.api.message.BasePropertySet;
+import com.oracle.webservices.api.message.PropertySet;
+import io.helidon.webclient.WebClientResponse;
+import jakarta.xml.ws.handler.MessageContext;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response properties of a call made by {@link HelidonTransportTube},
+ * available once the response has been received.
+ */
+final class ClientResponseProperties extends BasePropertySet {
+
+    private static final PropertyMap model;
+    private volatile WebClientResponse res;
+
+    static {
+        model = parse(ClientResponseProperties.class, MethodHandles.lookup());
+    }
+
+    ClientResponseProperties() {
+    }
+
+    void setResponse(WebClientResponse rs) {
+        this.res = rs;
+    }
+
+    @Override
+    protected PropertyMap getPropertyMap() {
+        return model;
+    }
+
+    @PropertySet.Property(MessageContext.HTTP_RESPONSE_HEADERS)
+    public Map<String, List<String>> getResponseHeaders() {
+        return res != null
+                ? res.headers().toMap()
+                : null;
+    }
+
+    @PropertySet.Property(MessageContext.HTTP_RESPONSE_CODE)
+    public int getResponseCode() {
+        return res != null
+                ? res.status().code()
+                : 0;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,17 +19,60 @@ package org.eclipse.metro.helidon;
 import com.sun.xml.ws.api.pipe.ClientTubeAssemblerContext;
 import com.sun.xml.ws.api.pipe.TransportTubeFactory;
 import com.sun.xml.ws.api.pipe.Tube;
+import com.sun.xml.ws.developer.HttpConfigFeature;
+import com.sun.xml.ws.transport.http.client.HttpTransportPipe;
+import io.helidon.webclient.WebClient;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Creates {@link HelidonTransportTube} for http and https endpoints.
+ *
+ * <p>
+ * The default transport is used for the bindings configured with
+ * {@link HttpConfigFeature} and while {@link HttpTransportPipe#dump} is
+ * set; {@link HelidonTransportTube} itself hands the requests using
+ * the features it doesn't support over to {@link HttpTransportPipe}.
+ * Set the {@code org.eclipse.metro.helidon.HelidonTransportFactory.disabled}
+ * system property to always use the default transport.
+ */
 public class HelidonTransportFactory extends TransportTubeFactory {
 
     private static final Logger LOGGER = Logger.getLogger(HelidonTransportFactory.class.getName());
+    private static final String DISABLED_PROPERTY = HelidonTransportFactory.class.getName() + ".disabled";
+    private static final boolean DISABLED;
+
+    static {
+        boolean disabled = false;
+        try {
+            disabled = Boolean.getBoolean(DISABLED_PROPERTY);
+        } catch (SecurityException se) {
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults.", DISABLED_PROPERTY);
+            }
+        }
+        DISABLED = disabled;
+    }
 
     @Override
     public Tube doCreate(ClientTubeAssemblerContext ctac) {
-        LOGGER.log(Level.INFO, "creating {0}...", HelidonTransportFactory.class.getName());
-        //ctac.
-        return null;
+        String scheme = ctac.getAddress().getURI().getScheme();
+        if (scheme == null || !(scheme.equalsIgnoreCase("http") || scheme.equalsIgnoreCase("https"))) {
+            return null;
+        }
+        if (DISABLED || HttpTransportPipe.dump
+                || ctac.getBinding().getFeature(HttpConfigFeature.class) != null) {
+            return null;
+        }
+        LOGGER.log(Level.FINE, "creating {0} for {1}", new Object[]{HelidonTransportTube.class.getName(), ctac.getAddress()});
+        return new HelidonTransportTube(ctac.getCodec(), ctac.getBinding(), ClientHolder.CLIENT);
+    }
+
+    /*
+     * Lazily created client, shared by all the tubes so that connections are pooled
+     */
+    private static final class ClientHolder {
+
+        private static final WebClient CLIENT = WebClient.builder().build();
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,26 +16,190 @@
 
 package org.eclipse.metro.helidon;
 
+import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.WSBinding;
 import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.pipe.Codec;
+import com.sun.xml.ws.api.pipe.ContentType;
+import com.sun.xml.ws.api.pipe.Fiber;
 import com.sun.xml.ws.api.pipe.NextAction;
 import com.sun.xml.ws.api.pipe.TubeCloner;
 import com.sun.xml.ws.api.pipe.helper.AbstractTubeImpl;
+import com.sun.xml.ws.developer.JAXWSProperties;
+import com.sun.xml.ws.resources.ClientMessages;
+import com.sun.xml.ws.transport.Headers;
+import com.sun.xml.ws.transport.http.client.HttpTransportPipe;
+import com.sun.xml.ws.util.ByteArrayBuffer;
+import com.sun.xml.ws.util.RuntimeVersion;
+import com.sun.xml.ws.util.StreamUtils;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.reactive.IoMulti;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.OutputStreamMulti;
+import io.helidon.common.reactive.Single;
+import io.helidon.media.common.DataChunkInputStream;
+import io.helidon.webclient.WebClient;
+import io.helidon.webclient.WebClientRequestBuilder;
+import io.helidon.webclient.WebClientResponse;
+import jakarta.xml.ws.BindingProvider;
+import jakarta.xml.ws.WebServiceException;
+import jakarta.xml.ws.handler.MessageContext;
+import jakarta.xml.ws.soap.SOAPBinding;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 
+/**
+ * Client transport sending requests with Helidon {@link WebClient}.
+ *
+ * <p>
+ * The {@link Fiber} is suspended while the request is sent and resumed once
+ * the response status and headers have been received and the request body
+ * has been encoded, as the codec isn't thread safe. Request bodies with
+ * a static content type are encoded straight into the request entity, and
+ * the response body is decoded as it is read from the connection, on the
+ * thread running the resumed fiber.
+ *
+ * <p>
+ * Requests maintaining the HTTP session, using a hostname verifier, an SSL
+ * socket factory, an authenticator, chunked streaming or gzip compression,
+ * requests going through a proxy, and all the requests while
+ * {@link HttpTransportPipe#dump} is set, are sent by {@link HttpTransportPipe}.
+ * Redirects aren't followed, as with {@link HttpTransportPipe}.
+ *
+ * @see HelidonTransportFactory
+ */
 class HelidonTransportTube extends AbstractTubeImpl {
 
+    private static final List<String> USER_AGENT = Collections.singletonList(RuntimeVersion.VERSION.toString());
+
+    private final Codec codec;
+    private final WSBinding binding;
+    private final WebClient client;
+    private final HttpTransportPipe fallback;
+
+    HelidonTransportTube(Codec codec, WSBinding binding, WebClient client) {
+        this.codec = codec;
+        this.binding = binding;
+        this.client = client;
+        this.fallback = new HttpTransportPipe(codec, binding);
+    }
+
+    private HelidonTransportTube(HelidonTransportTube that, TubeCloner cloner) {
+        super(that, cloner);
+        this.codec = that.codec.copy();
+        this.binding = that.binding;
+        this.client = that.client;
+        this.fallback = cloner.copy(that.fallback);
+    }
+
     @Override
     public AbstractTubeImpl copy(TubeCloner tc) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return new HelidonTransportTube(this, tc);
     }
 
     @Override
     public NextAction processRequest(Packet packet) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        if (needsDefaultTransport(packet)) {
+            return doInvoke(fallback, packet);
+        }
+        final WebClientRequestBuilder builder;
+        final Multi<DataChunk> entity;
+        final OutputStreamMulti out;
+        try {
+            Map<String, List<String>> reqHeaders = createRequestHeaders(packet);
+            String requestMethod = (String) packet.invocationProperties.get(MessageContext.HTTP_REQUEST_METHOD);
+            String method = requestMethod != null
+                    ? requestMethod
+                    : "POST";
+
+            builder = client.method(method)
+                    .uri(packet.endpointAddress.getURI());
+            setTimeouts(packet, builder);
+
+            if (method.equalsIgnoreCase("GET") || method.equalsIgnoreCase("HEAD") || method.equalsIgnoreCase("DELETE")) {
+                ContentType ct = codec.getStaticContentType(packet);
+                if (ct != null) {
+                    addContentTypeHeaders(reqHeaders, ct);
+                }
+                entity = null;
+                out = null;
+            } else {
+                ContentType ct = codec.getStaticContentType(packet);
+                if (ct != null) {
+                    // encoded into the entity once the request has been submitted
+                    addContentTypeHeaders(reqHeaders, ct);
+                    out = IoMulti.outputStreamMulti();
+                    entity = out.map(byteBuffer -> DataChunk.create(false, true, byteBuffer));
+                } else {
+                    // content type is only known once encoded
+                    ByteArrayBuffer buf = new ByteArrayBuffer();
+                    ct = codec.encode(packet, buf);
+                    addContentTypeHeaders(reqHeaders, ct);
+                    out = null;
+                    entity = Multi.singleton(DataChunk.create(ByteBuffer.wrap(buf.getRawData(), 0, buf.size())));
+                }
+            }
+            setHeaders(builder, reqHeaders);
+        } catch (WebServiceException wex) {
+            throw wex;
+        } catch (Exception ex) {
+            throw new WebServiceException(ex);
+        }
+
+        final ClientResponseProperties props = new ClientResponseProperties();
+        packet.addSatellite(props);
+        final ResponseDecoder decoder = new ResponseDecoder(props);
+        final AtomicReference<Throwable> encodeFailure = new AtomicReference<>();
+        // the codec and the packet are used by the encoder until the body is sent
+        final CompletableFuture<Void> encoded = new CompletableFuture<>();
+        final Fiber fiber = Fiber.current();
+        return doSuspend(decoder, () -> {
+            Single<WebClientResponse> response = entity != null
+                    ? builder.submit(entity)
+                    : builder.submit();
+            response.toStage().whenComplete((res, t) -> encoded.whenComplete((v, ignored) -> {
+                Throwable failure = encodeFailure.get();
+                if (failure != null || t != null) {
+                    fiber.resume(toException(failure != null ? failure : t));
+                    return;
+                }
+                decoder.setResponse(res);
+                fiber.resume(packet);
+            }));
+            if (out != null) {
+                try {
+                    codec.encode(packet, out);
+                    out.close();
+                } catch (IOException | RuntimeException ex) {
+                    encodeFailure.set(ex);
+                    out.signalCloseComplete(ex);
+                } finally {
+                    encoded.complete(null);
+                }
+            } else {
+                encoded.complete(null);
+            }
+        });
     }
 
     @Override
     public NextAction processResponse(Packet packet) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return doReturnWith(packet);
     }
 
     @Override
@@ -45,7 +209,232 @@ class HelidonTransportTube extends AbstractTubeImpl {
 
     @Override
     public void preDestroy() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        // the client is shared by all the tubes
+        fallback.preDestroy();
+    }
+
+    /**
+     * Whether the request uses a feature of {@link HttpTransportPipe}
+     * not supported on top of {@link WebClient}.
+     */
+    static boolean needsDefaultTransport(Packet packet) {
+        if (HttpTransportPipe.dump) {
+            return true;
+        }
+        Map<String, Object> props = packet.invocationProperties;
+        if (Boolean.TRUE.equals(props.get(BindingProvider.SESSION_MAINTAIN_PROPERTY))
+                || props.get(JAXWSProperties.HOSTNAME_VERIFIER) != null
+                || props.get(JAXWSProperties.SSL_SOCKET_FACTORY) != null
+                || props.get(JAXWSProperties.HTTP_CLIENT_STREAMING_CHUNK_SIZE) != null
+                || props.get(JAXWSProperties.REQUEST_AUTHENTICATOR) != null
+                || (packet.endpointAddress != null && usesProxy(packet.endpointAddress.getURI()))) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, List<String>> userHeaders = (Map<String, List<String>>) props.get(MessageContext.HTTP_REQUEST_HEADERS);
+        if (userHeaders != null) {
+            for (Map.Entry<String, List<String>> e : userHeaders.entrySet()) {
+                if ("Content-Encoding".equalsIgnoreCase(e.getKey()) && e.getValue() != null) {
+                    for (String v : e.getValue()) {
+                        if (v != null && v.contains("gzip")) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Proxies set with the system properties or a custom ProxySelector are
+     * only applied by HttpURLConnection
+     */
+    private static boolean usesProxy(URI uri) {
+        ProxySelector selector;
+        try {
+            selector = ProxySelector.getDefault();
+        } catch (SecurityException se) {
+            return true;
+        }
+        if (selector == null) {
+            return false;
+        }
+        for (Proxy proxy : selector.select(uri)) {
+            if (proxy.type() != Proxy.Type.DIRECT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<String, List<String>> createRequestHeaders(Packet packet) {
+        Map<String, List<String>> reqHeaders = new Headers();
+        @SuppressWarnings("unchecked")
+        Map<String, List<String>> userHeaders = (Map<String, List<String>>) packet.invocationProperties.get(MessageContext.HTTP_REQUEST_HEADERS);
+        if (userHeaders != null) {
+            reqHeaders.putAll(userHeaders);
+        }
+        if (!reqHeaders.containsKey("User-Agent")) {
+            reqHeaders.put("User-Agent", USER_AGENT);
+        }
+        String user = (String) packet.invocationProperties.get(BindingProvider.USERNAME_PROPERTY);
+        if (user != null) {
+            String pw = (String) packet.invocationProperties.get(BindingProvider.PASSWORD_PROPERTY);
+            if (pw != null) {
+                String creds = Base64.getEncoder().encodeToString((user + ":" + pw).getBytes(StandardCharsets.UTF_8));
+                reqHeaders.put("Authorization", Collections.singletonList("Basic " + creds));
+            }
+        }
+        return reqHeaders;
+    }
+
+    private void addContentTypeHeaders(Map<String, List<String>> reqHeaders, ContentType ct) {
+        reqHeaders.put("Content-Type", Collections.singletonList(ct.getContentType()));
+        if (ct.getAcceptHeader() != null) {
+            reqHeaders.put("Accept", Collections.singletonList(ct.getAcceptHeader()));
+        }
+        //dont write SOAPAction HTTP header for SOAP 1.2 messages.
+        if (binding instanceof SOAPBinding && !SOAPVersion.SOAP_12.equals(binding.getSOAPVersion())) {
+            String soapAction = ct.getSOAPActionHeader();
+            reqHeaders.put("SOAPAction", Collections.singletonList(soapAction != null
+                    ? soapAction
+                    : "\"\""));
+        }
+    }
+
+    private static void setHeaders(WebClientRequestBuilder builder, Map<String, List<String>> reqHeaders) {
+        for (Map.Entry<String, List<String>> e : reqHeaders.entrySet()) {
+            if (e.getKey().equalsIgnoreCase("Content-Type")) {
+                builder.contentType(MediaType.parse(e.getValue().get(0)));
+            } else if (!e.getKey().equalsIgnoreCase("Content-Length")) {
+                builder.headers().add(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    private static void setTimeouts(Packet packet, WebClientRequestBuilder builder) {
+        Integer connectTimeout = (Integer) packet.invocationProperties.get(JAXWSProperties.CONNECT_TIMEOUT);
+        if (connectTimeout != null && connectTimeout > 0) {
+            builder.connectTimeout(connectTimeout, TimeUnit.MILLISECONDS);
+        }
+        Integer reqTimeout = (Integer) packet.invocationProperties.get(JAXWSProperties.REQUEST_TIMEOUT);
+        if (reqTimeout != null && reqTimeout > 0) {
+            builder.readTimeout(reqTimeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Throwable toException(Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null) {
+            t = t.getCause();
+        }
+        if (t instanceof WebServiceException) {
+            return t;
+        }
+        return APISupport.createException(ClientMessages.HTTP_CLIENT_FAILED(t), t);
+    }
+
+    /*
+     * Allows the following HTTP status codes.
+     * SOAP 1.1/HTTP - 200, 202, 500
+     * SOAP 1.2/HTTP - 200, 202, 400, 500
+     * XML/HTTP - all
+     */
+    private void checkStatusCode(InputStream in, int statusCode, String reasonPhrase) throws IOException {
+        if (!(binding instanceof SOAPBinding)) {
+            return;
+        }
+        boolean soap12 = binding.getSOAPVersion() == SOAPVersion.SOAP_12;
+        boolean error = statusCode == 500 || (soap12 && statusCode == 400);
+        if (statusCode == 200 || statusCode == 202 || (error && in != null)) {
+            return;
+        }
+        if (in != null) {
+            in.close();
+        }
+        throw APISupport.createException(ClientMessages.HTTP_STATUS_CODE(statusCode, reasonPhrase));
+    }
+
+    /**
+     * Decodes the response once the fiber has been resumed, so that the
+     * body is not read on the thread completing the request.
+     */
+    private final class ResponseDecoder extends AbstractTubeImpl {
+
+        private final ClientResponseProperties props;
+        private volatile WebClientResponse response;
+
+        ResponseDecoder(ClientResponseProperties props) {
+            this.props = props;
+        }
+
+        private ResponseDecoder(ResponseDecoder that, TubeCloner cloner) {
+            super(that, cloner);
+            this.props = that.props;
+            this.response = that.response;
+        }
+
+        void setResponse(WebClientResponse response) {
+            this.response = response;
+            props.setResponse(response);
+        }
+
+        @Override
+        public NextAction processRequest(Packet request) {
+            try {
+                return doReturnWith(createResponsePacket(request, response));
+            } catch (WebServiceException wex) {
+                throw wex;
+            } catch (Exception ex) {
+                throw new WebServiceException(ex);
+            }
+        }
+
+        private Packet createResponsePacket(Packet request, WebClientResponse res) throws IOException {
+            int statusCode = res.status().code();
+            long cl = res.headers().contentLength().orElse(-1);
+            InputStream in = new DataChunkInputStream(res.content());
+            if (cl == -1) {
+                in = StreamUtils.hasSomeData(in);
+            } else if (cl == 0) {
+                in.close();
+                in = null;
+            }
+            if (in != null && res.headers().first("Content-Encoding").filter(v -> v.contains("gzip")).isPresent()) {
+                in = new GZIPInputStream(in);
+            }
+            checkStatusCode(in, statusCode, res.status().reasonPhrase());
+
+            Packet reply = request.createClientResponse(null);
+            reply.wasTransportSecure = "https".equalsIgnoreCase(res.lastEndpointURI().getScheme());
+            if (in != null) {
+                String contentType = res.headers().contentType().map(MediaType::toString).orElse(null);
+                if (contentType != null && contentType.contains("text/html") && binding instanceof SOAPBinding) {
+                    in.close();
+                    throw APISupport.createException(ClientMessages.HTTP_STATUS_CODE(statusCode, res.status().reasonPhrase()));
+                }
+                codec.decode(in, contentType, reply);
+            }
+            return reply;
+        }
+
+        @Override
+        public NextAction processResponse(Packet packet) {
+            return doReturnWith(packet);
+        }
+
+        @Override
+        public NextAction processException(Throwable thrwbl) {
+            return doThrow(thrwbl);
+        }
+
+        @Override
+        public void preDestroy() {
+        }
+
+        @Override
+        public AbstractTubeImpl copy(TubeCloner tc) {
+            return new ResponseDecoder(this, tc);
+        }
     }
-    
 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.metro.helidon;
+
+import com.sun.xml.ws.api.BindingID;
+import com.sun.xml.ws.api.EndpointAddress;
+import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.WSBinding;
+import com.sun.xml.ws.api.message.Messages;
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.pipe.Engine;
+import com.sun.xml.ws.api.pipe.Fiber;
+import com.sun.xml.ws.api.pipe.Tube;
+import com.sun.xml.ws.api.pipe.TubeCloner;
+import com.sun.xml.ws.binding.BindingImpl;
+import com.sun.xml.ws.developer.JAXWSProperties;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
+import io.helidon.webclient.WebClient;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.ServerRequest;
+import io.helidon.webserver.ServerResponse;
+import io.helidon.webserver.WebServer;
+import jakarta.xml.ws.BindingProvider;
+import jakarta.xml.ws.WebServiceException;
+import jakarta.xml.ws.handler.MessageContext;
+import java.io.StringReader;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HelidonTransportTubeTest {
+
+    private static final String FAULT = "<S:Envelope xmlns:S='http://schemas.xmlsoap.org/soap/envelope/'><S:Body>"
+            + "<S:Fault><faultcode>S:Server</faultcode><faultstring>failed</faultstring></S:Fault>"
+            + "</S:Body></S:Envelope>";
+
+    private static final MediaType TEXT_XML = MediaType.parse("text/xml;charset=utf-8");
+
+    private static WebServer server;
+    private static WebClient client;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        server = WebServer.builder()
+                .port(0)
+                .routing(Routing.builder()
+                        .post("/echo", HelidonTransportTubeTest::echo)
+                        .post("/fault", (req, res) -> req.content().as(String.class).thenAccept(body -> {
+                            res.status(Http.Status.INTERNAL_SERVER_ERROR_500);
+                            res.headers().contentType(TEXT_XML);
+                            res.send(FAULT);
+                        }))
+                        .post("/missing", (req, res) -> req.content().as(String.class).thenAccept(body -> {
+                            res.status(Http.Status.NOT_FOUND_404);
+                            res.send("missing");
+                        }))
+                        .post("/session", HelidonTransportTubeTest::session)
+                        .post("/redirect", (req, res) -> req.content().as(String.class).thenAccept(body -> {
+                            res.status(Http.Status.FOUND_302);
+                            res.headers().add("Location", "/echo");
+                            res.send();
+                        }))
+                        .build())
+                .build()
+                .start()
+                .await(10, TimeUnit.SECONDS);
+        client = WebClient.builder().build();
+    }
+
+    @AfterAll
+    public static void stopServer() throws Exception {
+        if (server != null) {
+            server.shutdown().await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testRequestResponse() throws Exception {
+        Packet reply = invoke(tube(), request("/echo", "hello"));
+        assertEquals("hello", text(reply));
+    }
+
+    @Test
+    public void testFault() throws Exception {
+        Packet reply = invoke(tube(), request("/fault", "hello"));
+        assertTrue(reply.getMessage().isFault());
+    }
+
+    @Test
+    public void testStatusCode() {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> invoke(tube(), request("/missing", "hello")));
+        assertTrue(e.getCause() instanceof WebServiceException, String.valueOf(e.getCause()));
+    }
+
+    @Test
+    public void testRedirectNotFollowed() {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> invoke(tube(), request("/redirect", "hello")));
+        assertTrue(e.getCause() instanceof WebServiceException, String.valueOf(e.getCause()));
+    }
+
+    @Test
+    public void testHeaders() throws Exception {
+        Packet request = request("/echo", "hello");
+        request.invocationProperties.put(MessageContext.HTTP_REQUEST_HEADERS,
+                Collections.singletonMap("X-Test", Collections.singletonList("value")));
+        invoke(tube(), request);
+
+        ClientResponseProperties props = request.getSatellite(ClientResponseProperties.class);
+        assertEquals(200, props.getResponseCode());
+        Map<String, List<String>> headers = props.getResponseHeaders();
+        assertEquals(Collections.singletonList("value"), headers.get("X-Echo"));
+        assertEquals(Collections.singletonList("\"\""), headers.get("X-SOAPAction"));
+    }
+
+    @Test
+    public void testSessionFallsBack() throws Exception {
+        Tube tube = tube();
+        Packet first = request("/session", "hello");
+        first.invocationProperties.put(BindingProvider.SESSION_MAINTAIN_PROPERTY, Boolean.TRUE);
+        assertEquals("none", text(invoke(tube, first)));
+        // the cookie is kept by the default transport
+        Packet second = request("/session", "hello");
+        second.invocationProperties.put(BindingProvider.SESSION_MAINTAIN_PROPERTY, Boolean.TRUE);
+        assertEquals("session=1", text(invoke(tube, second)));
+        // sent by HttpTransportPipe
+        assertNull(second.getSatellite(ClientResponseProperties.class));
+    }
+
+    @Test
+    public void testNeedsDefaultTransport() {
+        assertFalse(HelidonTransportTube.needsDefaultTransport(new Packet()));
+        assertTrue(HelidonTransportTube.needsDefaultTransport(
+                packet(BindingProvider.SESSION_MAINTAIN_PROPERTY, Boolean.TRUE)));
+        assertFalse(HelidonTransportTube.needsDefaultTransport(
+                packet(BindingProvider.SESSION_MAINTAIN_PROPERTY, Boolean.FALSE)));
+        assertTrue(HelidonTransportTube.needsDefaultTransport(
+                packet(JAXWSProperties.HOSTNAME_VERIFIER, (javax.net.ssl.HostnameVerifier) (h, s) -> true)));
+        assertTrue(HelidonTransportTube.needsDefaultTransport(
+                packet(JAXWSProperties.SSL_SOCKET_FACTORY, javax.net.ssl.SSLSocketFactory.getDefault())));
+        assertTrue(HelidonTransportTube.needsDefaultTransport(
+                packet(JAXWSProperties.HTTP_CLIENT_STREAMING_CHUNK_SIZE, 8192)));
+        assertTrue(HelidonTransportTube.needsDefaultTransport(
+                packet(MessageContext.HTTP_REQUEST_HEADERS,
+                        Collections.singletonMap("content-encoding", Collections.singletonList("gzip")))));
+        assertFalse(HelidonTransportTube.needsDefaultTransport(
+                packet(MessageContext.HTTP_REQUEST_HEADERS,
+                        Collections.singletonMap("Accept-Encoding", Collections.singletonList("gzip")))));
+        assertTrue(HelidonTransportTube.needsDefaultTransport(
+                packet(JAXWSProperties.REQUEST_AUTHENTICATOR, new Authenticator() {})));
+    }
+
+    @Test
+    public void testProxyFallsBack() {
+        ProxySelector selector = ProxySelector.getDefault();
+        Packet request = request("/echo", "hello");
+        assertFalse(HelidonTransportTube.needsDefaultTransport(request));
+        ProxySelector.setDefault(ProxySelector.of(new InetSocketAddress("proxy.example.com", 3128)));
+        try {
+            assertTrue(HelidonTransportTube.needsDefaultTransport(request));
+        } finally {
+            ProxySelector.setDefault(selector);
+        }
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        Tube tube = tube();
+        Tube copy = TubeCloner.clone(tube);
+        assertNotSame(tube, copy);
+        assertTrue(copy instanceof HelidonTransportTube);
+        assertEquals("copied", text(invoke(copy, request("/echo", "copied"))));
+    }
+
+    private static void echo(ServerRequest req, ServerResponse res) {
+        req.content().as(String.class).thenAccept(body -> {
+            req.headers().first("X-Test").ifPresent(v -> res.headers().add("X-Echo", v));
+            req.headers().first("SOAPAction").ifPresent(v -> res.headers().add("X-SOAPAction", v));
+            res.headers().contentType(TEXT_XML);
+            res.send(body);
+        });
+    }
+
+    private static void session(ServerRequest req, ServerResponse res) {
+        req.content().as(String.class).thenAccept(body -> {
+            String cookie = req.headers().first("Cookie").orElse(null);
+            if (cookie == null) {
+                res.headers().add("Set-Cookie", "session=1");
+            }
+            res.headers().contentType(TEXT_XML);
+            res.send(body.replace("hello", cookie != null ? cookie : "none"));
+        });
+    }
+
+    private static Tube tube() {
+        WSBinding binding = BindingImpl.create(BindingID.SOAP11_HTTP);
+        return new HelidonTransportTube(BindingID.SOAP11_HTTP.createEncoder(binding), binding, client);
+    }
+
+    private static Packet request(String path, String text) {
+        Packet packet = new Packet(Messages.createUsingPayload(
+                new StreamSource(new StringReader("<p:echo xmlns:p='urn:test'>" + text + "</p:echo>")),
+                SOAPVersion.SOAP_11));
+        packet.endpointAddress = EndpointAddress.create("http://localhost:" + server.port() + path);
+        return packet;
+    }
+
+    private static Packet packet(String name, Object value) {
+        Packet packet = new Packet();
+        packet.invocationProperties.put(name, value);
+        return packet;
+    }
+
+    private static Packet invoke(Tube tube, Packet request) throws Exception {
+        CompletableFuture<Packet> reply = new CompletableFuture<>();
+        Fiber fiber = new Engine("helidon-test").createFiber();
+        fiber.start(tube, request, new Fiber.CompletionCallback() {
+            @Override
+            public void onCompletion(Packet response) {
+                reply.complete(response);
+            }
+
+            @Override
+            public void onCompletion(Throwable error) {
+                reply.completeExceptionally(error);
+            }
+        });
+        return reply.get(10, TimeUnit.SECONDS);
+    }
+
+    private static String text(Packet reply) throws Exception {
+        XMLStreamReader reader = reply.getMessage().readPayload();
+        return reader.getElementText();
+    }
+}
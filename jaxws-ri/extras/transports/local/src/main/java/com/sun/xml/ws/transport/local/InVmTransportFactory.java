@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -22,6 +22,10 @@ import java.net.URI;
 /**
  * {@link TransportTubeFactory} that recognizes
  * "in-vm://<i>inVmServerId</i>[?<i>portLocalName</i>]".
+ *
+ * <p>
+ * The "in-vm-direct" scheme passes the messages to the endpoint
+ * without encoding them, see {@link LocalDirectTransportTube}.
  */
 public final class InVmTransportFactory extends TransportTubeFactory {
 
@@ -33,7 +37,8 @@ public final class InVmTransportFactory extends TransportTubeFactory {
     @Override
     public Tube doCreate(@NotNull ClientTubeAssemblerContext context) {
         URI adrs = context.getAddress().getURI();
-        if(!adrs.getScheme().equals("in-vm") && !adrs.getScheme().equals("in-vm-async"))
+        if(!adrs.getScheme().equals("in-vm") && !adrs.getScheme().equals("in-vm-async")
+                && !adrs.getScheme().equals("in-vm-direct"))
             return null;
 
         String serverId = adrs.getAuthority();
@@ -51,6 +56,8 @@ public final class InVmTransportFactory extends TransportTubeFactory {
         // maybe I should be passing in my custom adapter
         if(adrs.getScheme().equals("in-vm"))
             return new LocalTransportTube(adrs,endpoint,context.getCodec());
+        else if(adrs.getScheme().equals("in-vm-direct"))
+            return new LocalDirectTransportTube(adrs,endpoint);
         else
             return new LocalAsyncTransportTube(adrs,endpoint,context.getCodec());
     }
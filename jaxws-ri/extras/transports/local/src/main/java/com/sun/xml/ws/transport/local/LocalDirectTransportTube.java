@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.local;
+
+import com.sun.istack.NotNull;
+import com.sun.istack.Nullable;
+import com.sun.xml.stream.buffer.MutableXMLStreamBuffer;
+import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.addressing.AddressingVersion;
+import com.sun.xml.ws.api.addressing.NonAnonymousResponseProcessor;
+import com.sun.xml.ws.api.message.Attachment;
+import com.sun.xml.ws.api.message.Header;
+import com.sun.xml.ws.api.message.Message;
+import com.sun.xml.ws.api.message.MessageHeaders;
+import com.sun.xml.ws.api.message.Messages;
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.pipe.NextAction;
+import com.sun.xml.ws.api.pipe.Tube;
+import com.sun.xml.ws.api.pipe.TubeCloner;
+import com.sun.xml.ws.api.pipe.helper.AbstractTubeImpl;
+import com.sun.xml.ws.api.server.Adapter;
+import com.sun.xml.ws.api.server.WSEndpoint;
+import com.sun.xml.ws.fault.SOAPFaultBuilder;
+import com.sun.xml.ws.message.jaxb.JAXBMessage;
+import com.sun.xml.ws.message.stream.StreamMessage;
+import com.sun.xml.ws.transport.http.HttpAdapter;
+
+import jakarta.xml.ws.WebServiceException;
+import jakarta.xml.ws.handler.MessageContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Transport {@link Tube} that hands the request {@link Message} to a service
+ * that runs within it, and the response {@link Message} back, without
+ * encoding them.
+ *
+ * <p>
+ * Unlike {@link LocalTransportTube}, the codecs aren't run. The messages
+ * whose content is read through copies, like the JAXB and the stream based
+ * ones, are passed as they are. The others, like the SAAJ and DOM based ones
+ * whose content the application still holds, are passed as a snapshot of
+ * their infoset, so that neither side sees the changes of the other.
+ *
+ * @see LocalTransportTube
+ */
+final class LocalDirectTransportTube extends AbstractTubeImpl {
+
+    private static final Logger LOGGER = Logger.getLogger(LocalDirectTransportTube.class.getName());
+
+    /**
+     * Represents the service running inside the local transport.
+     */
+    private final DirectAdapter adapter;
+
+    /**
+     * The address of the endpoint deployed in this tube.
+     */
+    private final URI baseURI;
+
+    LocalDirectTransportTube(URI baseURI, WSEndpoint<?> endpoint) {
+        this(baseURI, new DirectAdapter(endpoint));
+    }
+
+    private LocalDirectTransportTube(URI baseURI, DirectAdapter adapter) {
+        this.adapter = adapter;
+        this.baseURI = baseURI;
+    }
+
+    /**
+     * Copy constructor for {@link Tube#copy(TubeCloner)}.
+     */
+    private LocalDirectTransportTube(LocalDirectTransportTube that, TubeCloner cloner) {
+        this(that.baseURI, that.adapter);
+        cloner.add(that, this);
+    }
+
+    @Override
+    public @NotNull NextAction processException(@NotNull Throwable t) {
+        return doThrow(t);
+    }
+
+    @Override
+    public Packet process(Packet request) {
+        Map<String, List<String>> reqHeaders = new HashMap<>();
+        @SuppressWarnings({"unchecked"})
+        Map<String, List<String>> rh = (Map<String, List<String>>) request.invocationProperties.get(MessageContext.HTTP_REQUEST_HEADERS);
+        if (rh != null) {
+            reqHeaders.putAll(rh);
+        }
+        LocalConnectionImpl con = new LocalConnectionImpl(baseURI, reqHeaders);
+
+        Packet response = adapter.invoke(transfer(request.getMessage()), request.soapAction, con);
+        // no message for one way
+        return request.createClientResponse(transfer(response.getMessage()));
+    }
+
+    @Override
+    @NotNull
+    public NextAction processRequest(@NotNull Packet request) {
+        return doReturnWith(process(request));
+    }
+
+    @Override
+    @NotNull
+    public NextAction processResponse(@NotNull Packet response) {
+        throw new IllegalStateException("LocalDirectTransportTube's processResponse shouldn't be called.");
+    }
+
+    @Override
+    public void preDestroy() {
+        // Nothing to do here. Intenionally left empty
+    }
+
+    @Override
+    public LocalDirectTransportTube copy(TubeCloner cloner) {
+        return new LocalDirectTransportTube(this, cloner);
+    }
+
+    /**
+     * Gets the message to give to the other side.
+     */
+    static @Nullable Message transfer(@Nullable Message message) {
+        if (message == null) {
+            return null;
+        }
+        if (!(message instanceof JAXBMessage) && !(message instanceof StreamMessage)) {
+            return snapshot(message);
+        }
+        // each side does its own mustUnderstand processing, as with fresh headers
+        if (message.hasHeaders()) {
+            MessageHeaders headers = message.getHeaders();
+            Set<QName> understood = headers.getUnderstoodHeaders();
+            if (understood != null && !understood.isEmpty()) {
+                List<Header> all = new ArrayList<>(headers.asList());
+                for (Header h : all) {
+                    headers.remove(h.getNamespaceURI(), h.getLocalPart());
+                }
+                for (Header h : all) {
+                    headers.add(h);
+                }
+            }
+        }
+        return message;
+    }
+
+    /*
+     * Copy of the infoset and the attachments of the message.
+     */
+    private static Message snapshot(Message message) {
+        MutableXMLStreamBuffer xsb = new MutableXMLStreamBuffer();
+        try {
+            XMLStreamWriter writer = xsb.createFromXMLStreamWriter();
+            message.writeTo(writer);
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new WebServiceException(e);
+        }
+        Message copy = Messages.create(xsb);
+        for (Attachment a : message.getAttachments()) {
+            copy.getAttachments().add(a);
+        }
+        return copy;
+    }
+
+    /**
+     * Runs the requests through the tubeline of the endpoint, as
+     * {@link HttpAdapter} does with the decoded requests.
+     */
+    static final class DirectAdapter extends Adapter<DirectAdapter.DirectToolkit> {
+
+        DirectAdapter(WSEndpoint<?> endpoint) {
+            super(endpoint);
+        }
+
+        @Override
+        protected DirectToolkit createToolkit() {
+            return new DirectToolkit();
+        }
+
+        Packet invoke(@Nullable Message message, @Nullable String soapAction, LocalConnectionImpl con) {
+            Packet packet = new Packet(message);
+            SOAPVersion soapVersion = endpoint.getBinding().getSOAPVersion();
+            if (soapAction != null) {
+                packet.soapAction = HttpAdapter.fixQuotesAroundSoapAction(soapAction);
+            } else if (soapVersion == SOAPVersion.SOAP_11) {
+                // what the SOAP 1.1 codec sends
+                packet.soapAction = "\"\"";
+            }
+            packet.wasTransportSecure = false;
+            packet.addSatellite(con);
+            packet.isAdapterDeliversNonAnonymousResponse = true;
+            packet.component = this;
+            packet.webServiceContextDelegate = con.getWebServiceContextDelegate();
+            packet.setState(Packet.State.ServerRequest);
+
+            DirectToolkit tk = getPool().take();
+            try {
+                // nothing to close early, the client waits for the endpoint anyway
+                packet = tk.head.process(packet, con.getWebServiceContextDelegate(), null);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, e.getMessage(), e);
+                throw new WebServiceException(e);
+            } finally {
+                getPool().recycle(tk);
+            }
+            return deliverNonAnonymousResponse(packet);
+        }
+
+        /*
+         * Sends the response addressed to a non-anonymous ReplyTo or FaultTo
+         * there, as HttpAdapter does before encoding the response.
+         */
+        private Packet deliverNonAnonymousResponse(Packet packet) {
+            if (packet.endpointAddress == null || packet.getMessage() == null) {
+                return packet;
+            }
+            String address = packet.endpointAddress.toString();
+            if (address.equals(AddressingVersion.W3C.anonymousUri)
+                    || address.equals(AddressingVersion.MEMBER.anonymousUri)) {
+                return packet;
+            }
+            try {
+                return NonAnonymousResponseProcessor.getDefault().process(packet);
+            } catch (RuntimeException re) {
+                SOAPVersion soapVersion = packet.getBinding().getSOAPVersion();
+                Message faultMsg = SOAPFaultBuilder.createSOAPFaultMessage(soapVersion, null, re);
+                return packet.createServerResponse(faultMsg, packet.endpoint.getPort(), null, packet.endpoint.getBinding());
+            }
+        }
+
+        final class DirectToolkit extends Adapter.Toolkit {
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.local;
+
+import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.message.Header;
+import com.sun.xml.ws.api.message.Message;
+import com.sun.xml.ws.api.message.Messages;
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.server.WSEndpoint;
+import com.sun.xml.ws.message.jaxb.JAXBMessage;
+import junit.framework.TestCase;
+
+import jakarta.jws.Oneway;
+import jakarta.jws.WebService;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.soap.MessageFactory;
+import jakarta.xml.soap.SOAPElement;
+import jakarta.xml.soap.SOAPMessage;
+import jakarta.xml.ws.Action;
+import jakarta.xml.ws.Provider;
+import jakarta.xml.ws.Service;
+import jakarta.xml.ws.ServiceMode;
+import jakarta.xml.ws.WebServiceProvider;
+import jakarta.xml.ws.soap.Addressing;
+import jakarta.xml.ws.soap.SOAPBinding;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class LocalDirectTransportTubeTest extends TestCase {
+
+    private static final String NS = "urn:local-direct";
+    private static final QName SERVICE = new QName(NS, "EchoService");
+    private static final QName PORT = new QName(NS, "EchoPort");
+    private static final QName INBOX_SERVICE = new QName(NS, "InboxService");
+    private static final QName INBOX_PORT = new QName(NS, "InboxPort");
+
+    private static final String ADDRESS = "in-vm-direct://local-direct/";
+    private static final String INBOX_ADDRESS = "in-vm-direct://local-direct-inbox/";
+
+    private WSEndpoint<EchoImpl> endpoint;
+    private InVmServer server;
+    private InVmServer inbox;
+
+    @Override
+    protected void setUp() throws Exception {
+        endpoint = WSEndpoint.create(EchoImpl.class, false, null, SERVICE, PORT, null, null, null, null, null, true);
+        server = new InVmServer("local-direct", Collections.<WSEndpoint<?>>singletonList(endpoint));
+        WSEndpoint<InboxProvider> inboxEndpoint = WSEndpoint.create(InboxProvider.class, false, null,
+                INBOX_SERVICE, INBOX_PORT, null, null, null, null, null, true);
+        inbox = new InVmServer("local-direct-inbox", Collections.<WSEndpoint<?>>singletonList(inboxEndpoint));
+        InboxProvider.RECEIVED.clear();
+        EchoImpl.pinged = null;
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        server.undeploy();
+        inbox.undeploy();
+    }
+
+    public void testJAXB() throws Exception {
+        assertEquals("hello", port().echo("hello"));
+
+        Message request = JAXBMessage.create(JAXBContext.newInstance(String.class),
+                new JAXBElement<>(new QName(NS, "value"), String.class, "hello"), SOAPVersion.SOAP_11);
+        // read through a copy, not encoded
+        assertSame(request, LocalDirectTransportTube.transfer(request));
+    }
+
+    public void testStream() throws Exception {
+        Message request = stream(envelope("", echo("hello")));
+        assertSame(request, LocalDirectTransportTube.transfer(request));
+
+        Packet response = tube().process(new Packet(request));
+        assertFalse(response.getMessage().isFault());
+        assertEquals("hello", returnValue(response.getMessage()));
+    }
+
+    public void testSnapshot() throws Exception {
+        SOAPMessage saaj = MessageFactory.newInstance().createMessage(null,
+                new ByteArrayInputStream(envelope("", echo("hello")).getBytes(StandardCharsets.UTF_8)));
+        saaj.addAttachmentPart(saaj.createAttachmentPart("data", "text/plain"));
+        Message message = Messages.create(saaj);
+
+        Message copy = LocalDirectTransportTube.transfer(message);
+        assertNotSame(message, copy);
+        // the changes of the application aren't seen by the other side
+        SOAPElement arg = (SOAPElement) saaj.getSOAPBody().getChildElements().next();
+        ((SOAPElement) arg.getChildElements().next()).setTextContent("changed");
+        XMLStreamReader payload = copy.readPayload();
+        assertEquals("echo", payload.getLocalName());
+        payload.nextTag();
+        assertEquals("hello", payload.getElementText());
+        assertFalse(copy.getAttachments().isEmpty());
+    }
+
+    public void testUnderstoodHeaders() throws Exception {
+        String header = "<h:token xmlns:h='urn:local-direct:headers' S:mustUnderstand='1'>t</h:token>";
+        Message request = stream(envelope(header, echo("hello")));
+        Header token = request.getHeaders().get("urn:local-direct:headers", "token", true);
+        assertNotNull(token);
+
+        assertSame(request, LocalDirectTransportTube.transfer(request));
+        Set<QName> understood = request.getHeaders().getUnderstoodHeaders();
+        assertTrue(understood == null || understood.isEmpty());
+        assertNotNull(request.getHeaders().get("urn:local-direct:headers", "token", false));
+
+        // understood by the client, not by the endpoint
+        request.getHeaders().understood(token);
+        Packet response = tube().process(new Packet(request));
+        assertTrue(response.getMessage().isFault());
+        QName code = response.getMessage().readAsSOAPMessage().getSOAPBody().getFault().getFaultCodeAsQName();
+        assertEquals("MustUnderstand", code.getLocalPart());
+    }
+
+    public void testOneWay() throws Exception {
+        port().ping("hello");
+        // the endpoint runs on the thread of the client
+        assertEquals("hello", EchoImpl.pinged);
+
+        Packet response = tube().process(new Packet(stream(envelope("", ping("again")))));
+        assertNull(response.getMessage());
+        assertEquals("again", EchoImpl.pinged);
+    }
+
+    public void testFault() throws Exception {
+        try {
+            port().fail("boom");
+            fail();
+        } catch (EchoFault e) {
+            assertEquals("boom", e.getMessage());
+        }
+
+        Packet response = tube().process(new Packet(stream(envelope("",
+                "<ns:fail xmlns:ns='" + NS + "'><arg0>boom</arg0></ns:fail>"))));
+        assertTrue(response.getMessage().isFault());
+    }
+
+    public void testNonAnonymousReplyTo() throws Exception {
+        String headers = "<wsa:To>" + ADDRESS + "</wsa:To>"
+                + "<wsa:Action>urn:echo</wsa:Action>"
+                + "<wsa:MessageID>uuid:5d3c0a1e-local-direct</wsa:MessageID>"
+                + "<wsa:ReplyTo><wsa:Address>" + INBOX_ADDRESS + "</wsa:Address></wsa:ReplyTo>";
+        Packet response = tube().process(new Packet(stream(envelope(headers, echo("hello")))));
+        // delivered to the inbox instead
+        assertNull(response.getMessage());
+        String received = InboxProvider.RECEIVED.poll(10, TimeUnit.SECONDS);
+        assertNotNull(received);
+        assertTrue(received, received.contains("echoResponse"));
+        assertTrue(received, received.contains("hello"));
+    }
+
+    private static Echo port() {
+        Service service = Service.create(SERVICE);
+        service.addPort(PORT, SOAPBinding.SOAP11HTTP_BINDING, ADDRESS);
+        return service.getPort(PORT, Echo.class);
+    }
+
+    private LocalDirectTransportTube tube() {
+        return new LocalDirectTransportTube(URI.create(ADDRESS), endpoint);
+    }
+
+    private static String envelope(String headers, String payload) {
+        return "<S:Envelope xmlns:S='http://schemas.xmlsoap.org/soap/envelope/'"
+                + " xmlns:wsa='http://www.w3.org/2005/08/addressing'>"
+                + "<S:Header>" + headers + "</S:Header>"
+                + "<S:Body>" + payload + "</S:Body></S:Envelope>";
+    }
+
+    private static String echo(String value) {
+        return "<ns:echo xmlns:ns='" + NS + "'><arg0>" + value + "</arg0></ns:echo>";
+    }
+
+    private static String ping(String value) {
+        return "<ns:ping xmlns:ns='" + NS + "'><arg0>" + value + "</arg0></ns:ping>";
+    }
+
+    private static Message stream(String envelope) throws Exception {
+        return Messages.create(XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(envelope)));
+    }
+
+    private static String returnValue(Message response) throws Exception {
+        XMLStreamReader payload = response.readPayload();
+        assertEquals("echoResponse", payload.getLocalName());
+        payload.nextTag();
+        return payload.getElementText();
+    }
+
+    @WebService(name = "Echo", targetNamespace = NS)
+    public interface Echo {
+
+        @Action(input = "urn:echo")
+        String echo(String value);
+
+        @Oneway
+        void ping(String value);
+
+        String fail(String message) throws EchoFault;
+    }
+
+    @WebService(name = "Echo", serviceName = "EchoService", portName = "EchoPort", targetNamespace = NS)
+    @Addressing
+    public static class EchoImpl {
+
+        static volatile String pinged;
+
+        public EchoImpl() {
+        }
+
+        @Action(input = "urn:echo")
+        public String echo(String value) {
+            return value;
+        }
+
+        @Oneway
+        public void ping(String value) {
+            pinged = value;
+        }
+
+        public String fail(String message) throws EchoFault {
+            throw new EchoFault(message);
+        }
+    }
+
+    public static class EchoFault extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        public EchoFault(String message) {
+            super(message);
+        }
+    }
+
+    @WebServiceProvider(serviceName = "InboxService", portName = "InboxPort", targetNamespace = NS)
+    @ServiceMode(Service.Mode.PAYLOAD)
+    public static class InboxProvider implements Provider<Source> {
+
+        static final BlockingQueue<String> RECEIVED = new LinkedBlockingQueue<>();
+
+        public InboxProvider() {
+        }
+
+        @Override
+        public Source invoke(Source request) {
+            try {
+                StringWriter sw = new StringWriter();
+                TransformerFactory.newInstance().newTransformer().transform(request, new StreamResult(sw));
+                RECEIVED.add(sw.toString());
+            } catch (Exception e) {
+                RECEIVED.add(e.toString());
+            }
+            return null;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -20,9 +20,12 @@ import com.sun.xml.ws.api.message.Header;
 import com.sun.xml.ws.api.message.Message;
 import com.sun.xml.ws.api.message.Packet;
 import com.sun.xml.ws.developer.JAXWSProperties;
+import com.sun.xml.ws.resources.AddressingMessages;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
+import jakarta.xml.ws.WebServiceException;
+import java.util.Iterator;
 
 
 /**
@@ -126,6 +129,63 @@ public class WsaPropertyBag extends BasePropertySet {
         return AddressingUtils.getMessageID(packet.getMessage().getHeaders(), addressingVersion,soapVersion);
     }
 
+    /**
+     * Reads the {@code wsa:ReplyTo}, {@code wsa:FaultTo} and {@code wsa:MessageID}
+     * headers of the request in one pass over its addressing headers, and keeps
+     * them as the ones {@link #getReplyToFromRequest() from the request}.
+     *
+     * <p>
+     * As with {@link AddressingUtils}, the first header of each name that is
+     * targeted at the implicit role is read, and a missing {@code wsa:ReplyTo}
+     * is the anonymous one. All the addressing headers are marked as understood,
+     * {@link WsaTube#checkCardinality(Packet)} checks them all.
+     *
+     * @throws WebServiceException
+     *      if {@code wsa:ReplyTo} or {@code wsa:FaultTo} can't be read.
+     */
+    void readRequestHeaders() {
+        Message message = packet.getMessage();
+        if (message == null) {
+            return;
+        }
+        Header replyTo = null;
+        Header faultTo = null;
+        Header msgId = null;
+        Iterator<Header> headers = message.getHeaders().getHeaders(addressingVersion.nsUri, true);
+        while (headers.hasNext()) {
+            Header h = headers.next();
+            String local = h.getLocalPart();
+            if (local.equals(addressingVersion.replyToTag.getLocalPart())) {
+                if (replyTo == null && isImplicitRole(h)) {
+                    replyTo = h;
+                }
+            } else if (local.equals(addressingVersion.faultToTag.getLocalPart())) {
+                if (faultTo == null && isImplicitRole(h)) {
+                    faultTo = h;
+                }
+            } else if (local.equals(addressingVersion.messageIDTag.getLocalPart())) {
+                if (msgId == null && isImplicitRole(h)) {
+                    msgId = h;
+                }
+            }
+        }
+        try {
+            _replyToFromRequest = (replyTo != null) ? replyTo.readAsEPR(addressingVersion) : addressingVersion.anonymousEpr;
+        } catch (XMLStreamException e) {
+            throw new WebServiceException(AddressingMessages.REPLY_TO_CANNOT_PARSE(), e);
+        }
+        try {
+            _faultToFromRequest = (faultTo != null) ? faultTo.readAsEPR(addressingVersion) : null;
+        } catch (XMLStreamException e) {
+            throw new WebServiceException(AddressingMessages.FAULT_TO_CANNOT_PARSE(), e);
+        }
+        _msgIdFromRequest = (msgId != null) ? msgId.getStringContent() : null;
+    }
+
+    private boolean isImplicitRole(Header h) {
+        return h.getRole(soapVersion).equals(soapVersion.implicitRole);
+    }
+
     private WSEndpointReference getEPR(QName tag) throws XMLStreamException {
         if (packet.getMessage() == null) {
           return null;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -86,7 +86,8 @@ public class WsaServerTube extends WsaTube {
         } // hmm?
 
         // expose bunch of addressing related properties for advanced applications 
-        request.addSatellite(new WsaPropertyBag(addressingVersion,soapVersion,request));
+        WsaPropertyBag wpb = new WsaPropertyBag(addressingVersion,soapVersion,request);
+        request.addSatellite(wpb);
 
         // Store request ReplyTo and FaultTo in requestPacket.invocationProperties
         // so that they can be used after responsePacket is received.
@@ -95,9 +96,10 @@ public class WsaServerTube extends WsaTube {
         MessageHeaders hl = request.getMessage().getHeaders();
         String msgId;
         try {
-            replyTo = AddressingUtils.getReplyTo(hl, addressingVersion, soapVersion);
-            faultTo = AddressingUtils.getFaultTo(hl, addressingVersion, soapVersion);
-            msgId = AddressingUtils.getMessageID(hl, addressingVersion, soapVersion);
+            wpb.readRequestHeaders();
+            replyTo = wpb.getReplyToFromRequest();
+            faultTo = wpb.getFaultToFromRequest();
+            msgId = wpb.getMessageIdFromRequest();
         } catch (InvalidAddressingHeaderException e) {
 
             LOGGER.log(Level.WARNING, addressingVersion.getInvalidMapText()+", Problem header:" + e.getProblemHeader()+ ", Reason: "+ e.getSubsubcode(),e);
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.api;
+
+import com.sun.istack.NotNull;
+import com.sun.xml.ws.util.ServiceFinder;
+
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Generates the unique identifiers used by the runtime for every message:
+ * MIME boundaries, attachment Content-IDs and WS-Addressing MessageIDs.
+ *
+ * <p>
+ * Identifiers have the form of a {@link UUID}, so that they can be used where
+ * a UUID was used before. The default generator doesn't go through a shared
+ * {@link SecureRandom} for each identifier: it creates unique, but predictable,
+ * identifiers. Deployments that need unpredictable identifiers can switch to
+ * {@link #strong()} with the {@code com.sun.xml.ws.api.IdGenerator.strong}
+ * system property.
+ *
+ * <p>
+ * IdGenerator uses a static field to keep the instance of the generator,
+ * which is, in order:
+ * <ol>
+ * <li>the one set with {@link #setInstance(IdGenerator)},
+ * <li>the first one found with {@link ServiceFinder},
+ * <li>{@link #strong()} if the system property is true, {@link #fast()} otherwise.
+ * </ol>
+ */
+public abstract class IdGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(IdGenerator.class.getName());
+
+    private static final IdGenerator FAST = new FastIdGenerator();
+
+    private static final IdGenerator STRONG = new IdGenerator() {
+        @Override
+        public String generate() {
+            return UUID.randomUUID().toString();
+        }
+    };
+
+    private static final IdGenerator DEFAULT = initDefault();
+
+    private static volatile IdGenerator theGenerator = DEFAULT;
+
+    /**
+     * Default constructor.
+     */
+    protected IdGenerator() {}
+
+    /**
+     * Generates a new identifier.
+     *
+     * @return identifier in the form of a {@link UUID}, unique within and across JVMs.
+     */
+    public abstract @NotNull String generate();
+
+    /**
+     * Sets the generator used by the runtime.
+     *
+     * @param generator the generator, or null to restore the default one
+     */
+    public static void setInstance(IdGenerator generator) {
+        if (generator == null) {
+            generator = DEFAULT;
+        }
+        theGenerator = generator;
+    }
+
+    /**
+     * @return the generator used by the runtime
+     */
+    public static @NotNull IdGenerator getInstance() {
+        return theGenerator;
+    }
+
+    /**
+     * Returns the generator of predictable identifiers, that doesn't block.
+     *
+     * @return fast generator
+     */
+    public static @NotNull IdGenerator fast() {
+        return FAST;
+    }
+
+    /**
+     * Returns the generator of unpredictable identifiers,
+     * same as {@link UUID#randomUUID()}.
+     *
+     * @return strong generator
+     */
+    public static @NotNull IdGenerator strong() {
+        return STRONG;
+    }
+
+    private static IdGenerator initDefault() {
+        Iterator<IdGenerator> it = ServiceFinder.find(IdGenerator.class).iterator();
+        if (it.hasNext()) {
+            return it.next();
+        }
+        String propName = IdGenerator.class.getName() + ".strong";
+        boolean strong = false;
+        try {
+            strong = Boolean.getBoolean(propName);
+        } catch (SecurityException se) {
+            LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults", propName);
+        }
+        return strong ? STRONG : FAST;
+    }
+
+    /**
+     * Version 4 UUIDs made of a random prefix and a counter.
+     *
+     * <p>
+     * The counters are spread over stripes selected by the calling thread,
+     * each stripe has its own random prefix, so there's no lock, and threads
+     * mostly don't share a counter.
+     */
+    private static final class FastIdGenerator extends IdGenerator {
+
+        // counters are 64 bytes apart, not to share a cache line
+        private static final int PAD = 8;
+
+        private final int mask;
+        private final long[] prefixes;
+        private final AtomicLongArray counters;
+
+        FastIdGenerator() {
+            int stripes = 1;
+            while (stripes < 2 * Runtime.getRuntime().availableProcessors() && stripes < 64) {
+                stripes <<= 1;
+            }
+            mask = stripes - 1;
+            prefixes = new long[stripes];
+            counters = new AtomicLongArray(stripes * PAD);
+            SecureRandom random = new SecureRandom();
+            for (int i = 0; i < stripes; i++) {
+                long prefix;
+                boolean unique;
+                do {
+                    // version 4
+                    prefix = random.nextLong() & ~0xF000L | 0x4000L;
+                    unique = true;
+                    for (int j = 0; j < i; j++) {
+                        unique &= prefixes[j] != prefix;
+                    }
+                } while (!unique);
+                prefixes[i] = prefix;
+                // not to start at 0 in every JVM
+                counters.set(i * PAD, random.nextLong() >>> 2);
+            }
+        }
+
+        @Override
+        public String generate() {
+            int stripe = (int) Thread.currentThread().getId() & mask;
+            long count = counters.getAndIncrement(stripe * PAD);
+            // IETF variant
+            return new UUID(prefixes[stripe], count & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L).toString();
+        }
+    }
+}
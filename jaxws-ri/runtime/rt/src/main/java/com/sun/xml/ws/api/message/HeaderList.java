@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -28,9 +28,11 @@ import javax.xml.namespace.QName;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
@@ -115,6 +117,24 @@ public class HeaderList extends ArrayList<Header> implements MessageHeaders {
 
     private SOAPVersion soapVersion;
 
+    /**
+     * Lists with fewer headers are searched without {@link #index}.
+     */
+    private static final int INDEX_THRESHOLD = 8;
+
+    /**
+     * Positions of the headers by name, built by the first lookup in a list
+     * of at least {@link #INDEX_THRESHOLD} headers and rebuilt by the first
+     * lookup after the list changes. Lazily allocated.
+     */
+    private transient Index index;
+
+    /**
+     * True once a {@link #subList(int, int) view} of this list is handed out,
+     * as headers set through the view aren't seen by this list.
+     */
+    private transient boolean noIndex;
+
     /**
      * Creates an empty {@link HeaderList} with the given soap version
      */
@@ -263,17 +283,14 @@ public class HeaderList extends ArrayList<Header> implements MessageHeaders {
      */
     @Override
     public @Nullable Header get(@NotNull String nsUri, @NotNull String localName, boolean markAsUnderstood) {
-        int len = size();
-        for (int i = 0; i < len; i++) {
-            Header h = get(i);
-            if (h.getLocalPart().equals(localName) && h.getNamespaceURI().equals(nsUri)) {
-                if (markAsUnderstood) {
-                    understood(i);
-                }
-                return h;
-            }
+        int i = indexOf(nsUri, localName, 0);
+        if (i < 0) {
+            return null;
+        }
+        if (markAsUnderstood) {
+            understood(i);
         }
-        return null;
+        return get(i);
     }
 
     /**
@@ -335,12 +352,12 @@ public class HeaderList extends ArrayList<Header> implements MessageHeaders {
             }
 
             private void fetch() {
-                while (idx < size()) {
-                    Header h = get(idx++);
-                    if (h.getLocalPart().equals(localName) && h.getNamespaceURI().equals(nsUri)) {
-                        next = h;
-                        break;
-                    }
+                int i = indexOf(nsUri, localName, idx);
+                if (i >= 0) {
+                    next = get(i);
+                    idx = i + 1;
+                } else {
+                    idx = size();
                 }
             }
 
@@ -409,12 +426,12 @@ public class HeaderList extends ArrayList<Header> implements MessageHeaders {
             }
 
             private void fetch() {
-                while (idx < size()) {
-                    Header h = get(idx++);
-                    if (h.getNamespaceURI().equals(nsUri)) {
-                        next = h;
-                        break;
-                    }
+                int i = indexOf(nsUri, null, idx);
+                if (i >= 0) {
+                    next = get(i);
+                    idx = i + 1;
+                } else {
+                    idx = size();
                 }
             }
 
@@ -590,14 +607,8 @@ public class HeaderList extends ArrayList<Header> implements MessageHeaders {
     @Nullable
     @Override
     Header remove(@NotNull String nsUri, @NotNull String localName) {
-        int len = size();
-        for (int i = 0; i < len; i++) {
-            Header h = get(i);
-            if (h.getLocalPart().equals(localName) && h.getNamespaceURI().equals(nsUri)) {
-                return remove(i);
-            }
-        }
-        return null;
+        int i = indexOf(nsUri, localName, 0);
+        return i >= 0 ? remove(i) : null;
     }
     
     /**
@@ -613,35 +624,27 @@ public class HeaderList extends ArrayList<Header> implements MessageHeaders {
      */
     @Override
     public boolean addOrReplace(Header header) {
-        for (int i=0; i < size(); i++) {
-          Header hdr = get(i);
-          if (hdr.getNamespaceURI().equals(header.getNamespaceURI()) &&
-              hdr.getLocalPart().equals(header.getLocalPart())) {
+        int i = indexOf(header.getNamespaceURI(), header.getLocalPart(), 0);
+        if (i >= 0) {
             // Put the new header in the old position. Call super versions
             // internally to avoid UnsupportedOperationException
             removeInternal(i);
             addInternal(i, header);
             return true;
-          }
         }
         return add(header);
     }
     
     @Override
     public void replace(Header old, Header header) {
-        for (int i=0; i < size(); i++) {
-            Header hdr = get(i);
-            if (hdr.getNamespaceURI().equals(header.getNamespaceURI()) &&
-                hdr.getLocalPart().equals(header.getLocalPart())) {
-              // Put the new header in the old position. Call super versions
-              // internally to avoid UnsupportedOperationException
-              removeInternal(i);
-              addInternal(i, header);
-              return;
-            }
-          }
-        
-          throw new IllegalArgumentException();
+        int i = indexOf(header.getNamespaceURI(), header.getLocalPart(), 0);
+        if (i < 0) {
+            throw new IllegalArgumentException();
+        }
+        // Put the new header in the old position. Call super versions
+        // internally to avoid UnsupportedOperationException
+        removeInternal(i);
+        addInternal(i, header);
     }
 
     protected void addInternal(int index, Header header) {
@@ -837,13 +840,8 @@ public class HeaderList extends ArrayList<Header> implements MessageHeaders {
     
     @Override
     public boolean isUnderstood(String nsUri, String localName) {
-        for (int i = 0; i < size(); i++) {
-            Header h = get(i);
-            if (h.getLocalPart().equals(localName) && h.getNamespaceURI().equals(nsUri)) {
-                return isUnderstood(i);
-            }
-        }
-        return false;
+        int i = indexOf(nsUri, localName, 0);
+        return i >= 0 && isUnderstood(i);
     }
     
     @Override
@@ -911,4 +909,110 @@ public class HeaderList extends ArrayList<Header> implements MessageHeaders {
     public List<Header> asList() {
         return this;
     }
+
+    @Override
+    public Header set(int index, Header header) {
+        // doesn't count as a modification of the list
+        this.index = null;
+        return super.set(index, header);
+    }
+
+    @Override
+    public List<Header> subList(int fromIndex, int toIndex) {
+        noIndex = true;
+        index = null;
+        return super.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Object clone() {
+        HeaderList that = (HeaderList) super.clone();
+        // the modification count of the clone starts over
+        that.index = null;
+        return that;
+    }
+
+    /**
+     * Gets the position of the first header of the specified name
+     * at or after {@code from}.
+     *
+     * @param localName
+     *      null to match any header in the namespace.
+     * @return -1 if not found.
+     */
+    private int indexOf(@NotNull String nsUri, @Nullable String localName, int from) {
+        int len = size();
+        Index idx = index();
+        if (idx != null) {
+            int[] positions = (localName != null) ? idx.byLocalName.get(localName) : idx.byNamespace.get(nsUri);
+            if (positions != null) {
+                for (int i : positions) {
+                    if (i >= from && matches(get(i), nsUri, localName)) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+        for (int i = from; i < len; i++) {
+            if (matches(get(i), nsUri, localName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(Header h, String nsUri, String localName) {
+        return (localName == null || h.getLocalPart().equals(localName)) && h.getNamespaceURI().equals(nsUri);
+    }
+
+    /**
+     * Gets the up to date index of the headers.
+     *
+     * @return null if the list is searched without index.
+     */
+    private Index index() {
+        int len = size();
+        if (len < INDEX_THRESHOLD || noIndex) {
+            return null;
+        }
+        Index idx = index;
+        if (idx == null || idx.modCount != modCount || idx.size != len) {
+            idx = new Index(this, modCount);
+            index = idx;
+        }
+        return idx;
+    }
+
+    /**
+     * Positions of the headers of a {@link HeaderList}, in ascending order,
+     * by local name and by namespace URI.
+     */
+    private static final class Index {
+        final int modCount;
+        final int size;
+        final Map<String, int[]> byLocalName = new HashMap<>();
+        final Map<String, int[]> byNamespace = new HashMap<>();
+
+        Index(HeaderList headers, int modCount) {
+            this.modCount = modCount;
+            this.size = headers.size();
+            for (int i = 0; i < size; i++) {
+                Header h = headers.get(i);
+                add(byLocalName, h.getLocalPart(), i);
+                add(byNamespace, h.getNamespaceURI(), i);
+            }
+        }
+
+        private static void add(Map<String, int[]> map, String key, int i) {
+            int[] positions = map.get(key);
+            if (positions == null) {
+                positions = new int[] {i};
+            } else {
+                positions = Arrays.copyOf(positions, positions.length + 1);
+                positions[positions.length - 1] = i;
+            }
+            map.put(key, positions);
+        }
+    }
 }
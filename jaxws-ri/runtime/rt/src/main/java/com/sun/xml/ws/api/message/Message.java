@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -13,6 +13,7 @@ package com.sun.xml.ws.api.message;
 import com.sun.istack.NotNull;
 import com.sun.istack.Nullable;
 import com.sun.xml.ws.api.BindingID;
+import com.sun.xml.ws.api.IdGenerator;
 import com.sun.xml.ws.api.SOAPVersion;
 import com.sun.xml.ws.api.WSBinding;
 import com.sun.xml.ws.api.addressing.AddressingVersion;
@@ -55,7 +56,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Represents a SOAP message.
@@ -741,7 +741,7 @@ public abstract class Message {
      *
      * <p>
      * This method will check the existence of the addressing {@code <MessageID>} header,
-     * and if present uses that value. Otherwise it generates one from UUID.random(),
+     * and if present uses that value. Otherwise it generates one with {@link IdGenerator},
      * and return it without adding a new header. But it doesn't add a {@code <MessageID>}
      * to the header list since we expect them to be added before calling this
      * method.
@@ -788,7 +788,7 @@ public abstract class Message {
      * @return generated UUID
      */
     public static String generateMessageID() {
-    	return "uuid:" + UUID.randomUUID();
+    	return "uuid:" + IdGenerator.getInstance().generate();
     }
 
     public SOAPVersion getSOAPVersion() {
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.api.monitoring;
+
+import org.glassfish.gmbal.Description;
+import org.glassfish.gmbal.ManagedAttribute;
+import org.glassfish.gmbal.ManagedData;
+
+/**
+ * Live load of the threads that run the requests of an endpoint.
+ *
+ * <p>
+ * An endpoint published by the runtime on its HTTP server exposes these
+ * statistics with {@link com.sun.xml.ws.api.server.WSEndpoint#getSPI(Class)}.
+ *
+ * @see com.sun.xml.ws.developer.HttpServerExecutorFeature
+ */
+@ManagedData
+@Description("Request executor statistics")
+public abstract class ExecutorStatistics {
+
+    /**
+     * Default constructor.
+     */
+    protected ExecutorStatistics() {
+    }
+
+    @ManagedAttribute
+    @Description("Number of requests being processed")
+    public abstract int getActiveCount();
+
+    @ManagedAttribute
+    @Description("Number of requests waiting for a thread")
+    public abstract int getQueueSize();
+
+    @ManagedAttribute
+    @Description("Maximum number of requests processed at once, 0 if unbounded")
+    public abstract int getMaxThreads();
+
+    @ManagedAttribute
+    @Description("Maximum number of requests waiting for a thread")
+    public abstract int getMaxQueueSize();
+
+    @ManagedAttribute
+    @Description("Number of requests rejected because the executor was saturated")
+    public abstract long getRejectedCount();
+
+    @ManagedAttribute
+    @Description("True if every request runs on its own virtual thread")
+    public abstract boolean isVirtualThreads();
+
+    @Override
+    public String toString() {
+        return "active=" + getActiveCount()
+                + ", queued=" + getQueueSize()
+                + ", maxThreads=" + getMaxThreads()
+                + ", maxQueueSize=" + getMaxQueueSize()
+                + ", rejected=" + getRejectedCount()
+                + ", virtualThreads=" + isVirtualThreads();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.api.monitoring;
+
+import com.sun.istack.NotNull;
+import com.sun.istack.Nullable;
+import com.sun.xml.ws.util.ServiceFinder;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Receives every invocation recorded by an {@link InvocationStatistics}.
+ *
+ * <p>
+ * This is the hook to bridge the runtime to a metrics library.
+ * Implementations are discovered with {@link ServiceFinder}, and can also be
+ * added to a single {@link InvocationStatistics}.
+ *
+ * <p>
+ * Listeners are called on the thread completing the invocation,
+ * so they must be thread-safe and must not block.
+ */
+public interface InvocationListener {
+
+    /**
+     * Called when an invocation completes.
+     *
+     * @param source
+     *      statistics of the endpoint or the port that made the invocation.
+     * @param operation
+     *      WSDL operation, null when it is not known.
+     * @param nanos
+     *      duration of the invocation in nanoseconds.
+     * @param failed
+     *      true if the invocation completed with a fault or an exception.
+     */
+    void invoked(@NotNull InvocationStatistics source, @Nullable QName operation, long nanos, boolean failed);
+}
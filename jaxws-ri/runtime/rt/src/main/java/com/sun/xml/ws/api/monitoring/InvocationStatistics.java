@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.api.monitoring;
+
+import com.sun.istack.NotNull;
+import com.sun.istack.Nullable;
+import com.sun.xml.ws.util.ServiceFinder;
+
+import javax.xml.namespace.QName;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Invocation statistics of a server endpoint or of a client port,
+ * per WSDL operation.
+ *
+ * <p>
+ * Invocations are recorded when they leave the tubeline, with
+ * {@link #record(QName, long, boolean)}. Recording doesn't lock, and every
+ * recorded invocation is passed to the {@link InvocationListener}s.
+ *
+ * <p>
+ * Recording is off unless the {@code com.sun.xml.ws.monitoring.statistics}
+ * system property is set to true: finding the WSDL operation of an
+ * invocation may run the operation dispatcher again, as for the
+ * {@code Provider} endpoints. The listeners are called only when recording.
+ *
+ * @see com.sun.xml.ws.api.server.WSEndpoint
+ * @see com.sun.xml.ws.client.Stub
+ */
+public final class InvocationStatistics {
+
+    private static final Logger LOGGER = Logger.getLogger(
+            com.sun.xml.ws.util.Constants.LoggingDomain + ".monitoring");
+
+    private static final boolean ENABLED;
+    // the total until the first invocation, never recorded
+    private static final OperationStatistics NONE = new OperationStatistics();
+    private static final InvocationListener[] GLOBAL_LISTENERS;
+
+    static {
+        boolean enabled = false;
+        try {
+            String s = System.getProperty("com.sun.xml.ws.monitoring.statistics");
+            enabled = s != null && (s.equalsIgnoreCase("true") || s.equalsIgnoreCase("on"));
+        } catch (SecurityException se) {
+            LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults.", "com.sun.xml.ws.monitoring.statistics");
+        }
+        ENABLED = enabled;
+        GLOBAL_LISTENERS = enabled
+                ? ServiceFinder.find(InvocationListener.class).toArray()
+                : new InvocationListener[0];
+    }
+
+    private final QName serviceName;
+    private final QName portName;
+    private final boolean client;
+    // allocated with the first invocation, as the operations
+    private volatile OperationStatistics total;
+    private final Map<QName, OperationStatistics> operations = new ConcurrentHashMap<>();
+    private final List<InvocationListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param serviceName service of the endpoint or of the port
+     * @param portName endpoint or port name
+     * @param client true for a client port
+     */
+    public InvocationStatistics(QName serviceName, QName portName, boolean client) {
+        this.serviceName = serviceName;
+        this.portName = portName;
+        this.client = client;
+    }
+
+    /**
+     * @return true if recording has been turned on
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Records a completed invocation.
+     *
+     * @param operation WSDL operation, null if it isn't known
+     * @param startNanos {@link System#nanoTime()} at the start of the invocation
+     * @param failed true if the invocation completed with a fault or an exception
+     */
+    public void record(@Nullable QName operation, long startNanos, boolean failed) {
+        if (!ENABLED) {
+            return;
+        }
+        long nanos = System.nanoTime() - startNanos;
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        total().record(micros, failed);
+        if (operation != null) {
+            OperationStatistics stats = operations.get(operation);
+            if (stats == null) {
+                stats = operations.computeIfAbsent(operation, k -> new OperationStatistics());
+            }
+            stats.record(micros, failed);
+        }
+        for (InvocationListener l : GLOBAL_LISTENERS) {
+            notify(l, operation, nanos, failed);
+        }
+        for (InvocationListener l : listeners) {
+            notify(l, operation, nanos, failed);
+        }
+    }
+
+    private void notify(InvocationListener l, QName operation, long nanos, boolean failed) {
+        try {
+            l.invoked(this, operation, nanos, failed);
+        } catch (RuntimeException e) {
+            // don't let a listener fail the invocation
+            LOGGER.log(Level.FINE, "Invocation listener failed", e);
+        }
+    }
+
+    /**
+     * Adds a listener receiving the invocations of this endpoint or port only.
+     */
+    public void addListener(@NotNull InvocationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(@NotNull InvocationListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return statistics of all the invocations, empty ones until the first
+     *      invocation is recorded
+     */
+    public @NotNull OperationStatistics getTotal() {
+        OperationStatistics t = total;
+        return t != null ? t : NONE;
+    }
+
+    private OperationStatistics total() {
+        OperationStatistics t = total;
+        if (t == null) {
+            synchronized (this) {
+                t = total;
+                if (t == null) {
+                    total = t = new OperationStatistics();
+                }
+            }
+        }
+        return t;
+    }
+
+    /**
+     * @return statistics of the operation, null if it was never invoked
+     */
+    public @Nullable OperationStatistics getOperation(QName operation) {
+        return operations.get(operation);
+    }
+
+    /**
+     * @return live view of the statistics of the invoked operations
+     */
+    public @NotNull Map<QName, OperationStatistics> getOperations() {
+        return Collections.unmodifiableMap(operations);
+    }
+
+    public QName getServiceName() {
+        return serviceName;
+    }
+
+    public QName getPortName() {
+        return portName;
+    }
+
+    /**
+     * @return true for a client port, false for a server endpoint
+     */
+    public boolean isClient() {
+        return client;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.api.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies, in microseconds.
+ *
+ * <p>
+ * Values are counted in log-linear buckets: every power of two is split in
+ * 8 buckets, so a percentile is off by at most 12.5% of its value. Values
+ * below 8 are exact, values above {@link #MAX_VALUE} are counted as
+ * {@link #MAX_VALUE}.
+ *
+ * <p>
+ * Counts are spread over stripes selected by the recording thread, so that
+ * threads recording the same latency don't contend on the same counter.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Highest value tracked, about 19 hours.
+     */
+    public static final long MAX_VALUE = (1L << 36) - 1;
+
+    private static final int BUCKETS = index(MAX_VALUE) + 1;
+    private static final int STRIPES;
+
+    static {
+        int stripes = 1;
+        while (stripes < Runtime.getRuntime().availableProcessors() && stripes < 8) {
+            stripes <<= 1;
+        }
+        STRIPES = stripes;
+    }
+
+    // stripe after stripe, BUCKETS counts each, allocated with the first value
+    private volatile AtomicLongArray counts;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param micros latency in microseconds, negative values are counted as 0
+     */
+    public void record(long micros) {
+        long v = micros < 0 ? 0 : Math.min(micros, MAX_VALUE);
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        counts().getAndIncrement(stripe * BUCKETS + index(v));
+        count.increment();
+        sum.add(v);
+        long m = max.get();
+        while (v > m && !max.compareAndSet(m, v)) {
+            m = max.get();
+        }
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return average of recorded values, 0 when there's none
+     */
+    public long getMean() {
+        long c = count.sum();
+        return c == 0 ? 0 : sum.sum() / c;
+    }
+
+    /**
+     * @return highest recorded value
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the value below which the given percentage of recorded values fall.
+     *
+     * @param percentile between 0 and 100
+     * @return upper bound of the bucket containing the percentile, never more
+     *         than {@link #getMax()}, 0 when there's no value
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        AtomicLongArray counts = this.counts;
+        if (counts == null) {
+            return 0;
+        }
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < STRIPES * BUCKETS; i++) {
+            long c = counts.get(i);
+            snapshot[i % BUCKETS] += c;
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private AtomicLongArray counts() {
+        AtomicLongArray c = counts;
+        if (c == null) {
+            synchronized (this) {
+                c = counts;
+                if (c == null) {
+                    counts = c = new AtomicLongArray(STRIPES * BUCKETS);
+                }
+            }
+        }
+        return c;
+    }
+
+    static int index(long v) {
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BUCKET_BITS;
+        int sub = (int) (v >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.api.monitoring;
+
+import org.glassfish.gmbal.Description;
+import org.glassfish.gmbal.ManagedAttribute;
+import org.glassfish.gmbal.ManagedData;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request and failure counts, and latency histogram, of the invocations
+ * of one operation, or of all the operations of an endpoint or a port.
+ *
+ * @see InvocationStatistics
+ */
+@ManagedData
+@Description("Invocation statistics")
+public final class OperationStatistics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    OperationStatistics() {
+    }
+
+    void record(long micros, boolean failed) {
+        requests.increment();
+        if (failed) {
+            failures.increment();
+        }
+        latency.record(micros);
+    }
+
+    @ManagedAttribute
+    @Description("Number of completed invocations")
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    @ManagedAttribute
+    @Description("Number of invocations that completed with a fault or an exception")
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    @ManagedAttribute
+    @Description("Average latency in microseconds")
+    public long getMeanLatency() {
+        return latency.getMean();
+    }
+
+    @ManagedAttribute
+    @Description("Median latency in microseconds")
+    public long getLatency50th() {
+        return latency.getValueAtPercentile(50);
+    }
+
+    @ManagedAttribute
+    @Description("90th percentile latency in microseconds")
+    public long getLatency90th() {
+        return latency.getValueAtPercentile(90);
+    }
+
+    @ManagedAttribute
+    @Description("99th percentile latency in microseconds")
+    public long getLatency99th() {
+        return latency.getValueAtPercentile(99);
+    }
+
+    @ManagedAttribute
+    @Description("Highest latency in microseconds")
+    public long getMaxLatency() {
+        return latency.getMax();
+    }
+
+    /**
+     * @return histogram of the latencies, in microseconds
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return "requests=" + getRequestCount()
+                + ", failures=" + getFailureCount()
+                + ", mean=" + getMeanLatency()
+                + ", p50=" + getLatency50th()
+                + ", p99=" + getLatency99th()
+                + ", max=" + getMaxLatency();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,9 +11,11 @@
 package com.sun.xml.ws.api.pipe;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
 
 import com.sun.xml.ws.api.message.Packet;
 import com.sun.xml.ws.api.server.Container;
@@ -23,11 +25,31 @@ import com.sun.xml.ws.api.server.ContainerResolver;
  * Collection of {@link Fiber}s.
  * Owns an {@link Executor} to run them.
  *
+ * <p>
+ * Unless an {@link Executor} is given, the engine lazily creates a cached
+ * pool of daemon threads. When the engine runs in virtual thread mode
+ * (see {@link #setVirtualThreads(boolean)} and {@link #VIRTUAL_THREADS_PROPERTY}),
+ * each {@link Fiber} run is given its own virtual thread instead, so that
+ * fibers blocked in transport I/O do not hold on to platform threads.
+ * Virtual thread mode silently falls back to the thread pool on JVMs
+ * without virtual thread support.
+ *
  * @author Kohsuke Kawaguchi
  * @author Jitendra Kotamraju
  */
 public class Engine {
+    /**
+     * System property to run all engines without an explicitly
+     * configured {@link Executor} in virtual thread mode.
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = Engine.class.getName() + ".virtualThreads";
+
+    private static final Logger LOGGER = Logger.getLogger(Engine.class.getName());
+
+    private static final boolean virtualThreadsDefault = Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY);
+
     private volatile Executor threadPool;
+    private volatile boolean virtualThreads = virtualThreadsDefault;
     public final String id;
     private final Container container;
 
@@ -57,13 +79,60 @@ public class Engine {
         this.threadPool = threadPool != null ? wrap(threadPool) : null;
     }
 
+    /**
+     * Enables or disables virtual thread mode.
+     *
+     * <p>
+     * The mode only affects the executor created by the engine itself,
+     * so it has to be set before the first {@link Fiber} is started and
+     * has no effect when an {@link Executor} was given to the engine.
+     *
+     * @param virtualThreads true to run fibers on virtual threads
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * @return true if this engine is configured to run fibers on virtual threads
+     * @see #setVirtualThreads(boolean)
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
     void addRunnable(Fiber fiber) {
-        if(threadPool==null) {
+        Executor ex = threadPool;
+        if(ex==null) {
             synchronized(this) {
-                threadPool = wrap(Executors.newCachedThreadPool(new DaemonThreadFactory()));
+                ex = threadPool;
+                if (ex == null) {
+                    threadPool = ex = wrap(createDefaultExecutor());
+                }
+            }
+        }
+        ex.execute(fiber);
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @return the executor, or null if virtual threads are not supported
+     *         by the running JVM
+     */
+    public static ExecutorService createVirtualThreadExecutor() {
+        return ThreadHelper.createVirtualThreadExecutor();
+    }
+
+    private Executor createDefaultExecutor() {
+        if (virtualThreads) {
+            Executor ex = ThreadHelper.createVirtualThreadExecutor();
+            if (ex != null) {
+                return ex;
             }
+            LOGGER.warning("Virtual threads are not supported by this JVM, engine " + id + " uses a thread pool instead");
         }
-        threadPool.execute(fiber);
+        return Executors.newCachedThreadPool(new DaemonThreadFactory());
     }
     
     private Executor wrap(Executor ex) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,8 +11,10 @@
 package com.sun.xml.ws.api.pipe;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -27,6 +29,9 @@ final class ThreadHelper {
 
     private static final ThreadFactory threadFactory;
 
+    // Executors.newVirtualThreadPerTaskExecutor(), null prior to Java SE 21
+    private static final Method virtualThreadExecutorFactory;
+
     // no instantiating wanted
     private ThreadHelper() {
     }
@@ -59,12 +64,44 @@ final class ThreadHelper {
                     }
                 }
         );
+
+        virtualThreadExecutorFactory = AccessController.doPrivileged(
+                new PrivilegedAction<>() {
+                    @Override
+                    public Method run() {
+                        try {
+                            return java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                        } catch (NoSuchMethodException ignored) {
+                            // virtual threads are available since Java SE 21
+                        }
+                        return null;
+                    }
+                }
+        );
     }
 
     static Thread createNewThread(final Runnable r) {
         return threadFactory.newThread(r);
     }
 
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @return the executor, or null if virtual threads are not supported
+     *         by the running JVM
+     */
+    static ExecutorService createVirtualThreadExecutor() {
+        if (virtualThreadExecutorFactory == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) virtualThreadExecutorFactory.invoke(null);
+        } catch (ReflectiveOperationException x) {
+            // e.g. virtual threads disabled as a preview feature
+            return null;
+        }
+    }
+
     // A Thread factory backed by the Thread constructor that
     // suppresses inheriting of inheritable thread-locals.
     private static class JDK9ThreadFactory implements ThreadFactory {
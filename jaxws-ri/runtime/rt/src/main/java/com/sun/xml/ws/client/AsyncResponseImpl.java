@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -12,22 +12,28 @@ package com.sun.xml.ws.client;
 
 import com.sun.istack.Nullable;
 import com.sun.xml.ws.api.Cancelable;
+import com.sun.xml.ws.developer.CompletableResponse;
 import com.sun.xml.ws.util.CompletedFuture;
 
 import jakarta.xml.ws.AsyncHandler;
 import jakarta.xml.ws.Response;
 import jakarta.xml.ws.WebServiceException;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 
 /**
  * {@link Response} implementation. When Runnbale is executed, it just hands the
  * request to Fiber and returns. When the Fiber finishes the execution, it sets
- * response in the {@link FutureTask}
+ * response in the {@link FutureTask}, and completes the {@link CompletionStage}
+ * if one was asked for.
  *
  * @author Jitendra Kotamraju
  */
-public final class AsyncResponseImpl<T> extends FutureTask<T> implements Response<T>, ResponseContextReceiver {
+public final class AsyncResponseImpl<T> extends FutureTask<T> implements CompletableResponse<T>, ResponseContextReceiver {
 
     /**
      * Optional {@link AsyncHandler} that gets invoked
@@ -37,6 +43,10 @@ public final class AsyncResponseImpl<T> extends FutureTask<T> implements Respons
     private ResponseContext responseContext;
     private final Runnable callable;
     private Cancelable cancelable;
+    /**
+     * Created on demand by {@link #toCompletionStage()}.
+     */
+    private volatile Stage stage;
 
     /**
      *
@@ -114,6 +124,33 @@ public final class AsyncResponseImpl<T> extends FutureTask<T> implements Respons
         }
     }
     
+    @Override
+    public CompletionStage<T> toCompletionStage() {
+        Stage s = stage;
+        if (s == null) {
+            synchronized (this) {
+                s = stage;
+                if (s == null) {
+                    stage = s = new Stage();
+                    // completed before the stage was there
+                    if (isDone()) {
+                        s.completeFromTask();
+                    }
+                }
+            }
+        }
+        return s;
+    }
+
+    @Override
+    protected void done() {
+        // called by the thread that completes the invocation
+        Stage s = stage;
+        if (s != null) {
+            s.completeFromTask();
+        }
+    }
+
     public void setCancelable(Cancelable cancelable) {
     	this.cancelable = cancelable;
     }
@@ -124,4 +161,31 @@ public final class AsyncResponseImpl<T> extends FutureTask<T> implements Respons
     		cancelable.cancel(mayInterruptIfRunning);
     	return super.cancel(mayInterruptIfRunning);
     }
+
+    /**
+     * {@link CompletableFuture} that takes the outcome of this {@link FutureTask}
+     * once it is done, and cancels it when it is cancelled.
+     */
+    private final class Stage extends CompletableFuture<T> {
+
+        void completeFromTask() {
+            try {
+                super.complete(AsyncResponseImpl.this.get());
+            } catch (ExecutionException e) {
+                super.completeExceptionally(e.getCause());
+            } catch (CancellationException e) {
+                super.cancel(false);
+            } catch (InterruptedException e) {
+                // can't happen, the task is done
+                Thread.currentThread().interrupt();
+                super.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            AsyncResponseImpl.this.cancel(mayInterruptIfRunning);
+            return super.cancel(mayInterruptIfRunning) || isCancelled();
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -20,9 +20,9 @@ import com.sun.xml.ws.api.pipe.helper.AbstractTubeImpl;
 import com.sun.xml.ws.api.server.SDDocument;
 import com.sun.xml.ws.util.MetadataUtil;
 import com.sun.xml.ws.util.pipe.AbstractSchemaValidationTube;
+import com.sun.xml.ws.util.pipe.SchemaCache;
 import org.xml.sax.SAXException;
 
-import javax.xml.transform.Source;
 import javax.xml.validation.Schema;
 import javax.xml.validation.Validator;
 import jakarta.xml.ws.WebServiceException;
@@ -39,7 +39,9 @@ public class ClientSchemaValidationTube extends AbstractSchemaValidationTube {
     private static final Logger LOGGER = Logger.getLogger(ClientSchemaValidationTube.class.getName());
 
     private final Schema schema;
-    private final Validator validator;
+    private final SchemaCache.ValidatorPool validators;
+    // created on demand, validation uses the shared validators
+    private Validator validator;
     private final boolean noValidation;
     private final WSDLPort port;
 
@@ -51,33 +53,32 @@ public class ClientSchemaValidationTube extends AbstractSchemaValidationTube {
             MetadataResolverImpl mdresolver = new MetadataResolverImpl();
             Map<String, SDDocument> docs = MetadataUtil.getMetadataClosure(primaryWsdl, mdresolver, true);
             mdresolver = new MetadataResolverImpl(docs.values());
-            Source[] sources = getSchemaSources(docs.values(), mdresolver);
-            for(Source source : sources) {
-                LOGGER.fine("Constructing client validation schema from = "+source.getSystemId());
-                //printDOM((DOMSource)source);
-            }
-            if (sources.length != 0) {
+            validators = compileSchema(docs.values(), mdresolver);
+            if (validators != null) {
                 noValidation = false;
-                sf.setResourceResolver(mdresolver);
-                try {
-                    schema = sf.newSchema(sources);
-                } catch(SAXException e) {
-                    throw new WebServiceException(e);
-                }
-                validator = schema.newValidator();
+                schema = validators.getSchema();
                 return;
             }
+        } else {
+            validators = null;
         }
         noValidation = true;
         schema = null;
-        validator = null;
     }
 
     @Override
     protected Validator getValidator() {
+        if (validator == null && schema != null) {
+            validator = schema.newValidator();
+        }
         return validator;
     }
 
+    @Override
+    protected SchemaCache.ValidatorPool getValidatorPool() {
+        return validators;
+    }
+
     @Override
     protected boolean isNoValidation() {
         return noValidation;
@@ -87,7 +88,7 @@ public class ClientSchemaValidationTube extends AbstractSchemaValidationTube {
         super(that,cloner);
         this.port = that.port;
         this.schema = that.schema;
-        this.validator = schema.newValidator();
+        this.validators = that.validators;
         this.noValidation = that.noValidation;
     }
 
@@ -115,7 +116,7 @@ public class ClientSchemaValidationTube extends AbstractSchemaValidationTube {
             return super.processResponse(response);
         }
         try {
-            doProcess(response);
+            doProcessStreaming(response);
         } catch(SAXException se) {
             throw new WebServiceException(se);
         }
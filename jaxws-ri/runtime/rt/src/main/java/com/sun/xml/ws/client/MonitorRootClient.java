@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,9 +11,11 @@
 package com.sun.xml.ws.client;
 
 import com.sun.xml.ws.api.model.wsdl.WSDLService;
+import com.sun.xml.ws.api.monitoring.OperationStatistics;
 import com.sun.xml.ws.api.server.Container;
 
 import java.util.Map;
+import java.util.TreeMap;
 
 import javax.xml.namespace.QName;
 
@@ -65,6 +67,26 @@ public final class MonitorRootClient extends com.sun.xml.ws.server.MonitorBase {
     @ManagedAttribute
     private WSDLService wsdlService() { return stub.owner.getWsdlService(); }
 
+    //
+    // Invocation statistics
+    //
+
+    @ManagedAttribute
+    @Description("Statistics of all the invocations")
+    private OperationStatistics invocationStatistics() {
+        return stub.getInvocationStatistics().getTotal();
+    }
+
+    @ManagedAttribute
+    @Description("Statistics of the invocations per WSDL operation")
+    private Map<String, OperationStatistics> operationStatistics() {
+        Map<String, OperationStatistics> result = new TreeMap<>();
+        for (Map.Entry<QName, OperationStatistics> e : stub.getInvocationStatistics().getOperations().entrySet()) {
+            result.put(e.getKey().toString(), e.getValue());
+        }
+        return result;
+    }
+
     
         
 }
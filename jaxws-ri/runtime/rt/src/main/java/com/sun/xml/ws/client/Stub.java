@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -28,10 +28,12 @@ import com.sun.xml.ws.api.addressing.WSEndpointReference;
 import com.sun.xml.ws.api.client.WSPortInfo;
 import com.sun.xml.ws.api.message.AddressingUtils;
 import com.sun.xml.ws.api.message.Header;
+import com.sun.xml.ws.api.message.Message;
 import com.sun.xml.ws.api.message.MessageHeaders;
 import com.sun.xml.ws.api.message.Packet;
 import com.sun.xml.ws.api.model.SEIModel;
 import com.sun.xml.ws.api.model.wsdl.WSDLPort;
+import com.sun.xml.ws.api.monitoring.InvocationStatistics;
 import com.sun.xml.ws.api.pipe.ClientTubeAssemblerContext;
 import com.sun.xml.ws.api.pipe.Engine;
 import com.sun.xml.ws.api.pipe.Fiber;
@@ -44,6 +46,7 @@ import com.sun.xml.ws.api.server.Container;
 import com.sun.xml.ws.api.server.ContainerResolver;
 import com.sun.xml.ws.binding.BindingImpl;
 import com.sun.xml.ws.developer.JAXWSProperties;
+import com.sun.xml.ws.developer.VirtualThreadsFeature;
 import com.sun.xml.ws.developer.WSBindingProvider;
 import com.sun.xml.ws.model.wsdl.WSDLDirectProperties;
 import com.sun.xml.ws.model.wsdl.WSDLPortProperties;
@@ -160,6 +163,7 @@ public abstract class Stub implements WSBindingProvider, ResponseContextReceiver
     @NotNull
     ManagedObjectManager managedObjectManager;
     private boolean managedObjectManagerClosed = false;
+    private final @NotNull InvocationStatistics invocationStatistics;
 
     private final Set<Component> components = new CopyOnWriteArraySet<>();
 
@@ -243,6 +247,7 @@ public abstract class Stub implements WSBindingProvider, ResponseContextReceiver
                 }
             }
             this.binding = binding;
+            this.invocationStatistics = new InvocationStatistics(owner.getServiceName(), this.portname, true);
     
             ComponentFeature cf = binding.getFeature(ComponentFeature.class);
             if (cf != null && Target.STUB.equals(cf.getTarget())) {
@@ -263,6 +268,10 @@ public abstract class Stub implements WSBindingProvider, ResponseContextReceiver
                 this.requestContext.setEndpointAddress(defaultEndPointAddress);
             }
             this.engine = new Engine(getStringId(), owner.getContainer(), owner.getExecutor());
+            VirtualThreadsFeature vtf = binding.getFeature(VirtualThreadsFeature.class);
+            if (vtf != null) {
+                this.engine.setVirtualThreads(vtf.isEnabled());
+            }
             this.endpointReference = epr;
             wsdlProperties = (wsdlPort == null) ? new WSDLDirectProperties(owner.getServiceName(), portname) : new WSDLPortProperties(wsdlPort);
             
@@ -427,9 +436,15 @@ public abstract class Stub implements WSBindingProvider, ResponseContextReceiver
         // then send it away!
         Tube tube = pool.take();
 
+        QName operation = getStatisticsOperation(packet);
+        long start = System.nanoTime();
+        boolean failed = true;
         try {
-            return fiber.runSync(tube, packet);
+            Packet response = fiber.runSync(tube, packet);
+            failed = isFault(response);
+            return response;
         } finally {
+            invocationStatistics.record(operation, start, failed);
             // this allows us to capture the packet even when the call failed with an exception.
             // when the call fails with an exception it's no longer a 'reply' but it may provide some information
             // about what went wrong.
@@ -521,10 +536,13 @@ public abstract class Stub implements WSBindingProvider, ResponseContextReceiver
         // then send it away!
         final Tube tube = pool.take();
 
+        final QName operation = getStatisticsOperation(request);
+        final long start = System.nanoTime();
         Fiber.CompletionCallback fiberCallback = new Fiber.CompletionCallback() {
             @Override
             public void onCompletion(@NotNull Packet response) {
                 pool.recycle(tube);
+                invocationStatistics.record(operation, start, isFault(response));
                 completionCallback.onCompletion(response);
             }
 
@@ -532,6 +550,7 @@ public abstract class Stub implements WSBindingProvider, ResponseContextReceiver
             public void onCompletion(@NotNull Throwable error) {
                 // let's not reuse tubes as they might be in a wrong state, so not
                 // calling pool.recycle()
+                invocationStatistics.record(operation, start, true);
                 completionCallback.onCompletion(error);
             }
         };
@@ -543,6 +562,30 @@ public abstract class Stub implements WSBindingProvider, ResponseContextReceiver
                         !requestContext.containsKey(PREVENT_SYNC_START_FOR_ASYNC_INVOKE));
     }
     
+    /**
+     * Gets the WSDL operation the invocation is recorded under in the
+     * {@link #getInvocationStatistics() statistics}, when it is known
+     * without looking into the request message.
+     *
+     * @return null if the invocation is only recorded in the total,
+     *         as done for the invocations of a {@link jakarta.xml.ws.Dispatch}
+     */
+    protected @Nullable QName getStatisticsOperation(Packet request) {
+        return null;
+    }
+
+    private static boolean isFault(Packet response) {
+        Message msg = response.getMessage();
+        return msg != null && msg.isFault();
+    }
+
+    /**
+     * Gets the request, failure and latency statistics of this port.
+     */
+    public final @NotNull InvocationStatistics getInvocationStatistics() {
+        return invocationStatistics;
+    }
+
     protected void configureFiber(Fiber fiber) {
         // no-op in the base class, but can be used by derived classes to configure the Fiber prior
         // to invocation
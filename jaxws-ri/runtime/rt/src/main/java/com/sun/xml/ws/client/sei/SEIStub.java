@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -21,6 +21,7 @@ import com.sun.xml.ws.api.message.Headers;
 import com.sun.xml.ws.api.message.Packet;
 import com.sun.xml.ws.api.model.MEP;
 import com.sun.xml.ws.api.model.wsdl.WSDLBoundOperation;
+import com.sun.xml.ws.api.monitoring.InvocationStatistics;
 import com.sun.xml.ws.api.pipe.Fiber;
 import com.sun.xml.ws.api.pipe.Tube;
 import com.sun.xml.ws.api.server.Container;
@@ -164,6 +165,14 @@ public final class SEIStub extends Stub implements InvocationHandler {
         super.processAsync(receiver, request, rc, callback);
     }
 
+    /**
+     * The operation of the invoked method, set on the request.
+     */
+    @Override
+    protected @Nullable QName getStatisticsOperation(Packet request) {
+        return InvocationStatistics.isEnabled() ? request.getWSDLOperation() : null;
+    }
+
     @Override
     protected @NotNull QName getPortName() {
         return wsdlPort.getName();
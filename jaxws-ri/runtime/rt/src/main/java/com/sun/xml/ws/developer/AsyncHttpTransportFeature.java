@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.developer;
+
+import com.sun.istack.Nullable;
+
+import jakarta.xml.ws.WebServiceFeature;
+import java.net.http.HttpClient;
+
+/**
+ * A proxy or dispatch created with this feature sends its requests using
+ * {@link HttpClient} instead of {@link java.net.HttpURLConnection}.
+ *
+ * <p>
+ * Requests are sent asynchronously and the invoking {@link com.sun.xml.ws.api.pipe.Fiber}
+ * is suspended until the response is received, so outstanding asynchronous
+ * invocations don't hold on to threads. Cookies, basic authentication,
+ * {@link HttpConfigFeature} and most of the {@link JAXWSProperties} are
+ * honoured. Requests that set {@link JAXWSProperties#HOSTNAME_VERIFIER},
+ * {@link JAXWSProperties#SSL_SOCKET_FACTORY} or
+ * {@link JAXWSProperties#REQUEST_AUTHENTICATOR} are sent using the
+ * blocking transport, as these cannot be applied per request; configure
+ * the {@link HttpClient} given to this feature instead.
+ *
+ * <p>
+ * The transport can also be enabled for all proxies with the
+ * {@code com.sun.xml.ws.transport.http.client.AsyncHttpTransportTubeFactory.enabled}
+ * system property.
+ *
+ * <p>
+ * <b>THIS feature IS EXPERIMENTAL AND IS SUBJECT TO CHANGE WITHOUT NOTICE IN FUTURE.</b>
+ */
+public final class AsyncHttpTransportFeature extends WebServiceFeature {
+    /**
+     * Constant value identifying the {@link AsyncHttpTransportFeature} feature.
+     */
+    public static final String ID = "http://jax-ws.java.net/features/async-http-transport";
+
+    private final HttpClient client;
+
+    public AsyncHttpTransportFeature() {
+        this(null);
+    }
+
+    /**
+     * @param client client used to send the requests, null to use a shared
+     *               client created by the runtime
+     */
+    public AsyncHttpTransportFeature(@Nullable HttpClient client) {
+        this.enabled = true;
+        this.client = client;
+    }
+
+    @Override
+    public String getID() {
+        return ID;
+    }
+
+    public @Nullable HttpClient getHttpClient() {
+        return client;
+    }
+}
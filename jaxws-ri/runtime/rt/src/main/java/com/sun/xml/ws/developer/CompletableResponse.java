@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.developer;
+
+import com.sun.istack.NotNull;
+
+import jakarta.xml.ws.AsyncHandler;
+import jakarta.xml.ws.Dispatch;
+import jakarta.xml.ws.Response;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+/**
+ * {@link Response} of an asynchronous invocation that can also be consumed
+ * as a {@link CompletionStage}.
+ *
+ * <p>
+ * The {@link Response} returned by the polling methods of a proxy and by
+ * {@link Dispatch#invokeAsync(Object)}, as well as the {@link Future} returned
+ * along with an {@link AsyncHandler}, implement this interface. The stage is
+ * completed by the thread that completes the invocation, so many concurrent
+ * invocations can be composed without blocking a thread on each of them.
+ *
+ * <p>
+ * for e.g.:
+ *
+ * <pre>
+ * CompletionStage&lt;EchoResponse&gt; stage = CompletableResponse.toStage(proxy.echoAsync(request));
+ * stage.thenAccept(r -&gt; ...);
+ * </pre>
+ *
+ * Dependent actions that don't use an executor run on the thread that
+ * completes the invocation, they must not block.
+ */
+public interface CompletableResponse<T> extends Response<T> {
+
+    /**
+     * Gets the stage completed with the outcome of the invocation: the response,
+     * or the exception that {@link #get()} would throw the cause of.
+     * Cancelling the stage cancels the invocation.
+     *
+     * @return the same stage for every call
+     */
+    @NotNull CompletionStage<T> toCompletionStage();
+
+    /**
+     * Gets the stage of a response returned by the JAX-WS RI.
+     *
+     * @throws IllegalArgumentException
+     *      if the response wasn't returned by the JAX-WS RI.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> CompletionStage<T> toStage(@NotNull Future<T> response) {
+        if (response instanceof CompletableResponse) {
+            return ((CompletableResponse<T>) response).toCompletionStage();
+        }
+        throw new IllegalArgumentException(response.getClass().getName() + " is not a " + CompletableResponse.class.getName());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,10 +10,14 @@
 
 package com.sun.xml.ws.developer;
 
+import com.sun.xml.ws.transport.http.client.ConcurrentCookieStore;
+
 import jakarta.xml.ws.WebServiceException;
 import jakarta.xml.ws.WebServiceFeature;
 import java.lang.reflect.Constructor;
 import java.net.CookieHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * A proxy's HTTP configuration (e.g cookie handling) can be configured using
@@ -21,6 +25,11 @@ import java.net.CookieHandler;
  * features.
  *
  * <p>
+ * The default cookie handler keeps the cookies in a {@link ConcurrentCookieStore},
+ * unless the {@code com.sun.xml.ws.developer.HttpConfigFeature.concurrentCookieStore}
+ * system property is {@code false}.
+ *
+ * <p>
  * <b>THIS feature IS EXPERIMENTAL AND IS SUBJECT TO CHANGE WITHOUT NOTICE IN FUTURE.</b>
  *
  * @author Jitendra Kotamraju
@@ -31,11 +40,18 @@ public final class HttpConfigFeature extends WebServiceFeature {
      */
     public static final String ID = "http://jax-ws.java.net/features/http-config";
 
+    private static final Logger LOGGER = Logger.getLogger(HttpConfigFeature.class.getName());
+
+    private static final String CONCURRENT_COOKIE_STORE_PROPERTY = HttpConfigFeature.class.getName() + ".concurrentCookieStore";
+
     private static final Constructor cookieManagerConstructor;
     private static final Object cookiePolicy;
+    // true when the cookie manager takes a java.net.CookieStore
+    private static final boolean concurrentCookieStore;
     static {
         Constructor tempConstructor;
         Object tempPolicy;
+        boolean tempConcurrent = false;
         try {
             /*
              * Using reflection to create CookieManger so that RI would continue to
@@ -47,6 +63,7 @@ public final class HttpConfigFeature extends WebServiceFeature {
             // JDK's default policy is ACCEPT_ORIGINAL_SERVER, but ACCEPT_ALL
             // is used for backward compatibility
             tempPolicy = policyClass.getField("ACCEPT_ALL").get(null);
+            tempConcurrent = true;
         } catch(Exception e) {
             try {
                 /*
@@ -65,6 +82,15 @@ public final class HttpConfigFeature extends WebServiceFeature {
         }
         cookieManagerConstructor = tempConstructor;
         cookiePolicy = tempPolicy;
+        try {
+            String value = System.getProperty(CONCURRENT_COOKIE_STORE_PROPERTY);
+            tempConcurrent &= value == null || Boolean.parseBoolean(value);
+        } catch (SecurityException se) {
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults.", CONCURRENT_COOKIE_STORE_PROPERTY);
+            }
+        }
+        concurrentCookieStore = tempConcurrent;
     }
 
     private final CookieHandler cookieJar;      // shared object among the tubes
@@ -80,7 +106,8 @@ public final class HttpConfigFeature extends WebServiceFeature {
 
     private static CookieHandler getInternalCookieHandler() {
         try {
-            return (CookieHandler)cookieManagerConstructor.newInstance(null, cookiePolicy);
+            return (CookieHandler)cookieManagerConstructor.newInstance(
+                    concurrentCookieStore ? new ConcurrentCookieStore() : null, cookiePolicy);
         } catch(Exception e) {
             throw new WebServiceException(e);
         }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.developer;
+
+import com.sun.xml.ws.api.FeatureConstructor;
+
+import jakarta.xml.ws.WebServiceFeature;
+
+/**
+ * {@link WebServiceFeature} that configures the threads of the HTTP server
+ * created by {@link jakarta.xml.ws.Endpoint#publish(String)}.
+ *
+ * <p>
+ * By default every request runs on a thread of an unbounded pool. With this
+ * feature, requests run either:
+ * <ul>
+ * <li>on a pool of at most {@code maxThreads} threads, where at most
+ *     {@code queueSize} more requests wait for a thread, or
+ * <li>on a virtual thread each, at most {@code maxThreads} at once when
+ *     {@code maxThreads} is positive.
+ * </ul>
+ * Requests beyond these limits are rejected with HTTP 503 (Service Unavailable).
+ *
+ * <p>
+ * The HTTP server is shared by the endpoints published on the same address
+ * and port, it is configured by the first one. When no endpoint has the
+ * feature, the server is configured by the {@link #MAX_THREADS_PROPERTY},
+ * {@link #QUEUE_SIZE_PROPERTY} and {@link #VIRTUAL_THREADS_PROPERTY} system
+ * properties. The feature has no effect when an {@link java.util.concurrent.Executor}
+ * has been set on the endpoint, nor on JVMs without virtual thread support
+ * for the virtual thread mode.
+ *
+ * @see com.sun.xml.ws.api.monitoring.ExecutorStatistics
+ */
+public class HttpServerExecutorFeature extends WebServiceFeature {
+    /**
+     * Constant value identifying this feature
+     */
+    public static final String ID = "http://jax-ws.java.net/features/httpServerExecutor";
+
+    /**
+     * System property with the default maximum number of threads, 0 or less for an unbounded pool.
+     */
+    public static final String MAX_THREADS_PROPERTY = HttpServerExecutorFeature.class.getName() + ".maxThreads";
+
+    /**
+     * System property with the default maximum number of queued requests.
+     */
+    public static final String QUEUE_SIZE_PROPERTY = HttpServerExecutorFeature.class.getName() + ".queueSize";
+
+    /**
+     * System property to run the requests on virtual threads by default.
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = HttpServerExecutorFeature.class.getName() + ".virtualThreads";
+
+    private final int maxThreads;
+    private final int queueSize;
+    private final boolean virtualThreads;
+
+    /**
+     * Runs each request on a virtual thread, without limit.
+     */
+    public HttpServerExecutorFeature() {
+        this(0, 0, true);
+    }
+
+    /**
+     * Runs the requests on a bounded pool of platform threads.
+     *
+     * @param maxThreads maximum number of threads
+     * @param queueSize maximum number of requests waiting for a thread
+     */
+    public HttpServerExecutorFeature(int maxThreads, int queueSize) {
+        this(maxThreads, queueSize, false);
+    }
+
+    /**
+     * @param maxThreads maximum number of requests processed at once, 0 or less for no limit
+     * @param queueSize maximum number of requests waiting for a thread, ignored for virtual threads
+     * @param virtualThreads true to run each request on its own virtual thread
+     */
+    @FeatureConstructor({"maxThreads", "queueSize", "virtualThreads"})
+    public HttpServerExecutorFeature(int maxThreads, int queueSize, boolean virtualThreads) {
+        this.enabled = true;
+        this.maxThreads = Math.max(0, maxThreads);
+        this.queueSize = Math.max(0, queueSize);
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public String getID() {
+        return ID;
+    }
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+}
@@ -64,6 +64,24 @@ public interface JAXWSProperties {
      */
     String HTTP_CLIENT_STREAMING_CHUNK_SIZE = "com.sun.xml.ws.transport.http.client.streaming.chunk.size";
 
+    /**
+     * Set this property on the {@link BindingProvider#getRequestContext()} to
+     * limit the memory used to encode a request whose size is not known upfront.
+     * At most this many bytes of the encoded request are kept in memory, the rest
+     * is written to a temporary file. The request is then sent using
+     * {@link HttpURLConnection#setFixedLengthStreamingMode(long)}, so that it is
+     * not buffered again by the connection.
+     *
+     *<p>
+     * int threshold = ...;
+     * Map&lt;String, Object&gt; ctxt = ((BindingProvider)proxy).getRequestContext();
+     * ctxt.put(HTTP_CLIENT_REQUEST_BUFFER_THRESHOLD, threshold);
+     *
+     * <p>
+     * The default can also be set using the system property of the same name.
+     */
+    String HTTP_CLIENT_REQUEST_BUFFER_THRESHOLD = "com.sun.xml.ws.transport.http.client.request.buffer.threshold";
+
 
     /**
      * Set this property on the {@link BindingProvider#getRequestContext()} to
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.developer;
+
+import com.sun.xml.ws.api.FeatureConstructor;
+import com.sun.xml.ws.api.pipe.Engine;
+
+import jakarta.xml.ws.WebServiceFeature;
+
+/**
+ * {@link WebServiceFeature} that runs the {@link com.sun.xml.ws.api.pipe.Fiber}s
+ * of a proxy, dispatch or endpoint on virtual threads.
+ *
+ * <p>
+ * The feature only applies when no {@link java.util.concurrent.Executor}
+ * has been set on the service. On JVMs without virtual thread support
+ * the regular thread pool is used.
+ *
+ * @see Engine#setVirtualThreads(boolean)
+ * @see Engine#VIRTUAL_THREADS_PROPERTY
+ */
+public class VirtualThreadsFeature extends WebServiceFeature {
+    /**
+     * Constant value identifying this feature
+     */
+    public static final String ID = "http://jax-ws.java.net/features/virtualThreads";
+
+    public VirtualThreadsFeature() {
+        this(true);
+    }
+
+    @FeatureConstructor({"enabled"})
+    public VirtualThreadsFeature(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public String getID() {
+        return ID;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.encoding;
+
+import com.sun.xml.ws.util.ByteArrayDataSource;
+import com.sun.xml.ws.util.Pool;
+
+import jakarta.activation.DataHandler;
+import jakarta.activation.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Writes attachment content to the output of a MIME message.
+ *
+ * <p>
+ * Content held in a byte array is written as is, and streamed content is
+ * copied through buffers shared by all the encoders, so that writing an
+ * attachment neither copies it nor allocates a buffer for it.
+ */
+final class AttachmentStreams {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Pool<byte[]> BUFFERS = new Pool<>() {
+        @Override
+        protected byte[] create() {
+            return new byte[BUFFER_SIZE];
+        }
+    };
+
+    private AttachmentStreams() {
+    }
+
+    /**
+     * Writes the content of the {@link DataHandler}, like {@link DataHandler#writeTo(OutputStream)}.
+     */
+    static void writeTo(DataHandler dh, OutputStream os) throws IOException {
+        DataSource ds = dh.getDataSource();
+        if (ds instanceof ByteArrayDataSource) {
+            ((ByteArrayDataSource) ds).writeTo(os);
+        } else if (dh instanceof DataSourceStreamingDataHandler || dh instanceof MIMEPartStreamingDataHandler) {
+            // backed by a DataSource, don't let DataHandler allocate the buffer
+            try (InputStream in = ds.getInputStream()) {
+                copy(in, os);
+            }
+        } else {
+            // content may be an object that only its DataContentHandler can write
+            dh.writeTo(os);
+        }
+    }
+
+    /**
+     * Copies the stream with a shared buffer, without closing the streams.
+     */
+    static void copy(InputStream in, OutputStream os) throws IOException {
+        byte[] buf = BUFFERS.take();
+        try {
+            int len;
+            while ((len = in.read(buf)) != -1) {
+                os.write(buf, 0, len);
+            }
+        } finally {
+            BUFFERS.recycle(buf);
+        }
+    }
+}
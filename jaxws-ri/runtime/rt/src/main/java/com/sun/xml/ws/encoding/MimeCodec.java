@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,6 +10,7 @@
 
 package com.sun.xml.ws.encoding;
 
+import com.sun.xml.ws.api.IdGenerator;
 import com.sun.xml.ws.api.SOAPVersion;
 import com.sun.xml.ws.api.WSFeatureList;
 import com.sun.xml.ws.api.message.Attachment;
@@ -25,7 +26,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.ReadableByteChannel;
 import java.util.Iterator;
-import java.util.UUID;
 
 /**
  * {@link Codec}s that uses the MIME multipart as the underlying format.
@@ -137,7 +137,7 @@ public abstract class MimeCodec implements Codec {
         Codec rootCodec = getMimeRootCodec(packet);
 
         if (hasAttachments) {
-            String boundary = "uuid:" + UUID.randomUUID();
+            String boundary = "uuid:" + IdGenerator.getInstance().generate();
             String boundaryParameter = "boundary=\"" + boundary + "\"";
             // TODO use primaryEncoder to get type
             String messageContentType =  MULTIPART_RELATED_MIME_TYPE + 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -204,13 +204,9 @@ public final class MimeMultipartParser {
             if (buf != null) {
                 os.write(buf);
             } else {
-                InputStream in = part.read();
-                byte[] temp = new byte[8192];
-                int len;
-                while((len=in.read(temp)) != -1) {
-                    os.write(temp, 0, len);
+                try (InputStream in = part.read()) {
+                    AttachmentStreams.copy(in, os);
                 }
-                in.close();
             }
         }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -12,6 +12,7 @@ package com.sun.xml.ws.encoding;
 
 import com.sun.istack.NotNull;
 import org.glassfish.jaxb.runtime.DatatypeConverterImpl;
+import com.sun.xml.ws.api.IdGenerator;
 import com.sun.xml.ws.api.SOAPVersion;
 import com.sun.xml.ws.api.WSFeatureList;
 import com.sun.xml.ws.api.message.Attachment;
@@ -56,7 +57,6 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Mtom message Codec. It can be used even for non-soap message's mtom encoding.
@@ -106,7 +106,7 @@ public class MtomCodec extends MimeCodec {
         	if (ct.getBoundary() != null && ct.getRootId() != null) 
         		return ct;
         }
-        String uuid = UUID.randomUUID().toString();
+        String uuid = IdGenerator.getInstance().generate();
         String boundary = "uuid:" + uuid;
         String rootId = "<rootpart*"+uuid+"@example.jaxws.sun.com>";
         String soapActionParameter = SOAPVersion.SOAP_11.equals(version) ?  null : createActionParameter(packet);
@@ -212,7 +212,7 @@ public class MtomCodec extends MimeCodec {
             //build attachment frame
             writeln("--"+boundary, os);
             writeMimeHeaders(dh.getContentType(), contentId, os);
-            dh.writeTo(os);
+            AttachmentStreams.writeTo(dh, os);
             writeln(os);
         }
     }
@@ -263,7 +263,7 @@ public class MtomCodec extends MimeCodec {
 
     private static String encodeCid(){
         String cid="example.jaxws.sun.com";
-        String name = UUID.randomUUID()+"@";
+        String name = IdGenerator.getInstance().generate()+"@";
         return name + cid;
     }
 
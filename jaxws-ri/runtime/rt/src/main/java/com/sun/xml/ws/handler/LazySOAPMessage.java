@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.handler;
+
+import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.message.Header;
+import com.sun.xml.ws.api.message.Message;
+import com.sun.xml.ws.api.message.MessageHeaders;
+import com.sun.xml.ws.api.message.saaj.SAAJFactory;
+import com.sun.xml.ws.api.message.saaj.SaajStaxWriter;
+import com.sun.xml.ws.message.saaj.SAAJHeader;
+import org.w3c.dom.Attr;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import javax.xml.namespace.QName;
+import jakarta.xml.soap.AttachmentPart;
+import jakarta.xml.soap.MimeHeaders;
+import jakarta.xml.soap.SOAPBody;
+import jakarta.xml.soap.SOAPElement;
+import jakarta.xml.soap.SOAPEnvelope;
+import jakarta.xml.soap.SOAPException;
+import jakarta.xml.soap.SOAPHeader;
+import jakarta.xml.soap.SOAPHeaderElement;
+import jakarta.xml.soap.SOAPMessage;
+import jakarta.xml.soap.SOAPPart;
+import jakarta.xml.ws.WebServiceException;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link SOAPMessage} of a {@link Message} that is built only as far as the
+ * handlers read it.
+ *
+ * <p>
+ * {@link #getSOAPHeader()} builds a SAAJ message with the headers of the
+ * message and an empty body, the payload stays in the {@link Message}. Any
+ * other access reads the whole message, and merges it into the SAAJ message
+ * the headers were given from, so the header elements already handed out
+ * stay part of the message.
+ *
+ * <p>
+ * Until then, the envelope reached from the header, with
+ * {@link SOAPHeader#getParentElement()}, has an empty body: a handler
+ * navigating from the header to the payload has to get the body with
+ * {@link #getSOAPBody()} or {@link #getSOAPPart()}, which fills the same
+ * envelope in.
+ *
+ * <p>
+ * When only the headers have been read, {@link #update()} puts the headers
+ * back into the {@link Message} instead of converting the whole SAAJ message,
+ * and only when they were changed: the header read first is kept aside and
+ * compared with the header of the SAAJ message.
+ */
+final class LazySOAPMessage extends SOAPMessage {
+
+    private final Message message;
+    private final SOAPVersion soapVersion;
+    // null until read
+    private SOAPMessage saaj;
+    // true once the payload is in saaj
+    private boolean complete;
+    // copy of the header as read, null until read
+    private Node readHeader;
+
+    LazySOAPMessage(Message message, SOAPVersion soapVersion) {
+        this.message = message;
+        this.soapVersion = soapVersion;
+    }
+
+    /**
+     * Gets the {@link Message} with the changes done through this message.
+     *
+     * @return the message to put in the packet, null when the message wasn't
+     *      read or only its headers were read and they weren't changed
+     */
+    Message update() {
+        if (saaj == null) {
+            return null;
+        }
+        if (complete) {
+            return SAAJFactory.create(saaj);
+        }
+        try {
+            SOAPHeader header = saaj.getSOAPHeader();
+            if (header != null && header.isEqualNode(readHeader)) {
+                // only looked at
+                return null;
+            }
+            updateHeaders(header);
+        } catch (SOAPException e) {
+            return SAAJFactory.create(full());
+        }
+        return message;
+    }
+
+    /**
+     * Gets the header without reading the payload. The body of its
+     * envelope stays empty until the whole message is read.
+     */
+    @Override
+    public SOAPHeader getSOAPHeader() throws SOAPException {
+        if (saaj == null) {
+            saaj = readHeaders();
+            readHeader = saaj.getSOAPHeader().cloneNode(true);
+        }
+        return saaj.getSOAPHeader();
+    }
+
+    @Override
+    public SOAPBody getSOAPBody() throws SOAPException {
+        return read().getSOAPBody();
+    }
+
+    @Override
+    public String getContentDescription() {
+        return full().getContentDescription();
+    }
+
+    @Override
+    public void setContentDescription(String description) {
+        full().setContentDescription(description);
+    }
+
+    @Override
+    public SOAPPart getSOAPPart() {
+        return full().getSOAPPart();
+    }
+
+    @Override
+    public void removeAllAttachments() {
+        full().removeAllAttachments();
+    }
+
+    @Override
+    public int countAttachments() {
+        return full().countAttachments();
+    }
+
+    @Override
+    public Iterator<AttachmentPart> getAttachments() {
+        return full().getAttachments();
+    }
+
+    @Override
+    public Iterator<AttachmentPart> getAttachments(MimeHeaders headers) {
+        return full().getAttachments(headers);
+    }
+
+    @Override
+    public void removeAttachments(MimeHeaders headers) {
+        full().removeAttachments(headers);
+    }
+
+    @Override
+    public AttachmentPart getAttachment(SOAPElement element) throws SOAPException {
+        return read().getAttachment(element);
+    }
+
+    @Override
+    public void addAttachmentPart(AttachmentPart attachmentPart) {
+        full().addAttachmentPart(attachmentPart);
+    }
+
+    @Override
+    public AttachmentPart createAttachmentPart() {
+        return full().createAttachmentPart();
+    }
+
+    @Override
+    public MimeHeaders getMimeHeaders() {
+        return full().getMimeHeaders();
+    }
+
+    @Override
+    public void saveChanges() throws SOAPException {
+        read().saveChanges();
+    }
+
+    @Override
+    public boolean saveRequired() {
+        return full().saveRequired();
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws SOAPException, IOException {
+        read().writeTo(out);
+    }
+
+    @Override
+    public void setProperty(String property, Object value) throws SOAPException {
+        read().setProperty(property, value);
+    }
+
+    @Override
+    public Object getProperty(String property) throws SOAPException {
+        return read().getProperty(property);
+    }
+
+    private SOAPMessage full() {
+        try {
+            return read();
+        } catch (SOAPException e) {
+            throw new WebServiceException(e);
+        }
+    }
+
+    /*
+     * Reads the whole message.
+     */
+    private SOAPMessage read() throws SOAPException {
+        if (!complete) {
+            if (saaj == null) {
+                saaj = message.readAsSOAPMessage();
+            } else {
+                merge(message.readAsSOAPMessage());
+            }
+            complete = true;
+        }
+        return saaj;
+    }
+
+    /*
+     * SAAJ message with the headers only.
+     */
+    private SOAPMessage readHeaders() throws SOAPException {
+        SOAPMessage msg = soapVersion.getMessageFactory().createMessage();
+        if (msg.getSOAPHeader() == null) {
+            msg.getSOAPPart().getEnvelope().addHeader();
+        }
+        SaajStaxWriter writer = new SaajStaxWriter(msg, soapVersion.nsUri);
+        try {
+            writer.writeStartElement(null, "Header", soapVersion.nsUri);
+            for (Header header : message.getHeaders().asList()) {
+                header.writeTo(writer);
+            }
+            writer.writeEndElement();
+            writer.writeEndDocument();
+        } catch (XMLStreamException e) {
+            throw (e.getCause() instanceof SOAPException) ? (SOAPException) e.getCause() : new SOAPException(e);
+        }
+        return msg;
+    }
+
+    /*
+     * Moves everything but the headers of the whole message into the message
+     * with the headers.
+     */
+    private void merge(SOAPMessage whole) throws SOAPException {
+        SOAPEnvelope envelope = saaj.getSOAPPart().getEnvelope();
+        copyAttributes(whole.getSOAPPart().getEnvelope(), envelope);
+
+        SOAPBody body = saaj.getSOAPBody();
+        SOAPBody wholeBody = whole.getSOAPBody();
+        copyAttributes(wholeBody, body);
+        body.removeContents();
+        for (Node n = wholeBody.getFirstChild(); n != null; n = n.getNextSibling()) {
+            body.appendChild(body.getOwnerDocument().importNode(n, true));
+        }
+
+        Iterator<AttachmentPart> attachments = whole.getAttachments();
+        while (attachments.hasNext()) {
+            saaj.addAttachmentPart(attachments.next());
+        }
+        if (saaj.saveRequired()) {
+            saaj.saveChanges();
+        }
+    }
+
+    private static void copyAttributes(SOAPElement from, SOAPElement to) {
+        NamedNodeMap atts = from.getAttributes();
+        for (int i = 0; i < atts.getLength(); i++) {
+            Attr att = (Attr) atts.item(i);
+            if (!to.hasAttributeNS(att.getNamespaceURI(), att.getLocalName())) {
+                to.setAttributeNS(att.getNamespaceURI(), att.getName(), att.getValue());
+            }
+        }
+    }
+
+    /*
+     * Replaces the headers of the message with the ones of the SAAJ message,
+     * keeping the understood marks.
+     */
+    private void updateHeaders(SOAPHeader header) {
+        List<Header> updated = new ArrayList<>();
+        if (header != null) {
+            Iterator<SOAPHeaderElement> it = header.examineAllHeaderElements();
+            while (it.hasNext()) {
+                updated.add(new SAAJHeader(it.next()));
+            }
+        }
+        MessageHeaders headers = message.getHeaders();
+        Set<QName> understood = headers.getUnderstoodHeaders();
+        for (Header h : new ArrayList<>(headers.asList())) {
+            headers.remove(h.getNamespaceURI(), h.getLocalPart());
+        }
+        for (Header h : updated) {
+            headers.add(h);
+            if (understood != null && understood.contains(new QName(h.getNamespaceURI(), h.getLocalPart()))) {
+                headers.understood(h);
+            }
+        }
+    }
+}
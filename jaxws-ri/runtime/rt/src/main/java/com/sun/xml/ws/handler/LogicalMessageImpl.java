@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -68,6 +68,8 @@ class LogicalMessageImpl implements LogicalMessage {
     @Override
     public Source getPayload() {
         if (lm == null) {
+            // a streaming message buffers its payload on the first copy only,
+            // the next copies and the message itself read that buffer
             Source payload = packet.getMessage().copy().readPayloadAsSource();
             if (payload instanceof DOMSource) {
                 lm = createLogicalMessageImpl(payload);
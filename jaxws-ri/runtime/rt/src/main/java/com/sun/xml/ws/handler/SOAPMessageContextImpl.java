@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -13,8 +13,12 @@ import com.sun.xml.ws.api.message.Header;
 import com.sun.xml.ws.api.message.Message;
 import com.sun.xml.ws.api.message.Packet;
 import com.sun.xml.ws.api.message.saaj.SAAJFactory;
+import com.sun.xml.ws.message.saaj.SAAJMessage;
 import com.sun.xml.ws.api.WSBinding;
 import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.Component;
+import com.sun.xml.ws.api.ComponentEx;
+import com.sun.xml.ws.api.server.ContainerResolver;
 
 import jakarta.xml.bind.JAXBContext;
 import javax.xml.namespace.QName;
@@ -24,28 +28,68 @@ import jakarta.xml.ws.WebServiceException;
 import jakarta.xml.ws.handler.soap.SOAPMessageContext;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Implementation of {@link SOAPMessageContext}. This class is used at runtime
  * to pass to the handlers for processing soap messages.
  *
+ * <p>
+ * The {@link SOAPMessage} given to the handlers is built as far as they read
+ * it, so that a handler looking only at the headers doesn't read the payload.
+ * The {@code com.sun.xml.ws.handler.SOAPMessageContextImpl.lazy} system
+ * property set to {@code false} reads the whole message instead.
+ *
  * @see MessageContextImpl
  *
  * @author WS Development Team
  */
 public class SOAPMessageContextImpl extends MessageUpdatableContext implements SOAPMessageContext {
 
+    private static final Logger LOGGER = Logger.getLogger(SOAPMessageContextImpl.class.getName());
+
+    private static final String LAZY_PROPERTY = SOAPMessageContextImpl.class.getName() + ".lazy";
+
+    private static final boolean LAZY;
+
+    // whether a SAAJFactory is registered with a context class loader, looked up once
+    private static final Map<ClassLoader, Boolean> SAAJ_FACTORIES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    static {
+        boolean lazy = true;
+        try {
+            String value = System.getProperty(LAZY_PROPERTY);
+            lazy = value == null || Boolean.parseBoolean(value);
+        } catch (SecurityException se) {
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults.", LAZY_PROPERTY);
+            }
+        }
+        LAZY = lazy;
+    }
+
     private Set<String> roles;
     private SOAPMessage soapMsg = null;
     private WSBinding binding;
+    private final boolean lazy;
 
     public SOAPMessageContextImpl(WSBinding binding, Packet packet,Set<String> roles) {
+        this(binding, packet, roles, LAZY);
+    }
+
+    SOAPMessageContextImpl(WSBinding binding, Packet packet, Set<String> roles, boolean lazy) {
         super(packet);
         this.binding = binding;
         this.roles = roles;
+        this.lazy = lazy;
     }
 
     @Override
@@ -53,7 +97,13 @@ public class SOAPMessageContextImpl extends MessageUpdatableContext implements S
         if(soapMsg == null) {
             try {
             	Message m = packet.getMessage();
-            	soapMsg = m != null ? m.readAsSOAPMessage() : null;
+            	if (m == null) {
+            	    soapMsg = null;
+            	} else if (isLazy(m)) {
+            	    soapMsg = new LazySOAPMessage(m, m.getSOAPVersion());
+            	} else {
+            	    soapMsg = m.readAsSOAPMessage();
+            	}
             } catch (SOAPException e) {
                 throw new WebServiceException(e);
             }
@@ -82,12 +132,47 @@ public class SOAPMessageContextImpl extends MessageUpdatableContext implements S
     protected void updateMessage() {
         //Check if SOAPMessage has changed, if so construct new one,
         // Packet are handled through MessageContext
-        if(soapMsg != null) {
+        if(soapMsg instanceof LazySOAPMessage) {
+            Message m = ((LazySOAPMessage) soapMsg).update();
+            if (m != null) {
+                packet.setMessage(m);
+            }
+            soapMsg = null;
+        } else if(soapMsg != null) {
             packet.setMessage(SAAJFactory.create(soapMsg));
             soapMsg = null;
         }
     }
 
+    /*
+     * A SAAJ message is already read, and a custom SAAJFactory may read
+     * messages its own way.
+     */
+    private boolean isLazy(Message m) {
+        return lazy && !(m instanceof SAAJMessage) && m.getSOAPVersion() != null
+                && !hasSAAJFactory(packet);
+    }
+
+    /*
+     * The factories SAAJFactory looks for: the one of the packet, the ones of
+     * its component or of the container, and the ones of the class loader.
+     */
+    private static boolean hasSAAJFactory(Packet packet) {
+        if (packet.getSAAJFactory() != null || provides(packet.component)
+                || provides(ContainerResolver.getInstance().getContainer())) {
+            return true;
+        }
+        return SAAJ_FACTORIES.computeIfAbsent(Thread.currentThread().getContextClassLoader(),
+                cl -> ServiceLoader.load(SAAJFactory.class, cl).iterator().hasNext());
+    }
+
+    private static boolean provides(Component component) {
+        if (component instanceof ComponentEx) {
+            return ((ComponentEx) component).getIterableSPI(SAAJFactory.class).iterator().hasNext();
+        }
+        return component != null && component.getSPI(SAAJFactory.class) != null;
+    }
+
     @Override
     public Object[] getHeaders(QName header, JAXBContext jaxbContext, boolean allRoles) {
         SOAPVersion soapVersion = binding.getSOAPVersion();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,6 +11,7 @@
 package com.sun.xml.ws.message.jaxb;
 
 import com.sun.istack.logging.Logger;
+import com.sun.xml.ws.api.IdGenerator;
 import com.sun.xml.ws.api.message.Attachment;
 import com.sun.xml.ws.api.message.AttachmentSet;
 import com.sun.xml.ws.message.DataHandlerAttachment;
@@ -24,7 +25,6 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.UUID;
 import java.util.logging.Level;
 
 /**
@@ -73,7 +73,7 @@ final class AttachmentMarshallerImpl extends AttachmentMarshaller {
 
     private String encodeCid(String ns) {
         String cid = "example.jaxws.sun.com";
-        String name = UUID.randomUUID() + "@";
+        String name = IdGenerator.getInstance().generate() + "@";
         if (ns != null && (ns.length() > 0)) {
             try {
                 URI uri = new URI(ns);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -95,6 +95,12 @@ public class StreamMessage extends AbstractMessageImpl implements StreamingSOAP
     private Throwable consumedAt;
 
     private XMLStreamReader envelopeReader;
+
+    /**
+     * Body buffered by {@link #copy()}, shared by the copies and read
+     * again by the next copies instead of buffering the body once more.
+     */
+    private @Nullable XMLStreamBuffer bodyBuffer;
     
     public StreamMessage(SOAPVersion v) {
         super(v);
@@ -496,6 +502,10 @@ public class StreamMessage extends AbstractMessageImpl implements StreamingSOAP
         try {
             assert unconsumed();
             consumedAt = null; // but we don't want to mark it as consumed
+            if (bodyBuffer != null) {
+                // the reader is at the start of the buffered body
+                return copyOf(bodyBuffer);
+            }
             MutableXMLStreamBuffer xsb = new MutableXMLStreamBuffer();
             StreamReaderBufferCreator c = new StreamReaderBufferCreator(xsb);
 
@@ -533,18 +543,24 @@ public class StreamMessage extends AbstractMessageImpl implements StreamingSOAP
             XMLStreamReaderFactory.recycle(reader);
 
             reader = xsb.readAsXMLStreamReader();
-            XMLStreamReader clone = xsb.readAsXMLStreamReader();
-
             // advance to the start tag of the <Body> first child element
             proceedToRootElement(reader);
-            proceedToRootElement(clone);
+            bodyBuffer = xsb;
 
-            return new StreamMessage(envelopeTag, headerTag, attachmentSet, HeaderList.copy(headers), bodyPrologue, bodyTag, bodyEpilogue, clone, soapVersion).copyFrom(this);
+            return copyOf(xsb);
         } catch (XMLStreamException e) {
             throw new WebServiceException("Failed to copy a message",e);
         }
     }
 
+    private Message copyOf(XMLStreamBuffer xsb) throws XMLStreamException {
+        XMLStreamReader clone = xsb.readAsXMLStreamReader();
+        proceedToRootElement(clone);
+        StreamMessage copy = new StreamMessage(envelopeTag, headerTag, attachmentSet, HeaderList.copy(headers), bodyPrologue, bodyTag, bodyEpilogue, clone, soapVersion);
+        copy.bodyBuffer = xsb;
+        return copy.copyFrom(this);
+    }
+
     private void proceedToRootElement(XMLStreamReader xsr) throws XMLStreamException {
         assert xsr.getEventType()== XMLStreamConstants.START_DOCUMENT;
         xsr.nextTag();
@@ -747,10 +763,9 @@ public class StreamMessage extends AbstractMessageImpl implements StreamingSOAP
     }
 
     private static MutableXMLStreamBuffer createXMLStreamBuffer() {
-        // TODO: Decode should own one MutableXMLStreamBuffer for reuse
-        // since it is more efficient. ISSUE: possible issue with
-        // lifetime of information in the buffer if accessed beyond
-        // the pipe line.
+        // The buffer can't be owned by the decoder and reused: the headers keep
+        // a mark into it, and they outlive the message when they are copied
+        // into other messages or kept by WS-RM and WS-SC.
         return new MutableXMLStreamBuffer();
     }
     
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -652,16 +652,34 @@ public class EndpointFactory {
 
         // Generate WSDL and schema documents using runtime model
         WSDLGenResolver wsdlResolver = new WSDLGenResolver(docs,seiModel.getServiceQName(),seiModel.getPortTypeName());
+        WSDLGeneratorExtension[] extensions = ServiceFinder.find(WSDLGeneratorExtension.class).toArray();
+
+        // documents generated by an earlier start, unless some are packaged
+        GeneratedWSDLCache cache = docs.isEmpty() ? GeneratedWSDLCache.getInstance() : null;
+        String key = cache != null ? GeneratedWSDLCache.key(seiModel, binding, implType, container, extensions) : null;
+        if (key != null) {
+            List<SDDocumentSource> cached = cache.get(key);
+            if (cached != null) {
+                return wsdlResolver.updateDocs(cached);
+            }
+        }
+
         WSDLGenInfo wsdlGenInfo = new WSDLGenInfo(); 
         wsdlGenInfo.setWsdlResolver(wsdlResolver);
         wsdlGenInfo.setContainer(container);
-        wsdlGenInfo.setExtensions(ServiceFinder.find(WSDLGeneratorExtension.class).toArray());
+        wsdlGenInfo.setExtensions(extensions);
         wsdlGenInfo.setInlineSchemas(false);
         wsdlGenInfo.setSecureXmlProcessingDisabled(isSecureXmlProcessingDisabled(binding.getFeatures()));
         seiModel.getDatabinding().generateWSDL(wsdlGenInfo);
 //        WSDLGenerator wsdlGen = new WSDLGenerator(seiModel, wsdlResolver, binding, container, implType, false,
 //                ServiceFinder.find(WSDLGeneratorExtension.class).toArray());
 //        wsdlGen.doGeneration();
+        if (key != null) {
+            List<SDDocumentSource> generated = wsdlResolver.getGeneratedDocs();
+            if (generated != null) {
+                cache.put(key, generated);
+            }
+        }
         return wsdlResolver.updateDocs();
     }
 
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.server;
+
+import com.sun.istack.NotNull;
+import com.sun.istack.Nullable;
+import com.sun.xml.stream.buffer.MutableXMLStreamBuffer;
+import com.sun.xml.ws.api.WSBinding;
+import com.sun.xml.ws.api.server.Container;
+import com.sun.xml.ws.api.server.SDDocumentSource;
+import com.sun.xml.ws.api.streaming.XMLStreamReaderFactory;
+import com.sun.xml.ws.api.streaming.XMLStreamWriterFactory;
+import com.sun.xml.ws.model.AbstractSEIModelImpl;
+import com.sun.xml.ws.util.RuntimeVersion;
+import org.jvnet.staxex.util.XMLStreamReaderToXMLStreamWriter;
+
+import jakarta.xml.ws.WebServiceFeature;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The WSDL and schema documents generated for the endpoints without a
+ * packaged WSDL, kept in a directory so that an endpoint started again
+ * with the same classes doesn't generate them again.
+ *
+ * <p>
+ * The cache is used when the {@code com.sun.xml.ws.server.GeneratedWSDLCache.dir}
+ * system property names a directory. The documents of an endpoint are kept
+ * under a digest of the bytecode of the implementation class, of the SEI and
+ * of the classes that their fields, methods and annotations use, transitively,
+ * whichever loader defines them, with the {@code package-info} and the
+ * {@code ObjectFactory} of their packages, together with the names, the
+ * binding, the features, the {@code WSDLGeneratorExtension}s, the container
+ * and the runtime version. A changed class, also one shared by several
+ * applications, gets its documents generated again, and the documents kept
+ * for the former classes of the endpoint are then deleted. The classes of
+ * the JDK and of the Jakarta APIs aren't part of the digest, nor is the
+ * configuration that the extensions or the container read from elsewhere,
+ * so the directory has to be cleared when they change.
+ */
+final class GeneratedWSDLCache {
+
+    private static final Logger LOGGER = Logger.getLogger(GeneratedWSDLCache.class.getName());
+
+    /**
+     * System property with the directory of the cache, the cache isn't used if not set.
+     */
+    static final String DIR_PROPERTY = GeneratedWSDLCache.class.getName() + ".dir";
+
+    // system ids of the documents of an entry, the concrete WSDL first
+    private static final String INDEX = "documents";
+
+    private static final String[] PLATFORM_PACKAGES = {"java.", "javax.", "jdk.", "sun.", "jakarta."};
+
+    private static final GeneratedWSDLCache INSTANCE;
+
+    static {
+        String dir = null;
+        try {
+            dir = System.getProperty(DIR_PROPERTY);
+        } catch (SecurityException se) {
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults.", DIR_PROPERTY);
+            }
+        }
+        INSTANCE = dir != null && !dir.isEmpty() ? new GeneratedWSDLCache(Paths.get(dir)) : null;
+    }
+
+    private final Path dir;
+
+    GeneratedWSDLCache(@NotNull Path dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Gets the cache set with the system property.
+     *
+     * @return null if the cache isn't used.
+     */
+    static @Nullable GeneratedWSDLCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the documents kept under the key.
+     *
+     * @return the documents, the concrete WSDL first,
+     *      or null if they aren't kept or can't be read.
+     */
+    @Nullable List<SDDocumentSource> get(@NotNull String key) {
+        Path entry = dir.resolve(key);
+        Path index = entry.resolve(INDEX);
+        if (!Files.isRegularFile(index)) {
+            return null;
+        }
+        try {
+            List<String> systemIds = Files.readAllLines(index, StandardCharsets.UTF_8);
+            List<SDDocumentSource> docs = new ArrayList<>(systemIds.size());
+            for (int i = 0; i < systemIds.size(); i++) {
+                docs.add(read(entry.resolve(i + ".xml"), systemIds.get(i)));
+            }
+            return docs.isEmpty() ? null : docs;
+        } catch (IOException | XMLStreamException e) {
+            LOGGER.log(Level.WARNING, "Cannot read the documents in " + entry + ", generating them", e);
+            return null;
+        }
+    }
+
+    /**
+     * Keeps the documents under the key. Failures are logged, as the
+     * documents are generated again on the next start.
+     *
+     * @param docs the documents, the concrete WSDL first.
+     */
+    void put(@NotNull String key, @NotNull List<SDDocumentSource> docs) {
+        Path entry = dir.resolve(key);
+        if (Files.isRegularFile(entry.resolve(INDEX))) {
+            return;
+        }
+        Path tmp = null;
+        try {
+            Files.createDirectories(dir);
+            // written aside then renamed, other endpoints may be reading or writing it
+            tmp = Files.createTempDirectory(dir, key + '.');
+            List<String> systemIds = new ArrayList<>(docs.size());
+            for (int i = 0; i < docs.size(); i++) {
+                SDDocumentSource doc = docs.get(i);
+                systemIds.add(doc.getSystemId().toExternalForm());
+                try (OutputStream os = Files.newOutputStream(tmp.resolve(i + ".xml"))) {
+                    write(doc, os);
+                }
+            }
+            Files.write(tmp.resolve(INDEX), systemIds, StandardCharsets.UTF_8);
+            try {
+                Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, entry);
+            }
+            tmp = null;
+            evict(key);
+        } catch (IOException | XMLStreamException e) {
+            // also when another endpoint has just kept them
+            LOGGER.log(Level.FINE, "Cannot keep the documents in " + entry, e);
+        } finally {
+            if (tmp != null) {
+                delete(tmp);
+            }
+        }
+    }
+
+    /*
+     * Deletes the entries kept for the same endpoint under other keys,
+     * which are those of its former classes.
+     */
+    private void evict(String key) {
+        String endpoint = key.substring(0, key.indexOf('-') + 1);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir, endpoint + "*")) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                // not the directories being written, named after their key
+                if (name.length() == key.length() && !name.equals(key)) {
+                    delete(entry);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Cannot delete the former documents of " + key, e);
+        }
+    }
+
+    /**
+     * Computes the key of the documents generated for the endpoint: a digest
+     * of the endpoint names, then a digest of everything the documents are
+     * generated from.
+     *
+     * @return null if the classes can't be read, then the documents aren't cached.
+     */
+    static @Nullable String key(@NotNull AbstractSEIModelImpl seiModel, @NotNull WSBinding binding,
+                                @NotNull Class<?> implType, @Nullable Container container,
+                                @NotNull Object[] extensions) {
+        MessageDigest md = newDigest();
+        update(md, implType.getName());
+        update(md, String.valueOf(seiModel.getServiceQName()));
+        update(md, String.valueOf(seiModel.getPortName()));
+        String endpoint = toHex(md.digest()).substring(0, 16);
+
+        update(md, RuntimeVersion.VERSION.toString());
+        update(md, binding.getBindingId().toString());
+        update(md, container != null ? container.getClass().getName() : "");
+        List<String> features = new ArrayList<>();
+        for (WebServiceFeature f : binding.getFeatures()) {
+            features.add(describe(f));
+        }
+        Collections.sort(features);
+        for (String f : features) {
+            update(md, f);
+        }
+        for (Object e : extensions) {
+            update(md, e.getClass().getName());
+        }
+        try {
+            for (Class<?> c : classes(implType, seiModel.getContractClass())) {
+                byte[] bytecode = bytecode(c);
+                if (bytecode == null) {
+                    return null;
+                }
+                update(md, c.getName());
+                md.update(bytecode);
+            }
+        } catch (IOException | LinkageError | SecurityException | TypeNotPresentException e) {
+            LOGGER.log(Level.FINE, "Cannot read the classes of " + implType.getName() + ", not caching its documents", e);
+            return null;
+        }
+        return endpoint + '-' + toHex(md.digest());
+    }
+
+    /*
+     * The classes reachable from the implementation class and the SEI, in a
+     * stable order, also those of parent or shared loaders, as the documents
+     * describe their JAXB types too. The package-info and the ObjectFactory of
+     * their packages are included, they hold the namespaces, the element form
+     * and the registered elements.
+     */
+    static Set<Class<?>> classes(Class<?> implType, Class<?> sei) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        Set<Map.Entry<ClassLoader, String>> packages = new HashSet<>();
+        Deque<Class<?>> todo = new ArrayDeque<>();
+        todo.add(implType);
+        if (sei != null) {
+            todo.add(sei);
+        }
+        while (!todo.isEmpty()) {
+            Class<?> c = todo.poll();
+            while (c.isArray()) {
+                c = c.getComponentType();
+            }
+            if (c.isPrimitive() || isPlatform(c) || !classes.add(c)) {
+                continue;
+            }
+            String pkg = c.getPackageName();
+            if (packages.add(new AbstractMap.SimpleImmutableEntry<>(c.getClassLoader(), pkg))) {
+                addPackageClass(c, pkg, "package-info", todo);
+                addPackageClass(c, pkg, "ObjectFactory", todo);
+            }
+            List<Type> types = new ArrayList<>();
+            types.add(c.getGenericSuperclass());
+            Collections.addAll(types, c.getGenericInterfaces());
+            // @XmlSeeAlso, @XmlJavaTypeAdapter, @XmlElements, @XmlElementRef ...
+            addAnnotationClasses(c.getDeclaredAnnotations(), types);
+            for (Field f : c.getDeclaredFields()) {
+                types.add(f.getGenericType());
+                addAnnotationClasses(f.getDeclaredAnnotations(), types);
+            }
+            for (Method m : c.getDeclaredMethods()) {
+                types.add(m.getGenericReturnType());
+                Collections.addAll(types, m.getGenericParameterTypes());
+                Collections.addAll(types, m.getGenericExceptionTypes());
+                addAnnotationClasses(m.getDeclaredAnnotations(), types);
+                for (Annotation[] parameterAnnotations : m.getParameterAnnotations()) {
+                    addAnnotationClasses(parameterAnnotations, types);
+                }
+            }
+            for (Type t : types) {
+                addClasses(t, todo);
+            }
+        }
+        return classes;
+    }
+
+    /*
+     * The classes of the JDK and of the APIs, which change with the runtime.
+     */
+    private static boolean isPlatform(Class<?> c) {
+        if (c.getClassLoader() == null) {
+            return true;
+        }
+        String name = c.getName();
+        for (String p : PLATFORM_PACKAGES) {
+            if (name.startsWith(p)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addPackageClass(Class<?> c, String pkg, String name, Deque<Class<?>> todo) {
+        try {
+            todo.add(Class.forName(pkg.isEmpty() ? name : pkg + '.' + name, false, c.getClassLoader()));
+        } catch (ClassNotFoundException e) {
+            // the package doesn't have it
+        }
+    }
+
+    /*
+     * The Class values of the annotations, also of the nested ones.
+     */
+    private static void addAnnotationClasses(Annotation[] annotations, List<Type> types) {
+        for (Annotation a : annotations) {
+            for (Method m : a.annotationType().getDeclaredMethods()) {
+                Object value;
+                try {
+                    value = m.invoke(a);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    // an annotation type that isn't accessible, or a value that isn't there
+                    continue;
+                }
+                if (value instanceof Class) {
+                    types.add((Class<?>) value);
+                } else if (value instanceof Class[]) {
+                    Collections.addAll(types, (Class<?>[]) value);
+                } else if (value instanceof Annotation) {
+                    addAnnotationClasses(new Annotation[] {(Annotation) value}, types);
+                } else if (value instanceof Annotation[]) {
+                    addAnnotationClasses((Annotation[]) value, types);
+                }
+            }
+        }
+    }
+
+    private static void addClasses(Type t, Deque<Class<?>> todo) {
+        if (t instanceof Class) {
+            todo.add((Class<?>) t);
+        } else if (t instanceof ParameterizedType) {
+            ParameterizedType pt = (ParameterizedType) t;
+            addClasses(pt.getRawType(), todo);
+            for (Type a : pt.getActualTypeArguments()) {
+                addClasses(a, todo);
+            }
+        } else if (t instanceof GenericArrayType) {
+            addClasses(((GenericArrayType) t).getGenericComponentType(), todo);
+        } else if (t instanceof WildcardType) {
+            for (Type b : ((WildcardType) t).getUpperBounds()) {
+                addClasses(b, todo);
+            }
+            for (Type b : ((WildcardType) t).getLowerBounds()) {
+                addClasses(b, todo);
+            }
+        }
+        // type variables are bound by the classes declaring them
+    }
+
+    private static byte[] bytecode(Class<?> c) throws IOException {
+        String name = c.getName().replace('.', '/') + ".class";
+        try (InputStream in = c.getClassLoader().getResourceAsStream(name)) {
+            return in != null ? in.readAllBytes() : null;
+        }
+    }
+
+    private static String describe(WebServiceFeature f) {
+        String description = f.getClass().getName() + '=' + f.isEnabled();
+        try {
+            // the settings of the feature, if it tells them
+            if (f.getClass().getMethod("toString").getDeclaringClass() != Object.class) {
+                description += ';' + f.toString();
+            }
+        } catch (NoSuchMethodException e) {
+            // can't happen, every object has it
+        }
+        return description;
+    }
+
+    private static SDDocumentSource read(Path file, String systemId) throws IOException, XMLStreamException {
+        MutableXMLStreamBuffer xsb = new MutableXMLStreamBuffer();
+        xsb.setSystemId(systemId);
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = XMLStreamReaderFactory.create(systemId, in, true);
+            xsb.createFromXMLStreamReader(reader);
+            XMLStreamReaderFactory.recycle(reader);
+        }
+        return SDDocumentSource.create(new URL(systemId), xsb);
+    }
+
+    private static void write(SDDocumentSource doc, OutputStream os) throws IOException, XMLStreamException {
+        XMLStreamWriter w = XMLStreamWriterFactory.create(os, "UTF-8");
+        try {
+            w.writeStartDocument("UTF-8", "1.0");
+            new XMLStreamReaderToXMLStreamWriter().bridge(doc.read(), w);
+            w.writeEndDocument();
+        } finally {
+            w.close();
+        }
+    }
+
+    private static void delete(Path tmp) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tmp)) {
+            for (Path f : files) {
+                Files.deleteIfExists(f);
+            }
+            Files.deleteIfExists(tmp);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Cannot delete " + tmp, e);
+        }
+    }
+
+    private static void update(MessageDigest md, String s) {
+        md.update(s.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // required on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -15,6 +15,9 @@ import com.sun.xml.ws.api.BindingID;
 import com.sun.xml.ws.api.WSFeatureList;
 import com.sun.xml.ws.api.EndpointAddress;
 import com.sun.xml.ws.api.addressing.AddressingVersion;
+import com.sun.xml.ws.api.monitoring.ExecutorStatistics;
+import com.sun.xml.ws.api.monitoring.InvocationStatistics;
+import com.sun.xml.ws.api.monitoring.OperationStatistics;
 import com.sun.xml.ws.api.server.*;
 import com.sun.xml.ws.transport.http.HttpAdapter;
 import com.sun.xml.ws.util.RuntimeVersion;
@@ -35,9 +38,11 @@ import java.util.*;
 public final class MonitorRootService extends MonitorBase {
 
     private final WSEndpoint endpoint;
+    private final InvocationStatistics statistics;
 
-    MonitorRootService(final WSEndpoint endpoint) {
+    MonitorRootService(final WSEndpoint endpoint, final InvocationStatistics statistics) {
         this.endpoint = endpoint;
+        this.statistics = statistics;
     }
 
     //
@@ -168,6 +173,32 @@ public final class MonitorRootService extends MonitorBase {
     @Description("Show what goes across HTTP transport")
     public void dumpHTTPMessages(final boolean x) { HttpAdapter.setDump(x); }
 
+    //
+    // Invocation statistics
+    //
+
+    @ManagedAttribute
+    @Description("Statistics of all the invocations")
+    public OperationStatistics invocationStatistics() {
+        return statistics.getTotal();
+    }
+
+    @ManagedAttribute
+    @Description("Statistics of the invocations per WSDL operation")
+    public Map<String, OperationStatistics> operationStatistics() {
+        Map<String, OperationStatistics> result = new TreeMap<>();
+        for (Map.Entry<QName, OperationStatistics> e : statistics.getOperations().entrySet()) {
+            result.put(e.getKey().toString(), e.getValue());
+        }
+        return result;
+    }
+
+    @ManagedAttribute
+    @Description("Statistics of the HTTP server request executor, null if not published on the HTTP server")
+    public ExecutorStatistics httpServerExecutor() {
+        return endpoint.getSPI(ExecutorStatistics.class);
+    }
+
 }
 
 // End of file.
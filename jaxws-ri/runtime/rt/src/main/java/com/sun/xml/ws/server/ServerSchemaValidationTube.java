@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -16,6 +16,7 @@ import com.sun.xml.ws.api.message.Message;
 import com.sun.xml.ws.api.message.Packet;
 import com.sun.xml.ws.api.model.SEIModel;
 import com.sun.xml.ws.api.model.wsdl.WSDLPort;
+import com.sun.xml.ws.api.pipe.Fiber;
 import com.sun.xml.ws.api.pipe.NextAction;
 import com.sun.xml.ws.api.pipe.Tube;
 import com.sun.xml.ws.api.pipe.TubeCloner;
@@ -23,9 +24,9 @@ import com.sun.xml.ws.api.pipe.helper.AbstractTubeImpl;
 import com.sun.xml.ws.api.server.WSEndpoint;
 import com.sun.xml.ws.fault.SOAPFaultBuilder;
 import com.sun.xml.ws.util.pipe.AbstractSchemaValidationTube;
+import com.sun.xml.ws.util.pipe.SchemaCache;
 import org.xml.sax.SAXException;
 
-import javax.xml.transform.Source;
 import javax.xml.validation.Schema;
 import javax.xml.validation.Validator;
 import jakarta.xml.ws.WebServiceException;
@@ -42,7 +43,9 @@ public class ServerSchemaValidationTube extends AbstractSchemaValidationTube {
     private static final Logger LOGGER = Logger.getLogger(ServerSchemaValidationTube.class.getName());
 
     private final Schema schema;
-    private final Validator validator;
+    private final SchemaCache.ValidatorPool validators;
+    // created on demand, validation uses the shared validators
+    private Validator validator;
 
     private final boolean noValidation;
     private final SEIModel seiModel;
@@ -56,33 +59,32 @@ public class ServerSchemaValidationTube extends AbstractSchemaValidationTube {
 
         if (endpoint.getServiceDefinition() != null) {
             MetadataResolverImpl mdresolver = new MetadataResolverImpl(endpoint.getServiceDefinition());
-            Source[] sources = getSchemaSources(endpoint.getServiceDefinition(), mdresolver);
-            for(Source source : sources) {
-                LOGGER.fine("Constructing service validation schema from = "+source.getSystemId());
-                //printDOM((DOMSource)source);
-            }
-            if (sources.length != 0) {
+            validators = compileSchema(endpoint.getServiceDefinition(), mdresolver);
+            if (validators != null) {
                 noValidation = false;
-                sf.setResourceResolver(mdresolver);
-                try {
-                    schema = sf.newSchema(sources);
-                } catch(SAXException e) {
-                    throw new WebServiceException(e);
-                }
-                validator = schema.newValidator();
+                schema = validators.getSchema();
                 return;
             }
+        } else {
+            validators = null;
         }
         noValidation = true;
         schema = null;
-        validator = null;
     }
 
     @Override
     protected Validator getValidator() {
+        if (validator == null && schema != null) {
+            validator = schema.newValidator();
+        }
         return validator;
     }
 
+    @Override
+    protected SchemaCache.ValidatorPool getValidatorPool() {
+        return validators;
+    }
+
     @Override
     protected boolean isNoValidation() {
         return noValidation;
@@ -94,21 +96,34 @@ public class ServerSchemaValidationTube extends AbstractSchemaValidationTube {
             return super.processRequest(request);
         }
         try {
-            doProcess(request);
+            doProcessStreaming(request);
         } catch(SAXException se) {
-            LOGGER.log(Level.WARNING, "Client Request doesn't pass Service's Schema Validation", se);
-            // Client request is invalid. So sending specific fault code
-            // Also converting this to fault message so that handlers may get
-            // to see the message.
-            SOAPVersion soapVersion = binding.getSOAPVersion();
-            Message faultMsg = SOAPFaultBuilder.createSOAPFaultMessage(
-                    soapVersion, null, se, soapVersion.faultCodeClient);
-            return doReturnWith(request.createServerResponse(faultMsg,
-                    wsdlPort, seiModel, binding));
+            return doReturnWith(createClientFault(request, se));
         }
         return super.processRequest(request);
     }
 
+    @Override
+    public NextAction processException(Throwable t) {
+        // the payload was found invalid while the next tubes read it
+        SAXException se = getValidationError(t);
+        if (se == null) {
+            return super.processException(t);
+        }
+        return doReturnWith(createClientFault(Fiber.current().getPacket(), se));
+    }
+
+    private Packet createClientFault(Packet request, SAXException se) {
+        LOGGER.log(Level.WARNING, "Client Request doesn't pass Service's Schema Validation", se);
+        // Client request is invalid. So sending specific fault code
+        // Also converting this to fault message so that handlers may get
+        // to see the message.
+        SOAPVersion soapVersion = binding.getSOAPVersion();
+        Message faultMsg = SOAPFaultBuilder.createSOAPFaultMessage(
+                soapVersion, null, se, soapVersion.faultCodeClient);
+        return request.createServerResponse(faultMsg, wsdlPort, seiModel, binding);
+    }
+
     @Override
     public NextAction processResponse(Packet response) {
         if (isNoValidation() || !feature.isOutbound() || response.getMessage() == null || !response.getMessage().hasPayload() || response.getMessage().isFault()) {
@@ -127,7 +142,7 @@ public class ServerSchemaValidationTube extends AbstractSchemaValidationTube {
         super(that,cloner);
         //this.docs = that.docs;
         this.schema = that.schema;      // Schema is thread-safe
-        this.validator = schema.newValidator();
+        this.validators = that.validators;
         this.noValidation = that.noValidation;
         this.seiModel = that.seiModel;
         this.wsdlPort = that.wsdlPort;
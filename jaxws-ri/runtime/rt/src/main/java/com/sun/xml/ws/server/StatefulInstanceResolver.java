@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -79,6 +79,15 @@ public final class StatefulInstanceResolver<T> extends AbstractMultiInstanceReso
      * Timer that controls the instance time out. Lazily created.
      */
     private volatile Timer timer;
+    /**
+     * Expires the instances that were not used for {@link #timeoutMilliseconds}.
+     * Null when time out is disabled.
+     */
+    private volatile TimeoutWheel wheel;
+    // advances the wheel, runs on the timer
+    private TimerTask sweeper;
+    // survives the time out changes
+    private final TimeoutWheel.Statistics timeoutStatistics = new TimeoutWheel.Statistics();
 
     // Application classloader(typically web app classloader), needed for
     // deserialization of web service class
@@ -211,67 +220,53 @@ public final class StatefulInstanceResolver<T> extends AbstractMultiInstanceReso
     }
 
     /**
-     * Maintains the stateful service instance and its time-out timer.
+     * Maintains the stateful service instance and its time-out.
      */
-    private final class Instance {
+    private final class Instance extends TimeoutWheel.Entry {
         final @NotNull T instance;
-        volatile TimerTask task;
 
         public Instance(T instance) {
             this.instance = instance;
         }
 
         /**
-         * Resets the timer.
+         * Resets the time out.
          */
-        public synchronized void restartTimer() {
-            cancel();
-            if (timeoutMilliseconds == 0) {
+        public void restartTimer() {
+            TimeoutWheel w = wheel;
+            if (w == null) {
                 return;
             } // no timer
-
-            task = new TimerTask() {
-                @Override
-                public void run() {
-                    try {
-                        Callback<T> cb = timeoutCallback;
-                        if (cb != null) {
-                            if (logger.isLoggable(Level.FINEST)) {
-                                logger.log(Level.FINEST, "Invoking timeout callback for instance/timeouttask = [ {0} / {1} ]", new Object[]{instance, this});
-                            }
-                            cb.onTimeout(instance, StatefulInstanceResolver.this);
-                            return;
-                        }
-                        // default operation is to unexport it.
-                        unexport(instance);
-                    } catch (Throwable e) {
-                        // don't let an error in the code kill the timer thread
-                        logger.log(Level.SEVERE, "time out handler failed", e);
-                    }
-                }
-            };
-            timer.schedule(task, timeoutMilliseconds);
+            w.touch(this);
         }
 
         /**
-         * Cancels the timer.
+         * Cancels the time out.
          */
-        public synchronized void cancel() {
-            if (task != null) {
-                boolean result = task.cancel();
-                if (logger.isLoggable(Level.FINEST)) {
-                    logger.log(Level.FINEST, "Timeout callback CANCELED for instance/timeouttask/cancel result = [ {0} / {1} / {2} ]", new Object[]{instance, this, result});
-                }
-            } else {
-                if (logger.isLoggable(Level.FINEST)) {
-                    logger.log(Level.FINEST, "Timeout callback NOT CANCELED for instance = [ {0} ]; task is null ...", instance);
-                }
+        public void cancel() {
+            TimeoutWheel.cancel(this);
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.log(Level.FINEST, "Timeout callback CANCELED for instance = [ {0} ]", instance);
             }
-            task = null;
         }
-        
-        public synchronized void setTask(TimerTask t) {
-            this.task = t;
+
+        @Override
+        protected void expired() {
+            try {
+                Callback<T> cb = timeoutCallback;
+                if (cb != null) {
+                    if (logger.isLoggable(Level.FINEST)) {
+                        logger.log(Level.FINEST, "Invoking timeout callback for instance = [ {0} ]", instance);
+                    }
+                    cb.onTimeout(instance, StatefulInstanceResolver.this);
+                    return;
+                }
+                // default operation is to unexport it.
+                unexport(instance);
+            } catch (Throwable e) {
+                // don't let an error in the code kill the timer thread
+                logger.log(Level.SEVERE, "time out handler failed", e);
+            }
         }
 
     }
@@ -384,6 +379,7 @@ public final class StatefulInstanceResolver<T> extends AbstractMultiInstanceReso
                 dispose(t.instance);
             }
             haMap.destroy();
+            wheel = null;
         }
         if (fallback != null) {
             dispose(fallback);
@@ -465,12 +461,10 @@ public final class StatefulInstanceResolver<T> extends AbstractMultiInstanceReso
             key = UUID.randomUUID().toString();
             Instance instance = new Instance(o);
             if (logger.isLoggable(Level.FINEST)) {
-                logger.log(Level.FINEST, "Storing instance ID/Instance/Object/TimerTask = [ {0} / {1} / {2} / {3} ]", new Object[]{key, instance, instance.instance, instance.task});
+                logger.log(Level.FINEST, "Storing instance ID/Instance/Object = [ {0} / {1} / {2} ]", new Object[]{key, instance, instance.instance});
             }
             haMap.put(key, instance);
-            if (timeoutMilliseconds != 0) {
-                instance.restartTimer();
-            }
+            instance.restartTimer();
         }
 
         return createEPR(key, adrsVer, endpointAddress, wsdlAddress, recipe);
@@ -585,17 +579,67 @@ public final class StatefulInstanceResolver<T> extends AbstractMultiInstanceReso
         if (milliseconds < 0) {
             throw new IllegalArgumentException();
         }
-        this.timeoutMilliseconds = milliseconds;
-        this.timeoutCallback = callback;
-        haMap.getExpiredTask().cancel();
-        if (timeoutMilliseconds > 0) {
-            startTimer();
-            timer.schedule(haMap.newExpiredTask(), timeoutMilliseconds, timeoutMilliseconds);
-        } else {
-            stopTimer();
+        synchronized (haMap) {
+            this.timeoutMilliseconds = milliseconds;
+            this.timeoutCallback = callback;
+            haMap.getExpiredTask().cancel();
+            if (sweeper != null) {
+                sweeper.cancel();
+                sweeper = null;
+            }
+            if (timeoutMilliseconds > 0) {
+                startTimer();
+                TimeoutWheel w = new TimeoutWheel(timeoutMilliseconds, timeoutStatistics);
+                wheel = w;
+                // instances of the previous wheel move to this one
+                for (Instance i : haMap.values()) {
+                    w.touch(i);
+                }
+                sweeper = w.newSweeper();
+                timer.schedule(sweeper, w.getTick(), w.getTick());
+                timer.schedule(haMap.newExpiredTask(), timeoutMilliseconds, timeoutMilliseconds);
+            } else {
+                wheel = null;
+                stopTimer();
+            }
         }
     }
 
+    /**
+     * Gets the number of times the time out of an instance was reset.
+     */
+    public long getTimeoutTouchCount() {
+        return timeoutStatistics.getTouchCount();
+    }
+
+    /**
+     * Gets the average time, in nanoseconds, it took to reset the time out of an instance.
+     */
+    public long getAverageTimeoutTouchNanos() {
+        return timeoutStatistics.getAverageTouchNanos();
+    }
+
+    /**
+     * Gets the number of instances that timed out.
+     */
+    public long getTimedOutCount() {
+        return timeoutStatistics.getExpiredCount();
+    }
+
+    /**
+     * Gets the average time, in milliseconds, instances timed out after their deadline.
+     */
+    public long getAverageTimeoutDelay() {
+        return timeoutStatistics.getAverageExpiryDelay();
+    }
+
+    /**
+     * Gets the longest time, in milliseconds, an instance timed out after its deadline.
+     */
+    public long getMaxTimeoutDelay() {
+        return timeoutStatistics.getMaxExpiryDelay();
+    }
+
     @Override
     public void touch(T o) {
         Instance i = haMap.touch(o);
@@ -686,8 +730,11 @@ public final class StatefulInstanceResolver<T> extends AbstractMultiInstanceReso
             boolean isNew = oldi == null;
             if (!isNew) {
                 reverseInstances.remove(oldi.instance);
-                // reuse the original timeout task
-                newi.setTask(oldi.task);
+                if (oldi != newi) {
+                    // the new instance takes over the time out
+                    oldi.cancel();
+                    newi.restartTimer();
+                }
             }
 
             instances.put(id, newi);
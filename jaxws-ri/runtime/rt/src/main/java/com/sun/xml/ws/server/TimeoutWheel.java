@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hashed timing wheel that expires the entries that haven't been touched
+ * for a given time out.
+ *
+ * <p>
+ * Touching an entry only records the access time, the entry stays in the
+ * bucket it was put in. When the wheel reaches that bucket, the entries whose
+ * time out has not elapsed yet are moved to the bucket of their new deadline,
+ * and the others are expired together. So touching is a volatile write, and
+ * each live entry is looked at about once per time out.
+ *
+ * <p>
+ * The wheel is advanced by {@link #sweep(long)}, from a single thread.
+ * Entries expire at most one tick late.
+ *
+ * @see StatefulInstanceResolver
+ */
+final class TimeoutWheel {
+
+    private static final int WHEEL_SIZE = 128;
+    private static final int MASK = WHEEL_SIZE - 1;
+    // the wheel spans twice the time out, unless ticks would get longer than that
+    private static final long MAX_TICK = 1000L;
+
+    private final long timeout;
+    private final long tick;
+    private final ConcurrentLinkedQueue<Entry>[] buckets;
+    private final Statistics stats;
+    // last processed tick, only used by the sweeping thread
+    private long processedTick;
+
+    /**
+     * @param timeout time out in milliseconds
+     * @param stats statistics updated by this wheel
+     */
+    @SuppressWarnings("unchecked")
+    TimeoutWheel(long timeout, Statistics stats) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("timeout must be positive: " + timeout);
+        }
+        this.timeout = timeout;
+        this.tick = Math.max(1L, Math.min(MAX_TICK, timeout / (WHEEL_SIZE / 2)));
+        this.stats = stats;
+        this.buckets = new ConcurrentLinkedQueue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.processedTick = System.currentTimeMillis() / tick;
+    }
+
+    /**
+     * @return length of a tick in milliseconds
+     */
+    long getTick() {
+        return tick;
+    }
+
+    /**
+     * Records an access to the entry, and schedules its expiry if it isn't
+     * scheduled by this wheel yet.
+     */
+    void touch(Entry e) {
+        long start = System.nanoTime();
+        e.cancelled = false;
+        long now = System.currentTimeMillis();
+        e.lastAccess = now;
+        if (Entry.WHEEL.getAndSet(e, this) != this) {
+            add(e, (now + timeout) / tick);
+        }
+        stats.touched(System.nanoTime() - start);
+    }
+
+    /**
+     * Cancels the expiry of the entry, until it is touched again.
+     */
+    static void cancel(Entry e) {
+        e.cancelled = true;
+    }
+
+    /**
+     * Expires the entries whose deadline has passed.
+     *
+     * @param now current time in milliseconds
+     */
+    void sweep(long now) {
+        long nowTick = now / tick;
+        if (nowTick - processedTick > WHEEL_SIZE) {
+            // fell behind, every bucket is due
+            processedTick = nowTick - WHEEL_SIZE;
+        }
+        List<Entry> due = new ArrayList<>();
+        while (processedTick < nowTick) {
+            processedTick++;
+            ConcurrentLinkedQueue<Entry> bucket = buckets[(int) (processedTick & MASK)];
+            // taken out first, the entries due in a later round go back to the same bucket
+            Entry e;
+            while ((e = bucket.poll()) != null) {
+                due.add(e);
+            }
+            for (Entry d : due) {
+                process(d, now);
+            }
+            due.clear();
+        }
+    }
+
+    private void process(Entry e, long now) {
+        if (e.wheel != this) {
+            // rescheduled by another wheel
+            return;
+        }
+        if (e.cancelled) {
+            Entry.WHEEL.compareAndSet(e, this, null);
+            // touched meanwhile, and it didn't see the wheel cleared
+            if (!e.cancelled && Entry.WHEEL.compareAndSet(e, null, this)) {
+                add(e, processedTick + 1);
+            }
+            return;
+        }
+        long lastAccess = e.lastAccess;
+        long deadline = lastAccess + timeout;
+        if (deadline > now) {
+            add(e, Math.max(deadline / tick, processedTick + 1));
+            return;
+        }
+        if (Entry.WHEEL.compareAndSet(e, this, null)) {
+            if (e.cancelled) {
+                return;
+            }
+            // touched before the wheel was cleared, it didn't schedule itself again
+            if (e.lastAccess != lastAccess) {
+                if (Entry.WHEEL.compareAndSet(e, null, this)) {
+                    add(e, Math.max((e.lastAccess + timeout) / tick, processedTick + 1));
+                }
+                return;
+            }
+            stats.expired(now - deadline);
+            e.expired();
+        }
+    }
+
+    private void add(Entry e, long deadlineTick) {
+        buckets[(int) (deadlineTick & MASK)].offer(e);
+    }
+
+    /**
+     * Creates the task to run every tick to advance this wheel.
+     */
+    TimerTask newSweeper() {
+        return new TimerTask() {
+            @Override
+            public void run() {
+                sweep(System.currentTimeMillis());
+            }
+        };
+    }
+
+    /**
+     * Entry whose expiry is controlled by a {@link TimeoutWheel}.
+     */
+    abstract static class Entry {
+
+        private static final AtomicReferenceFieldUpdater<Entry, TimeoutWheel> WHEEL
+                = AtomicReferenceFieldUpdater.newUpdater(Entry.class, TimeoutWheel.class, "wheel");
+
+        private volatile long lastAccess;
+        private volatile boolean cancelled;
+        // wheel that has this entry in one of its buckets
+        private volatile TimeoutWheel wheel;
+
+        /**
+         * Called on the sweeping thread when the time out of the entry
+         * has elapsed since it was last touched.
+         */
+        protected abstract void expired();
+    }
+
+    /**
+     * Touch latency and expiry accuracy of the wheels of an owner.
+     */
+    static final class Statistics {
+
+        private final LongAdder touchCount = new LongAdder();
+        private final LongAdder touchNanos = new LongAdder();
+        private final LongAdder expiredCount = new LongAdder();
+        private final LongAdder expiryDelay = new LongAdder();
+        private final AtomicLong maxExpiryDelay = new AtomicLong();
+
+        void touched(long nanos) {
+            touchCount.increment();
+            touchNanos.add(nanos);
+        }
+
+        void expired(long delay) {
+            expiredCount.increment();
+            expiryDelay.add(delay);
+            maxExpiryDelay.accumulateAndGet(delay, Math::max);
+        }
+
+        long getTouchCount() {
+            return touchCount.sum();
+        }
+
+        long getAverageTouchNanos() {
+            long count = touchCount.sum();
+            return count == 0 ? 0 : touchNanos.sum() / count;
+        }
+
+        long getExpiredCount() {
+            return expiredCount.sum();
+        }
+
+        long getAverageExpiryDelay() {
+            long count = expiredCount.sum();
+            return count == 0 ? 0 : expiryDelay.sum() / count;
+        }
+
+        long getMaxExpiryDelay() {
+            return maxExpiryDelay.get();
+        }
+    }
+}
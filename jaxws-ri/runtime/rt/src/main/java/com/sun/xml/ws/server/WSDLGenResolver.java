@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -178,5 +178,37 @@ final class WSDLGenResolver implements com.oracle.webservices.api.databinding.WS
         }
         return concreteWsdl;
     }
+
+    /**
+     * Gets the generated documents, the concrete WSDL first.
+     *
+     * @return null if the concrete WSDL isn't generated
+     */
+    List<SDDocumentSource> getGeneratedDocs() {
+        if (concreteWsdlSource == null) {
+            return null;
+        }
+        List<SDDocumentSource> generated = new ArrayList<>(newDocs.size());
+        generated.add(concreteWsdlSource);
+        for (SDDocumentSource doc : newDocs) {
+            if (doc != concreteWsdlSource) {
+                generated.add(doc);
+            }
+        }
+        return generated;
+    }
+
+    /**
+     * Takes the documents generated earlier, the concrete WSDL first,
+     * instead of generating them, see {@link #updateDocs()}.
+     *
+     * @return the primary WSDL
+     */
+    SDDocumentImpl updateDocs(List<SDDocumentSource> generated) {
+        newDocs.clear();
+        newDocs.addAll(generated);
+        concreteWsdlSource = generated.get(0);
+        return updateDocs();
+    }
     
 }
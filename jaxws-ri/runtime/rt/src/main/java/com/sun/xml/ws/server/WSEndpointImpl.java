@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -26,9 +26,11 @@ import com.sun.xml.ws.api.message.Message;
 import com.sun.xml.ws.api.message.Packet;
 import com.sun.xml.ws.api.model.SEIModel;
 import com.sun.xml.ws.api.model.wsdl.WSDLPort;
+import com.sun.xml.ws.api.monitoring.InvocationStatistics;
 import com.sun.xml.ws.api.pipe.*;
 import com.sun.xml.ws.api.server.*;
 import com.sun.xml.ws.binding.BindingImpl;
+import com.sun.xml.ws.developer.VirtualThreadsFeature;
 import com.sun.xml.ws.fault.SOAPFaultBuilder;
 import com.sun.xml.ws.model.wsdl.WSDLDirectProperties;
 import com.sun.xml.ws.model.wsdl.WSDLPortProperties;
@@ -81,6 +83,7 @@ public /*final*/ class WSEndpointImpl<T> extends WSEndpoint<T> implements LazyMO
     private final @NotNull PolicyMap endpointPolicy;
     private final Pool<Tube> tubePool;
     private final OperationDispatcher operationDispatcher;
+    private final @NotNull InvocationStatistics invocationStatistics;
     private @NotNull ManagedObjectManager managedObjectManager;
     private boolean managedObjectManagerClosed = false;
     private final Object managedObjectManagerLock = new Object();
@@ -116,6 +119,7 @@ public /*final*/ class WSEndpointImpl<T> extends WSEndpoint<T> implements LazyMO
                 this.serviceDef = serviceDef;
                 this.seiModel = seiModel;
         this.endpointPolicy = endpointPolicy;
+        this.invocationStatistics = new InvocationStatistics(serviceName, portName, false);
 
         LazyMOMProvider.INSTANCE.registerEndpoint(this);
         initManagedObjectManager();
@@ -172,7 +176,7 @@ public /*final*/ class WSEndpointImpl<T> extends WSEndpoint<T> implements LazyMO
 
         tubePool = new TubePool(masterTubeline);
         terminalTube.setEndpoint(this);
-        engine = new Engine(toString(), container);
+        engine = createEngine();
         wsdlProperties = (port == null) ? new WSDLDirectProperties(serviceName, portName, seiModel) : new WSDLPortProperties(port, seiModel);
 
         Map<QName, WSEndpointReference.EPRExtension> eprExtensions = new HashMap<>();
@@ -214,6 +218,15 @@ public /*final*/ class WSEndpointImpl<T> extends WSEndpoint<T> implements LazyMO
     return ctx;
   }
 
+  private Engine createEngine() {
+    Engine e = new Engine(toString(), container);
+    VirtualThreadsFeature vtf = binding.getFeature(VirtualThreadsFeature.class);
+    if (vtf != null) {
+        e.setVirtualThreads(vtf.isEnabled());
+    }
+    return e;
+  }
+
         protected WSEndpointImpl(@NotNull QName serviceName, @NotNull QName portName, WSBinding binding, Container container,
                         SEIModel seiModel, WSDLPort port,
                         Tube masterTubeline) {
@@ -229,6 +242,7 @@ public /*final*/ class WSEndpointImpl<T> extends WSEndpoint<T> implements LazyMO
                 this.implementationClass = null;
                 this.masterTubeline = masterTubeline;
                 this.masterCodec = ((BindingImpl) this.binding).createCodec();
+        this.invocationStatistics = new InvocationStatistics(serviceName, portName, false);
 
         LazyMOMProvider.INSTANCE.registerEndpoint(this);
         initManagedObjectManager();
@@ -238,7 +252,7 @@ public /*final*/ class WSEndpointImpl<T> extends WSEndpoint<T> implements LazyMO
                 seiModel, port, this, null /* not known */, false);
 
                 tubePool = new TubePool(masterTubeline);
-                engine = new Engine(toString(), container);
+                engine = createEngine();
                 wsdlProperties = (port == null) ? new WSDLDirectProperties(serviceName, portName, seiModel) : new WSDLPortProperties(port, seiModel);
   }
 
@@ -313,6 +327,7 @@ public /*final*/ class WSEndpointImpl<T> extends WSEndpoint<T> implements LazyMO
                 fiber.addInterceptor(interceptor);
             }
             final Tube tube = tubePool.take();
+            final long start = System.nanoTime();
             Fiber.CompletionCallback cbak = new Fiber.CompletionCallback() {
                 @Override
                 public void onCompletion(@NotNull Packet response) {
@@ -322,6 +337,7 @@ public /*final*/ class WSEndpointImpl<T> extends WSEndpoint<T> implements LazyMO
                         // in invalid state following exception
                         tubePool.recycle(tube);
                     }
+                    recordInvocation(request, response, start, tc != null);
 
                     if (callback != null) {
                         if (tc != null) {
@@ -395,9 +411,12 @@ public /*final*/ class WSEndpointImpl<T> extends WSEndpoint<T> implements LazyMO
 
                     Fiber fiber = engine.createFiber();
                     Packet response;
+                    long start = System.nanoTime();
                     try {
                         response = fiber.runSync(tube, request);
+                        recordInvocation(request, response, start, false);
                     } catch (RuntimeException re) {
+                        recordInvocation(request, null, start, true);
                         // Catch all runtime exceptions so that transport
                         // doesn't
                         // have to worry about converting to wire message
@@ -416,6 +435,31 @@ public /*final*/ class WSEndpointImpl<T> extends WSEndpoint<T> implements LazyMO
         };
     }
 
+    private void recordInvocation(Packet request, @Nullable Packet response, long start, boolean failed) {
+        if (!InvocationStatistics.isEnabled()) {
+            return;
+        }
+        QName operation = null;
+        try {
+            operation = request.getWSDLOperation();
+            if (!failed && response != null) {
+                Message msg = response.getMessage();
+                failed = msg != null && msg.isFault();
+            }
+        } catch (RuntimeException e) {
+            // statistics must not break the invocation
+            logger.log(Level.FINE, "Cannot identify the invocation", e);
+        }
+        invocationStatistics.record(operation, start, failed);
+    }
+
+    /**
+     * Gets the request, failure and latency statistics of this endpoint.
+     */
+    public @NotNull InvocationStatistics getInvocationStatistics() {
+        return invocationStatistics;
+    }
+
     @Override
     public synchronized void dispose() {
         if (disposed) {
@@ -518,7 +562,7 @@ public /*final*/ class WSEndpointImpl<T> extends WSEndpoint<T> implements LazyMO
      * @return an instance of {@code ManagedObjectManager}
      */
     @NotNull ManagedObjectManager obtainManagedObjectManager() {
-        final MonitorRootService monitorRootService = new MonitorRootService(this);
+        final MonitorRootService monitorRootService = new MonitorRootService(this, invocationStatistics);
         final ManagedObjectManager mOM = monitorRootService.createManagedObjectManager(this);
 
         // ManagedObjectManager was suspended due to root creation (see MonitorBase#initMOM)
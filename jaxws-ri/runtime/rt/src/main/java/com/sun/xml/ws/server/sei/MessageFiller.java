@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,6 +10,7 @@
 
 package com.sun.xml.ws.server.sei;
 
+import com.sun.xml.ws.api.IdGenerator;
 import com.sun.xml.ws.api.message.Headers;
 import com.sun.xml.ws.api.message.Message;
 import com.sun.xml.ws.message.ByteArrayAttachment;
@@ -21,7 +22,6 @@ import com.sun.xml.ws.spi.db.XMLBridge;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.UUID;
 import jakarta.activation.DataHandler;
 import javax.xml.transform.Source;
 import jakarta.xml.ws.WebServiceException;
@@ -93,7 +93,7 @@ public abstract class MessageFiller {
         }
         
         String getContentId() {
-            return contentIdPart+UUID.randomUUID()+"@jaxws.sun.com";
+            return contentIdPart+IdGenerator.getInstance().generate()+"@jaxws.sun.com";
         }
     }
     
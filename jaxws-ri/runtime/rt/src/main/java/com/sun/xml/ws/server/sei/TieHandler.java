@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -23,6 +23,7 @@ import com.sun.xml.ws.message.jaxb.JAXBMessage;
 import com.sun.xml.ws.model.JavaMethodImpl;
 import com.sun.xml.ws.model.ParameterImpl;
 import com.sun.xml.ws.model.WrapperParameter;
+import com.sun.xml.ws.util.AccessorFactory;
 import com.sun.xml.ws.wsdl.DispatchException;
 
 import jakarta.jws.WebParam.Mode;
@@ -89,6 +90,8 @@ final public class TieHandler implements EndpointCallBridge {
         this.isOneWay = method.getMEP().isOneWay();
         this.noOfArgs = this.method.getParameterTypes().length;
         packetFactory = mcf;
+        // build the handle used to call the endpoint now rather than on the first request
+        AccessorFactory.invoker(this.method);
     }
 
     /**
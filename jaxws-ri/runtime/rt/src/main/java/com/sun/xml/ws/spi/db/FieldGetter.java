@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,6 +10,9 @@
 
 package com.sun.xml.ws.spi.db;
 
+import com.sun.xml.ws.util.AccessorFactory;
+
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import jakarta.xml.ws.WebServiceException;
 
@@ -23,11 +26,14 @@ import jakarta.xml.ws.WebServiceException;
 public class FieldGetter extends PropertyGetterBase {
 
     protected Field field;
+    // null when the field has to be read with reflection
+    private final MethodHandle handle;
     
     public FieldGetter(Field f) {
         verifyWrapperType(f.getDeclaringClass());   
         field = f;
         type = f.getType();
+        handle = AccessorFactory.getter(f);
     }
     
     public Field getField() {
@@ -36,6 +42,15 @@ public class FieldGetter extends PropertyGetterBase {
     
     @Override
     public Object get(final Object instance) {
+        if (handle != null) {
+            try {
+                return (Object) handle.invokeExact(instance);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new WebServiceException(t);
+            }
+        }
         try {
             return field.get(instance);
         } catch (Exception e) {
@@ -43,6 +58,13 @@ public class FieldGetter extends PropertyGetterBase {
         }
     }
 
+    /**
+     * @return true if the field is read with a method handle
+     */
+    boolean hasHandle() {
+        return handle != null;
+    }
+
     @Override
     public <A> A getAnnotation(Class<A> annotationType) {
         Class c = annotationType;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,6 +10,9 @@
 
 package com.sun.xml.ws.spi.db;
 
+import com.sun.xml.ws.util.AccessorFactory;
+
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import jakarta.xml.ws.WebServiceException;
 
@@ -21,11 +24,14 @@ import jakarta.xml.ws.WebServiceException;
 public class FieldSetter extends PropertySetterBase {
     
     protected Field field;
+    // null when the field has to be written with reflection
+    private final MethodHandle handle;
     
     public FieldSetter(Field f) {
         PropertyGetterBase.verifyWrapperType(f.getDeclaringClass());
         field = f;
         type = f.getType();
+        handle = AccessorFactory.setter(f);
     }
     
     public Field getField() {
@@ -35,12 +41,29 @@ public class FieldSetter extends PropertySetterBase {
     @Override
     public void set(final Object instance, final Object val) {
         final Object resource = (type.isPrimitive() && val == null)? uninitializedValue(type): val;
+        if (handle != null) {
+            try {
+                handle.invokeExact(instance, resource);
+                return;
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new WebServiceException(t);
+            }
+        }
         try {
             field.set(instance, resource);
         } catch (Exception e) {
             throw new WebServiceException(e);
         }
     }
+
+    /**
+     * @return true if the field is written with a method handle
+     */
+    boolean hasHandle() {
+        return handle != null;
+    }
     
     @Override
     public <A> A getAnnotation(Class<A> annotationType) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -17,6 +17,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
@@ -132,8 +133,10 @@ public class JAXBWrapperAccessor extends WrapperAccessor {
             Method setMethod = accessor(publicSetters, fieldName, localName);
             Method getMethod = accessor(publicGetters, fieldName, localName);
             if ( isProperty(field, getMethod, setMethod) ) {
-                PropertySetter setter = createPropertySetter(field, setMethod);
-                PropertyGetter getter = createPropertyGetter(field, getMethod);
+                // the field accessors open the field, decide on both first
+                boolean accessible = field.isAccessible();
+                PropertySetter setter = createPropertySetter(field, setMethod, accessible);
+                PropertyGetter getter = createPropertyGetter(field, getMethod, accessible);
                 setByQName.put(qname, setter);
                 setByLocalpart.put(localName, setter);
                 getByQName.put(qname, getter);
@@ -196,8 +199,8 @@ public class JAXBWrapperAccessor extends WrapperAccessor {
         }
     }
 
-    static private PropertyGetter createPropertyGetter(Field field, Method getMethod) {
-        if (!field.isAccessible()) {
+    static private PropertyGetter createPropertyGetter(Field field, Method getMethod, boolean accessible) {
+        if (!accessible) {
             if (getMethod != null) {
                 MethodGetter methodGetter = new MethodGetter(getMethod);
                 if (methodGetter.getType().toString().equals(field.getType().toString())) {
@@ -209,8 +212,8 @@ public class JAXBWrapperAccessor extends WrapperAccessor {
     }
 
     static private PropertySetter createPropertySetter(Field field,
-            Method setter) {
-        if (!field.isAccessible()) {
+            Method setter, boolean accessible) {
+        if (!accessible) {
             if (setter != null) {
                 MethodSetter injection = new MethodSetter(setter);
                 if (injection.getType().toString().equals(field.getType().toString())) {
@@ -282,11 +285,36 @@ public class JAXBWrapperAccessor extends WrapperAccessor {
     }
     
 
+    /**
+     * Opens the field up front, so that the accessors can use a method
+     * handle instead of asking for the privilege on every call.
+     */
+    static private Field accessible(final Field f) {
+        if (!f.isAccessible()) {
+            try {
+                AccessController.doPrivileged(new PrivilegedAction<Void>() {
+                    @Override
+                    public Void run() {
+                        f.setAccessible(true);
+                        return null;
+                    }
+                });
+            } catch (RuntimeException e) {
+                // not allowed now, the accessor will retry on every call
+            }
+        }
+        return f;
+    }
+
     static private class PrivFieldSetter extends FieldSetter {     
         private PrivFieldSetter(Field f) {
-            super(f);
+            super(accessible(f));
         }
         private void setPriv(final Object instance, final Object val) {
+            if (hasHandle()) {
+                set(instance, val);
+                return;
+            }
             final Object resource = (type.isPrimitive() && val == null)? uninitializedValue(type): val;
             if (field.isAccessible()) {
                 try {
@@ -315,7 +343,7 @@ public class JAXBWrapperAccessor extends WrapperAccessor {
 
     static private class PrivFieldGetter extends FieldGetter {      
         private PrivFieldGetter(Field f) {
-            super(f);
+            super(accessible(f));
         }        
         static private class PrivilegedGetter implements PrivilegedExceptionAction {
             private Object value;
@@ -336,6 +364,9 @@ public class JAXBWrapperAccessor extends WrapperAccessor {
             }
         }            
         private Object getPriv(final Object instance) {
+            if (hasHandle()) {
+                return get(instance);
+            }
             if (field.isAccessible()) {
                 try {
                     return field.get(instance);
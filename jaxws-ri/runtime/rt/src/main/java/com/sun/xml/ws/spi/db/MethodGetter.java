@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,6 +10,9 @@
 
 package com.sun.xml.ws.spi.db;
 
+import com.sun.xml.ws.util.AccessorFactory;
+
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import jakarta.xml.ws.WebServiceException;
 
@@ -22,11 +25,14 @@ import jakarta.xml.ws.WebServiceException;
 public class MethodGetter extends PropertyGetterBase {
 
     private Method method;
+    // null when the method has to be invoked with reflection
+    private final MethodHandle handle;
     
     public MethodGetter(Method m) {
         verifyWrapperType(m.getDeclaringClass());    
         method = m;
         type = m.getReturnType();
+        handle = AccessorFactory.getter(m);
     }
     
     public Method getMethod() {
@@ -41,6 +47,15 @@ public class MethodGetter extends PropertyGetterBase {
     
     @Override
     public Object get(final Object instance) {
+        if (handle != null) {
+            try {
+                return (Object) handle.invokeExact(instance);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new WebServiceException(t);
+            }
+        }
         final Object[] args = new Object[0];
         try {
             return method.invoke(instance, args);
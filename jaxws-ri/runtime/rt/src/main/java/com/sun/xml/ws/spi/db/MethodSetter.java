@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,6 +10,9 @@
 
 package com.sun.xml.ws.spi.db;
 
+import com.sun.xml.ws.util.AccessorFactory;
+
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import jakarta.xml.ws.WebServiceException;
 
@@ -22,11 +25,14 @@ import jakarta.xml.ws.WebServiceException;
 public class MethodSetter extends PropertySetterBase {
     
     private Method method;
+    // null when the method has to be invoked with reflection
+    private final MethodHandle handle;
     
     public MethodSetter(Method m) {
         PropertyGetterBase.verifyWrapperType(m.getDeclaringClass());
         method = m;
         type = m.getParameterTypes()[0];
+        handle = AccessorFactory.setter(m);
     }
     
     public Method getMethod() {
@@ -42,6 +48,16 @@ public class MethodSetter extends PropertySetterBase {
     @Override
     public void set(final Object instance, Object val) {
         final Object resource = (type.isPrimitive() && val == null)? uninitializedValue(type): val;
+        if (handle != null) {
+            try {
+                handle.invokeExact(instance, resource);
+                return;
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new WebServiceException(t);
+            }
+        }
         final Object[] args = {resource};
         try {
             method.invoke(instance, args);
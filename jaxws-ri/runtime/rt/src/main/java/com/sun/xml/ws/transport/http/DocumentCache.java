@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.http;
+
+import com.sun.istack.NotNull;
+import com.sun.istack.Nullable;
+import com.sun.xml.ws.api.server.SDDocument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The {@link SDDocument}s published by an {@link HttpAdapter}, as patched
+ * for a base address, so that a document is patched once and not on every
+ * {@code ?wsdl} or {@code ?xsd=N} request.
+ *
+ * <p>
+ * The documents are dropped when the port addresses they were patched with
+ * may have changed, and when too many base addresses have been seen, as the
+ * base address comes from the request.
+ */
+final class DocumentCache {
+
+    // at most as many documents are kept
+    private static final int MAX_DOCUMENTS = 256;
+
+    private final Map<Key, Document> documents = new ConcurrentHashMap<>();
+    // version of the port addresses the documents were patched with
+    private volatile int addressVersion;
+
+    DocumentCache() {
+    }
+
+    /**
+     * Gets the document patched for the base address.
+     *
+     * @param addressVersion
+     *      version of the port addresses, a different version
+     *      drops all the documents patched with the old addresses.
+     * @return null if the document isn't cached.
+     */
+    @Nullable Document get(@NotNull SDDocument doc, @NotNull String baseAddress, int addressVersion) {
+        if (this.addressVersion != addressVersion) {
+            return null;
+        }
+        return documents.get(new Key(doc, baseAddress));
+    }
+
+    /**
+     * Caches the document patched for the base address.
+     *
+     * @return the cached document.
+     */
+    @NotNull Document put(@NotNull SDDocument doc, @NotNull String baseAddress, int addressVersion, @NotNull byte[] bytes) {
+        if (this.addressVersion != addressVersion || documents.size() >= MAX_DOCUMENTS) {
+            documents.clear();
+            this.addressVersion = addressVersion;
+        }
+        Document document = new Document(bytes);
+        documents.put(new Key(doc, baseAddress), document);
+        return document;
+    }
+
+    /**
+     * Drops all the documents.
+     */
+    void clear() {
+        documents.clear();
+    }
+
+    /**
+     * Checks whether the {@code If-None-Match} request headers match the entity tag.
+     */
+    static boolean matches(@Nullable List<String> ifNoneMatch, @NotNull String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String value : ifNoneMatch) {
+            for (String tag : value.split(",")) {
+                tag = tag.trim();
+                // If-None-Match uses the weak comparison
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the {@code Accept-Encoding} request headers accept gzip.
+     */
+    static boolean acceptsGzip(@Nullable List<String> acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String value : acceptEncoding) {
+            for (String coding : value.split(",")) {
+                int semicolon = coding.indexOf(';');
+                String name = (semicolon < 0 ? coding : coding.substring(0, semicolon)).trim();
+                if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                    // gzip;q=0 refuses it
+                    return semicolon < 0 || !coding.substring(semicolon + 1).replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A patched document, with its entity tag.
+     */
+    static final class Document {
+        private final byte[] bytes;
+        private final String etag;
+        // compressed on first use
+        private volatile byte[] gzipped;
+
+        Document(byte[] bytes) {
+            this.bytes = bytes;
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            this.etag = Long.toHexString(crc.getValue()) + '-' + Integer.toHexString(bytes.length);
+        }
+
+        byte[] getBytes() {
+            return bytes;
+        }
+
+        String getETag() {
+            return '"' + etag + '"';
+        }
+
+        byte[] getGzipped() {
+            byte[] g = gzipped;
+            if (g == null) {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream(bytes.length / 4);
+                try (GZIPOutputStream gz = new GZIPOutputStream(baos)) {
+                    gz.write(bytes);
+                } catch (IOException e) {
+                    // can't happen with a byte array
+                    throw new IllegalStateException(e);
+                }
+                g = baos.toByteArray();
+                gzipped = g;
+            }
+            return g;
+        }
+
+        /**
+         * The entity tag of the gzipped document, which differs from the
+         * one of the document as the bytes differ.
+         */
+        String getGzippedETag() {
+            return '"' + etag + "-gzip\"";
+        }
+    }
+
+    private static final class Key {
+        private final SDDocument doc;
+        private final String baseAddress;
+
+        Key(SDDocument doc, String baseAddress) {
+            this.doc = doc;
+            this.baseAddress = baseAddress;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return doc == that.doc && baseAddress.equals(that.baseAddress);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(doc) * 31 + baseAddress.hashCode();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -68,6 +68,7 @@ import com.sun.xml.ws.resources.WsservletMessages;
 import com.sun.xml.ws.server.UnsupportedMediaException;
 import com.sun.xml.ws.util.ByteArrayBuffer;
 import com.sun.xml.ws.util.Pool;
+import com.sun.xml.ws.util.SpillableOutputStream;
 
 
 /**
@@ -105,6 +106,11 @@ public class HttpAdapter extends Adapter<HttpAdapter.HttpToolkit> {
      */
     private ServiceDefinition serviceDefinition = null;
 
+    /**
+     * Documents of {@link #wsdls} as published, patched with port addresses.
+     */
+    private final DocumentCache documents = new DocumentCache();
+
     public final HttpAdapterList<? extends HttpAdapter> owner;
 
     /**
@@ -156,6 +162,7 @@ public class HttpAdapter extends Adapter<HttpAdapter.HttpToolkit> {
      */
     public final void initWSDLMap(final ServiceDefinition serviceDefinition) {
         this.serviceDefinition = serviceDefinition;
+        documents.clear();
         if(serviceDefinition==null) {
             wsdls = Collections.emptyMap();
             revWsdls = Collections.emptyMap();
@@ -884,6 +891,11 @@ public class HttpAdapter extends Adapter<HttpAdapter.HttpToolkit> {
             return;
         }
 
+        if (cacheDocuments) {
+            publishCachedDocument(con, doc);
+            return;
+        }
+
         con.setStatus(HttpURLConnection.HTTP_OK);
         con.setContentTypeResponseHeader("text/xml;charset=utf-8");
 
@@ -896,6 +908,47 @@ public class HttpAdapter extends Adapter<HttpAdapter.HttpToolkit> {
         os.close();
     }
 
+    /**
+     * Writes the document as patched for the base address of the connection
+     * by an earlier request, gzipped when the client accepts it, or only
+     * the status 304 when the client has it already.
+     */
+    private void publishCachedDocument(WSHTTPConnection con, SDDocument doc) throws IOException {
+        String baseAddress = con.getBaseAddress();
+        int addressVersion = owner.getAddressVersion();
+        DocumentCache.Document document = documents.get(doc, baseAddress, addressVersion);
+        if (document == null) {
+            PortAddressResolver portAddressResolver = getPortAddressResolver(baseAddress);
+            DocumentAddressResolver resolver = getDocumentAddressResolver(portAddressResolver);
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            doc.writeTo(portAddressResolver, resolver, baos);
+            document = documents.put(doc, baseAddress, addressVersion, baos.toByteArray());
+        }
+
+        boolean gzip = gzipDocuments && DocumentCache.acceptsGzip(con.getRequestHeaderValues("Accept-Encoding"));
+        String etag = gzip ? document.getGzippedETag() : document.getETag();
+        con.setResponseHeader("ETag", etag);
+        if (gzipDocuments) {
+            con.setResponseHeader("Vary", "Accept-Encoding");
+        }
+        if (DocumentCache.matches(con.getRequestHeaderValues("If-None-Match"), etag)) {
+            con.setStatus(HttpURLConnection.HTTP_NOT_MODIFIED);
+            con.getOutput().close();
+            return;
+        }
+
+        byte[] bytes = gzip ? document.getGzipped() : document.getBytes();
+        con.setStatus(HttpURLConnection.HTTP_OK);
+        con.setContentTypeResponseHeader("text/xml;charset=utf-8");
+        if (gzip) {
+            con.setResponseHeader("Content-Encoding", "gzip");
+        }
+        con.setContentLengthResponseHeader(bytes.length);
+        OutputStream os = con.getOutput();
+        os.write(bytes);
+        os.close();
+    }
+
     public PortAddressResolver getPortAddressResolver(String baseAddress) {
         return owner.createPortAddressResolver(baseAddress, endpoint.getImplementationClass());
     }
@@ -916,22 +969,39 @@ public class HttpAdapter extends Adapter<HttpAdapter.HttpToolkit> {
 
     /**
      * HTTP/1.0 connections require Content-Length. So just buffer to find out
-     * the length.
+     * the length, in memory up to {@link #http10BufferThreshold} bytes and
+     * in a temporary file beyond.
      */
-    private final static class Http10OutputStream extends ByteArrayBuffer {
+    private final static class Http10OutputStream extends SpillableOutputStream {
         private final WSHTTPConnection con;
+        private boolean sent;
 
         Http10OutputStream(WSHTTPConnection con) {
+            super(http10BufferThreshold);
             this.con = con;
         }
 
         @Override
         public void close() throws IOException {
             super.close();
-            con.setContentLengthResponseHeader(size());
-            OutputStream os = con.getOutput();
-            writeTo(os);
-            os.close();
+            if (sent) {
+                return;
+            }
+            sent = true;
+            try {
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.log(Level.FINE, "HTTP/1.0 response of {0} bytes buffered, {1} bytes in memory{2}",
+                            new Object[] {size(), getMemorySize(), isSpilled() ? ", the rest in a temporary file" : ""});
+                }
+                if (size() <= Integer.MAX_VALUE) {
+                    con.setContentLengthResponseHeader((int) size());
+                }
+                OutputStream os = con.getOutput();
+                writeTo(os);
+                os.close();
+            } finally {
+                dispose();
+            }
         }
     }
 
@@ -1089,6 +1159,23 @@ public class HttpAdapter extends Adapter<HttpAdapter.HttpToolkit> {
 
     public static volatile boolean publishStatusPage = true;
 
+    /**
+     * Number of bytes of a response to an HTTP/1.0 client kept in memory,
+     * the rest is written to a temporary file until the length is known.
+     */
+    public static volatile int http10BufferThreshold = 1024 * 1024;
+
+    /**
+     * Keeps the published WSDL and schema documents once patched for a base
+     * address, and answers the requests with a matching ETag with 304.
+     */
+    public static volatile boolean cacheDocuments = true;
+
+    /**
+     * Sends the cached documents gzipped to the clients that accept it.
+     */
+    public static volatile boolean gzipDocuments = true;
+
     public static synchronized void setPublishStatus(boolean publish) {
         publishStatusPage = publish;
     }
@@ -1118,6 +1205,34 @@ public class HttpAdapter extends Adapter<HttpAdapter.HttpToolkit> {
                         new Object[] {HttpAdapter.class.getName() + ".dumpThreshold"});
             }
         }
+        try {
+            http10BufferThreshold = Integer.getInteger(HttpAdapter.class.getName() + ".http10BufferThreshold", http10BufferThreshold);
+        } catch (SecurityException se) {
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults.",
+                        new Object[] {HttpAdapter.class.getName() + ".http10BufferThreshold"});
+            }
+        }
+        try {
+            if (System.getProperty(HttpAdapter.class.getName() + ".cacheDocuments") != null) {
+                cacheDocuments = Boolean.getBoolean(HttpAdapter.class.getName() + ".cacheDocuments");
+            }
+        } catch (SecurityException se) {
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults.",
+                        new Object[] {HttpAdapter.class.getName() + ".cacheDocuments"});
+            }
+        }
+        try {
+            if (System.getProperty(HttpAdapter.class.getName() + ".gzipDocuments") != null) {
+                gzipDocuments = Boolean.getBoolean(HttpAdapter.class.getName() + ".gzipDocuments");
+            }
+        } catch (SecurityException se) {
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults.",
+                        new Object[] {HttpAdapter.class.getName() + ".gzipDocuments"});
+            }
+        }
         try {
             if (System.getProperty(HttpAdapter.class.getName() + ".publishStatusPage") != null) {
                 setPublishStatus(Boolean.getBoolean(HttpAdapter.class.getName() + ".publishStatusPage"));
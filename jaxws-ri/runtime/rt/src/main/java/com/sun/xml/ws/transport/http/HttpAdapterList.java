@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -42,6 +42,8 @@ import java.util.Map.Entry;
 public abstract class HttpAdapterList<T extends HttpAdapter> extends AbstractList<T> implements AdapterFactory<T> {
     private final List<T> adapters = new ArrayList<>();
     private final Map<PortInfo, String> addressMap = new HashMap<>();
+    // changes with addressMap, for the documents patched with the port addresses
+    private volatile int addressVersion;
 
     /**
      * Default constructor.
@@ -57,10 +59,19 @@ public abstract class HttpAdapterList<T extends HttpAdapter> extends AbstractLis
         if (port != null) {
             PortInfo portInfo = new PortInfo(port.getOwner().getName(),port.getName().getLocalPart(), endpoint.getImplementationClass());
             addressMap.put(portInfo, getValidPath(urlPattern));
+            addressVersion++;
         }
         return t;
     }
 
+    /**
+     * Gets the version of the port addresses, which changes every time
+     * a port address is added.
+     */
+    int getAddressVersion() {
+        return addressVersion;
+    }
+
     /**
      * Implementations need to override this one to create a concrete class
      * of HttpAdapter
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.http.client;
+
+import com.sun.istack.NotNull;
+import com.sun.istack.Nullable;
+import com.sun.xml.ws.api.WSBinding;
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.pipe.Codec;
+import com.sun.xml.ws.api.pipe.ContentType;
+import com.sun.xml.ws.api.pipe.Fiber;
+import com.sun.xml.ws.api.pipe.NextAction;
+import com.sun.xml.ws.api.pipe.TubeCloner;
+import com.sun.xml.ws.api.pipe.helper.AbstractTubeImpl;
+import com.sun.xml.ws.client.BindingProviderProperties;
+import com.sun.xml.ws.client.ClientTransportException;
+import com.sun.xml.ws.developer.JAXWSProperties;
+import com.sun.xml.ws.resources.ClientMessages;
+import com.sun.xml.ws.transport.Headers;
+import com.sun.xml.ws.util.ByteArrayBuffer;
+
+import jakarta.xml.ws.WebServiceException;
+import jakarta.xml.ws.handler.MessageContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link HttpTransportPipe} that sends requests using {@link HttpClient}.
+ *
+ * <p>
+ * The request is encoded, sent with {@link HttpClient#sendAsync}, and the
+ * {@link Fiber} is suspended until the response status and headers have been
+ * received, so no thread is held while the request is outstanding. The
+ * response body is decoded as it is read from the connection, on the thread
+ * running the resumed fiber.
+ *
+ * <p>
+ * {@link HttpClient} doesn't expose the reason phrase of the status line,
+ * so the messages of the HTTP errors only have the status code.
+ *
+ * <p>
+ * Requests that need {@link java.net.HttpURLConnection} specific settings
+ * fall back to the blocking {@link HttpTransportPipe#process(Packet)}.
+ *
+ * @see AsyncHttpTransportTubeFactory
+ */
+public class AsyncHttpTransportTube extends HttpTransportPipe {
+
+    /*
+     * Headers that HttpClient sets itself, and rejects when set by the application
+     */
+    private static final String[] RESTRICTED_HEADERS = {"connection", "content-length", "expect", "host", "upgrade"};
+
+    private final HttpClient client;
+
+    /**
+     * @param codec codec to encode the requests and decode the responses
+     * @param binding the binding
+     * @param client client used to send the requests, null to use a client
+     *               shared by all the tubes
+     */
+    public AsyncHttpTransportTube(Codec codec, WSBinding binding, @Nullable HttpClient client) {
+        super(codec, binding);
+        this.client = client;
+    }
+
+    /*
+     * Copy constructor for {@link Tube#copy(TubeCloner)}.
+     */
+    protected AsyncHttpTransportTube(AsyncHttpTransportTube that, TubeCloner cloner) {
+        super(that, cloner);
+        this.client = that.client;
+    }
+
+    @Override
+    public NextAction processRequest(@NotNull final Packet request) {
+        if (!isSupported(request)) {
+            return super.processRequest(request);
+        }
+
+        final HttpRequest httpRequest;
+        final HttpClient httpClient;
+        try {
+            httpRequest = createRequest(request);
+            httpClient = getClient(request);
+        } catch (WebServiceException wex) {
+            throw wex;
+        } catch (Exception ex) {
+            throw new WebServiceException(ex);
+        }
+        final HttpResponseProperties props = new HttpResponseProperties();
+        request.addSatellite(props);
+        final ResponseDecoder decoder = new ResponseDecoder(props);
+
+        final Fiber fiber = Fiber.current();
+        return doSuspend(decoder, new Runnable() {
+            @Override
+            public void run() {
+                httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream())
+                        .whenComplete((response, error) -> {
+                            if (error != null) {
+                                fiber.resume(toException(error));
+                                return;
+                            }
+                            decoder.setResponse(response);
+                            fiber.resume(request);
+                        });
+            }
+        });
+    }
+
+    /*
+     * Properties that can't be applied to a single HttpClient request
+     */
+    private static boolean isSupported(Packet request) {
+        return request.invocationProperties.get(JAXWSProperties.HOSTNAME_VERIFIER) == null
+                && request.invocationProperties.get(JAXWSProperties.SSL_SOCKET_FACTORY) == null
+                && request.invocationProperties.get(JAXWSProperties.REQUEST_AUTHENTICATOR) == null;
+    }
+
+    private HttpClient getClient(Packet request) {
+        if (client != null) {
+            return client;
+        }
+        Integer connectTimeout = (Integer) request.invocationProperties.get(JAXWSProperties.CONNECT_TIMEOUT);
+        return AsyncHttpTransportTubeFactory.getSharedClient(connectTimeout);
+    }
+
+    private HttpRequest createRequest(Packet request) throws IOException {
+        Map<String, List<String>> reqHeaders = createRequestHeaders(request);
+
+        String requestMethod = (String) request.invocationProperties.get(MessageContext.HTTP_REQUEST_METHOD);
+        String method = (requestMethod != null) ? requestMethod : "POST";
+
+        HttpRequest.BodyPublisher body;
+        if (method.equalsIgnoreCase("GET") || method.equalsIgnoreCase("HEAD") || method.equalsIgnoreCase("DELETE")) {
+            ContentType ct = codec.getStaticContentType(request);
+            if (ct != null) {
+                addContentTypeHeaders(reqHeaders, ct);
+            }
+            body = HttpRequest.BodyPublishers.noBody();
+        } else {
+            final ByteArrayBuffer buf = new ByteArrayBuffer();
+            OutputStream out = buf;
+            if (isGzip(reqHeaders)) {
+                out = new GZIPOutputStream(buf);
+            }
+            ContentType ct = codec.encode(request, out);
+            out.close();
+            addContentTypeHeaders(reqHeaders, ct);
+
+            if (isDumpEnabled()) {
+                dump(buf, "HTTP request - " + request.endpointAddress, reqHeaders);
+            }
+
+            if (request.invocationProperties.get(JAXWSProperties.HTTP_CLIENT_STREAMING_CHUNK_SIZE) != null) {
+                // unknown length, so that the request is sent chunked
+                body = HttpRequest.BodyPublishers.ofInputStream(buf::newInputStream);
+            } else {
+                body = HttpRequest.BodyPublishers.ofByteArray(buf.getRawData(), 0, buf.size());
+            }
+        }
+
+        URI uri = request.endpointAddress.getURI();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).method(method, body);
+        Integer reqTimeout = (Integer) request.invocationProperties.get(BindingProviderProperties.REQUEST_TIMEOUT);
+        if (reqTimeout != null && reqTimeout > 0) {
+            builder.timeout(Duration.ofMillis(reqTimeout));
+        }
+        for (Map.Entry<String, List<String>> entry : reqHeaders.entrySet()) {
+            if (isRestricted(entry.getKey())) {
+                continue;
+            }
+            for (String value : entry.getValue()) {
+                builder.header(entry.getKey(), value);
+            }
+        }
+        return builder.build();
+    }
+
+    private Packet createResponsePacket(Packet request, HttpResponse<InputStream> response,
+            HttpResponseProperties props) throws IOException {
+        Map<String, List<String>> respHeaders = new Headers();
+        respHeaders.putAll(response.headers().map());
+        props.setResponse(respHeaders, response.statusCode());
+        recordCookies(request, respHeaders);
+
+        InputStream in = response.body();
+        long length = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        int cl = length > Integer.MAX_VALUE ? -1 : (int) length;
+        String contentEncoding = response.headers().firstValue("Content-Encoding").orElse(null);
+        if (cl != 0 && contentEncoding != null && contentEncoding.contains("gzip")) {
+            in = new GZIPInputStream(in);
+            cl = -1;
+        }
+        String contentType = response.headers().firstValue("Content-Type").orElse(null);
+        boolean secure = "https".equalsIgnoreCase(response.uri().getScheme());
+        return createResponsePacket(request, in, response.statusCode(), "", cl, contentType, secure, respHeaders);
+    }
+
+    private static Throwable toException(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof WebServiceException) {
+            return error;
+        }
+        return new ClientTransportException(ClientMessages.localizableHTTP_CLIENT_FAILED(error), error);
+    }
+
+    private static boolean isGzip(Map<String, List<String>> reqHeaders) {
+        List<String> contentEncoding = reqHeaders.get("Content-Encoding");
+        return contentEncoding != null && contentEncoding.get(0).contains("gzip");
+    }
+
+    private static boolean isRestricted(String header) {
+        String name = header.toLowerCase(Locale.ENGLISH);
+        for (String restricted : RESTRICTED_HEADERS) {
+            if (restricted.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public AsyncHttpTransportTube copy(TubeCloner cloner) {
+        return new AsyncHttpTransportTube(this, cloner);
+    }
+
+    /**
+     * Decodes the response once the fiber has been resumed, so that the
+     * body is not read on a thread of the {@link HttpClient}.
+     */
+    private final class ResponseDecoder extends AbstractTubeImpl {
+
+        private final HttpResponseProperties props;
+        private volatile HttpResponse<InputStream> response;
+
+        ResponseDecoder(HttpResponseProperties props) {
+            this.props = props;
+        }
+
+        private ResponseDecoder(ResponseDecoder that, TubeCloner cloner) {
+            super(that, cloner);
+            this.props = that.props;
+            this.response = that.response;
+        }
+
+        void setResponse(HttpResponse<InputStream> response) {
+            this.response = response;
+        }
+
+        @Override
+        public NextAction processRequest(@NotNull Packet request) {
+            try {
+                return doReturnWith(createResponsePacket(request, response, props));
+            } catch (WebServiceException wex) {
+                close();
+                throw wex;
+            } catch (Exception ex) {
+                close();
+                throw new WebServiceException(ex);
+            }
+        }
+
+        /*
+         * Releases the connection of a response that won't be read.
+         */
+        private void close() {
+            try {
+                response.body().close();
+            } catch (IOException e) {
+                // the failure is reported instead
+            }
+        }
+
+        @Override
+        public NextAction processResponse(@NotNull Packet response) {
+            return doReturnWith(response);
+        }
+
+        @Override
+        public NextAction processException(@NotNull Throwable t) {
+            return doThrow(t);
+        }
+
+        @Override
+        public void preDestroy() {
+        }
+
+        @Override
+        public ResponseDecoder copy(TubeCloner cloner) {
+            return new ResponseDecoder(this, cloner);
+        }
+    }
+}
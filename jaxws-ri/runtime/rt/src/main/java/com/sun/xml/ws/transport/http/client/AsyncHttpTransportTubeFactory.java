@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.http.client;
+
+import com.sun.istack.NotNull;
+import com.sun.istack.Nullable;
+import com.sun.xml.ws.api.pipe.ClientTubeAssemblerContext;
+import com.sun.xml.ws.api.pipe.TransportTubeFactory;
+import com.sun.xml.ws.api.pipe.Tube;
+import com.sun.xml.ws.developer.AsyncHttpTransportFeature;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates {@link AsyncHttpTransportTube} for http and https endpoints of
+ * proxies with {@link AsyncHttpTransportFeature}, or for all proxies when
+ * the {@code com.sun.xml.ws.transport.http.client.AsyncHttpTransportTubeFactory.enabled}
+ * system property is set.
+ *
+ * <p>
+ * Unless the feature gives its own {@link HttpClient}, all the tubes share
+ * one client per connect timeout, so that connections are pooled and
+ * multiplexed across proxies. Like the requests sent with
+ * {@link java.net.HttpURLConnection} in fixed length streaming mode,
+ * redirects are not followed.
+ */
+public class AsyncHttpTransportTubeFactory extends TransportTubeFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncHttpTransportTubeFactory.class.getName());
+
+    private static boolean enabled;
+
+    private static final Map<Integer, HttpClient> sharedClients = new ConcurrentHashMap<>();
+
+    static {
+        try {
+            enabled = Boolean.getBoolean(AsyncHttpTransportTubeFactory.class.getName() + ".enabled");
+        } catch (SecurityException se) {
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults.",
+                        new Object[]{AsyncHttpTransportTubeFactory.class.getName() + ".enabled"});
+            }
+        }
+    }
+
+    /**
+     * Default constructor.
+     */
+    public AsyncHttpTransportTubeFactory() {}
+
+    @Override
+    public Tube doCreate(@NotNull ClientTubeAssemblerContext context) {
+        String scheme = context.getAddress().getURI().getScheme();
+        if (scheme == null || !(scheme.equalsIgnoreCase("http") || scheme.equalsIgnoreCase("https"))) {
+            return null;
+        }
+        AsyncHttpTransportFeature feature = context.getBinding().getFeature(AsyncHttpTransportFeature.class);
+        if (feature != null && feature.isEnabled()) {
+            return new AsyncHttpTransportTube(context.getCodec(), context.getBinding(), feature.getHttpClient());
+        }
+        if (feature == null && enabled) {
+            return new AsyncHttpTransportTube(context.getCodec(), context.getBinding(), null);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the client shared by the tubes without their own {@link HttpClient}.
+     *
+     * @param connectTimeout connect timeout in milliseconds, null if not set
+     * @return the shared client
+     */
+    static HttpClient getSharedClient(@Nullable Integer connectTimeout) {
+        Integer key = (connectTimeout != null && connectTimeout > 0) ? connectTimeout : 0;
+        return sharedClients.computeIfAbsent(key, AsyncHttpTransportTubeFactory::createClient);
+    }
+
+    private static HttpClient createClient(Integer connectTimeout) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NEVER);
+        if (connectTimeout > 0) {
+            builder.connectTimeout(Duration.ofMillis(connectTimeout));
+        }
+        return builder.build();
+    }
+}
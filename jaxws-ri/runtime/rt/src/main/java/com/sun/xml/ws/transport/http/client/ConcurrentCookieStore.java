@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.http.client;
+
+import java.net.HttpCookie;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link java.net.CookieStore} for clients shared by many threads.
+ *
+ * <p>
+ * The cookies are kept in shards, one per cookie domain and one per URI the
+ * cookies came from. A lookup reads only the shards of the domains the host
+ * is in, without locking; adding or removing a cookie locks only the shards
+ * of that cookie, and a shard is dropped once its last cookie is removed.
+ * Expired cookies are removed when a lookup finds them.
+ *
+ * <p>
+ * The cookies are matched with the rules of {@link InMemoryCookieStore},
+ * except that the domain of a cookie has to end at a label of the host:
+ * a cookie of {@code ample.com} isn't sent to {@code example.com}.
+ */
+public final class ConcurrentCookieStore implements java.net.CookieStore {
+
+    // marks the cookies added without URI, the map can't hold null
+    private static final URI NO_URI = URI.create("");
+
+    // all the cookies
+    private final Map<HttpCookie, Stored> cookies = new ConcurrentHashMap<>();
+    // cookies by lower case domain, the lists are replaced on every change, never modified
+    private final Map<String, List<HttpCookie>> domainIndex = new ConcurrentHashMap<>();
+    // cookies by effective URI, the lists are replaced on every change, never modified
+    private final Map<URI, List<HttpCookie>> uriIndex = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty store.
+     */
+    public ConcurrentCookieStore() {
+    }
+
+    @Override
+    public void add(URI uri, HttpCookie cookie) {
+        if (cookie == null) {
+            throw new NullPointerException("cookie is null");
+        }
+        cookies.compute(cookie, (c, old) -> {
+            if (old != null) {
+                unindex(old);
+            }
+            // a cookie with a zero max-age only removes the old one
+            if (cookie.getMaxAge() == 0) {
+                return null;
+            }
+            URI effectiveURI = uri != null ? InMemoryCookieStore.getEffectiveURI(uri) : NO_URI;
+            if (cookie.getDomain() != null) {
+                index(domainIndex, domainKey(cookie.getDomain()), cookie);
+            }
+            if (effectiveURI != NO_URI) {
+                index(uriIndex, effectiveURI, cookie);
+            }
+            return new Stored(cookie, effectiveURI);
+        });
+    }
+
+    @Override
+    public List<HttpCookie> get(URI uri) {
+        if (uri == null) {
+            throw new NullPointerException("uri is null");
+        }
+        List<HttpCookie> result = new ArrayList<>();
+        boolean secureLink = "https".equalsIgnoreCase(uri.getScheme());
+        String host = uri.getHost();
+        if (host != null) {
+            String h = host.toLowerCase(Locale.ENGLISH);
+            // the domains the host can be in: the host, .host and every
+            // parent domain with and without the leading dot
+            collect(result, h, host, secureLink);
+            collect(result, '.' + h, host, secureLink);
+            for (int dot = h.indexOf('.'); dot >= 0; dot = h.indexOf('.', dot + 1)) {
+                collect(result, h.substring(dot), host, secureLink);
+                if (dot + 1 < h.length()) {
+                    collect(result, h.substring(dot + 1), host, secureLink);
+                }
+            }
+            if (h.indexOf('.') == -1) {
+                collect(result, ".local", host, secureLink);
+            }
+        }
+        List<HttpCookie> shard = uriIndex.get(InMemoryCookieStore.getEffectiveURI(uri));
+        if (shard != null) {
+            for (HttpCookie c : shard) {
+                if (expired(c)) {
+                    continue;
+                }
+                if ((secureLink || !c.getSecure()) && !result.contains(c)) {
+                    result.add(c);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<HttpCookie> getCookies() {
+        List<HttpCookie> result = new ArrayList<>(cookies.size());
+        for (Stored s : cookies.values()) {
+            if (!expired(s.cookie)) {
+                result.add(s.cookie);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public List<URI> getURIs() {
+        // the shards are never empty
+        return new ArrayList<>(uriIndex.keySet());
+    }
+
+    @Override
+    public boolean remove(URI uri, HttpCookie cookie) {
+        if (cookie == null) {
+            throw new NullPointerException("cookie is null");
+        }
+        boolean[] removed = new boolean[1];
+        cookies.computeIfPresent(cookie, (c, old) -> {
+            unindex(old);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    @Override
+    public boolean removeAll() {
+        // one by one, so that a cookie added meanwhile stays indexed
+        boolean removed = false;
+        for (HttpCookie cookie : cookies.keySet()) {
+            removed |= remove(null, cookie);
+        }
+        return removed;
+    }
+
+    private void collect(List<HttpCookie> result, String domain, String host, boolean secureLink) {
+        List<HttpCookie> shard = domainIndex.get(domain);
+        if (shard == null) {
+            return;
+        }
+        for (HttpCookie c : shard) {
+            String d = c.getDomain();
+            if ((c.getVersion() == 0 && InMemoryCookieStore.netscapeDomainMatches(d, host))
+                    || (c.getVersion() == 1 && HttpCookie.domainMatches(d, host))) {
+                if (expired(c)) {
+                    continue;
+                }
+                if ((secureLink || !c.getSecure()) && !result.contains(c)) {
+                    result.add(c);
+                }
+            }
+        }
+    }
+
+    /*
+     * Removes the cookie if it has expired.
+     */
+    private boolean expired(HttpCookie cookie) {
+        if (!cookie.hasExpired()) {
+            return false;
+        }
+        remove(null, cookie);
+        return true;
+    }
+
+    private void unindex(Stored stored) {
+        HttpCookie cookie = stored.cookie;
+        if (cookie.getDomain() != null) {
+            unindex(domainIndex, domainKey(cookie.getDomain()), cookie);
+        }
+        if (stored.uri != NO_URI) {
+            unindex(uriIndex, stored.uri, cookie);
+        }
+    }
+
+    private static <K> void index(Map<K, List<HttpCookie>> index, K key, HttpCookie cookie) {
+        index.compute(key, (k, shard) -> {
+            List<HttpCookie> l = new ArrayList<>(shard != null ? shard.size() + 1 : 1);
+            if (shard != null) {
+                for (HttpCookie c : shard) {
+                    if (!c.equals(cookie)) {
+                        l.add(c);
+                    }
+                }
+            }
+            l.add(cookie);
+            return l;
+        });
+    }
+
+    private static <K> void unindex(Map<K, List<HttpCookie>> index, K key, HttpCookie cookie) {
+        index.computeIfPresent(key, (k, shard) -> {
+            if (!shard.contains(cookie)) {
+                return shard;
+            }
+            if (shard.size() == 1) {
+                // dropped, the store doesn't keep a shard for every host it has seen
+                return null;
+            }
+            List<HttpCookie> l = new ArrayList<>(shard);
+            l.remove(cookie);
+            return l;
+        });
+    }
+
+    private static String domainKey(String domain) {
+        return domain.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * A cookie of the store, with the URI it is indexed by.
+     */
+    private static final class Stored {
+        final HttpCookie cookie;
+        final URI uri;
+
+        Stored(HttpCookie cookie, URI uri) {
+            this.cookie = cookie;
+            this.uri = uri;
+        }
+    }
+}
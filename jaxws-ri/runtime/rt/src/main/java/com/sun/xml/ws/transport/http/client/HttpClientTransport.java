@@ -70,6 +70,7 @@ public class HttpClientTransport {
     private final EndpointAddress endpoint;
     private final Packet context;
     private final Integer chunkSize;
+    private long fixedContentLength = -1;
 
 
     public HttpClientTransport(@NotNull Packet packet, @NotNull Map<String,List<String>> reqHeaders) {
@@ -91,9 +92,7 @@ public class HttpClientTransport {
                 if (chunkSize != null) {
                     outputStream = new WSChunkedOuputStream(outputStream, chunkSize);
                 }
-                List<String> contentEncoding = reqHeaders.get("Content-Encoding");
-                // TODO need to find out correct encoding based on q value - RFC 2616
-                if (contentEncoding != null && contentEncoding.get(0).contains("gzip")) {
+                if (isGzipRequest()) {
                     outputStream = new GZIPOutputStream(outputStream);
                 }
             }
@@ -106,6 +105,14 @@ public class HttpClientTransport {
         return outputStream;
     }
 
+    /*
+     * Request body of the given length is streamed to the server
+     * instead of being buffered by the connection.
+     */
+    void setFixedContentLength(long contentLength) {
+        this.fixedContentLength = contentLength;
+    }
+
     void closeOutput() throws IOException {
         if (outputStream != null) {
             outputStream.close();
@@ -255,6 +262,8 @@ public class HttpClientTransport {
         Integer chunkSize = (Integer)context.invocationProperties.get(JAXWSProperties.HTTP_CLIENT_STREAMING_CHUNK_SIZE);
         if (chunkSize != null) {
             httpConnection.setChunkedStreamingMode(chunkSize);
+        } else if (fixedContentLength >= 0 && !isGzipRequest()) {
+            httpConnection.setFixedLengthStreamingMode(fixedContentLength);
         }
 
         Authenticator auth = (Authenticator)context.invocationProperties.get(JAXWSProperties.REQUEST_AUTHENTICATOR);
@@ -271,6 +280,12 @@ public class HttpClientTransport {
         }
     }
 
+    private boolean isGzipRequest() {
+        List<String> contentEncoding = reqHeaders.get("Content-Encoding");
+        // TODO need to find out correct encoding based on q value - RFC 2616
+        return contentEncoding != null && contentEncoding.get(0).contains("gzip");
+    }
+
     boolean isSecure() {
         return https;
     }
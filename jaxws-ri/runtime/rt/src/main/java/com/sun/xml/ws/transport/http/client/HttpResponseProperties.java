@@ -27,19 +27,34 @@ import java.util.Map;
 final class HttpResponseProperties extends BasePropertySet {
 
     private final HttpClientTransport deferedCon;
+    private Map<String, List<String>> headers;
+    private int statusCode;
 
     public HttpResponseProperties(@NotNull HttpClientTransport con) {
         this.deferedCon = con;
     }
 
+    /*
+     * For transports that don't use {@link HttpClientTransport}. The response
+     * is given using {@link #setResponse(Map, int)} once it is received.
+     */
+    HttpResponseProperties() {
+        this.deferedCon = null;
+    }
+
+    void setResponse(@NotNull Map<String, List<String>> headers, int statusCode) {
+        this.headers = headers;
+        this.statusCode = statusCode;
+    }
+
     @Property(MessageContext.HTTP_RESPONSE_HEADERS)
     public Map<String, List<String>> getResponseHeaders() {
-        return deferedCon.getHeaders();
+        return deferedCon != null ? deferedCon.getHeaders() : headers;
     }
 
     @Property(MessageContext.HTTP_RESPONSE_CODE)
     public int getResponseCode() {
-        return deferedCon.statusCode;
+        return deferedCon != null ? deferedCon.statusCode : statusCode;
     }
 
     @Override
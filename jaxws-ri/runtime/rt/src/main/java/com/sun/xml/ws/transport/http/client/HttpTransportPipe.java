@@ -19,6 +19,7 @@ import com.sun.xml.ws.api.pipe.*;
 import com.sun.xml.ws.api.pipe.helper.AbstractTubeImpl;
 import com.sun.xml.ws.client.ClientTransportException;
 import com.sun.xml.ws.developer.HttpConfigFeature;
+import com.sun.xml.ws.developer.JAXWSProperties;
 import com.sun.xml.ws.resources.ClientMessages;
 import com.sun.xml.ws.resources.WsservletMessages;
 import com.sun.xml.ws.transport.Headers;
@@ -26,6 +27,7 @@ import com.sun.xml.ws.transport.http.HttpAdapter;
 import com.sun.xml.ws.util.ByteArrayBuffer;
 import com.sun.xml.ws.util.MessageWriter;
 import com.sun.xml.ws.util.RuntimeVersion;
+import com.sun.xml.ws.util.SpillableOutputStream;
 import com.sun.xml.ws.util.StreamUtils;
 
 import com.sun.xml.ws.util.UtilException;
@@ -74,8 +76,14 @@ public class HttpTransportPipe extends AbstractTubeImpl {
      */
     public static boolean dump;
 
-    private final Codec codec;
-    private final WSBinding binding;
+    /**
+     * Default for {@link JAXWSProperties#HTTP_CLIENT_REQUEST_BUFFER_THRESHOLD},
+     * null if requests are buffered in memory.
+     */
+    private static Integer requestBufferThreshold;
+
+    protected final Codec codec;
+    protected final WSBinding binding;
     private final CookieHandler cookieJar;      // shared object among the tubes
     private final boolean sticky;
 
@@ -88,6 +96,14 @@ public class HttpTransportPipe extends AbstractTubeImpl {
                         new Object[]{HttpTransportPipe.class.getName() + ".dump"});
             }
         }
+        try {
+            requestBufferThreshold = Integer.getInteger(JAXWSProperties.HTTP_CLIENT_REQUEST_BUFFER_THRESHOLD);
+        } catch (SecurityException se) {
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults.",
+                        new Object[]{JAXWSProperties.HTTP_CLIENT_REQUEST_BUFFER_THRESHOLD});
+            }
+        }
     }
 
     public HttpTransportPipe(Codec codec, WSBinding binding) {
@@ -116,7 +132,7 @@ public class HttpTransportPipe extends AbstractTubeImpl {
     /*
      * Copy constructor for {@link Tube#copy(TubeCloner)}.
      */
-    private HttpTransportPipe(HttpTransportPipe that, TubeCloner cloner) {
+    protected HttpTransportPipe(HttpTransportPipe that, TubeCloner cloner) {
         this(that.codec.copy(), that.binding);
         cloner.add(that,this);
     }
@@ -140,47 +156,86 @@ public class HttpTransportPipe extends AbstractTubeImpl {
         return new HttpClientTransport(request, reqHeaders);
     }
 
+    /**
+     * Creates the HTTP request headers for the given request: the headers
+     * set by the application, User-Agent, basic authentication and cookies.
+     *
+     * @param request the request packet
+     * @return modifiable map of HTTP headers
+     * @throws IOException if the cookies cannot be retrieved
+     */
+    protected Map<String, List<String>> createRequestHeaders(Packet request) throws IOException {
+        Map<String, List<String>> reqHeaders = new Headers();
+        @SuppressWarnings("unchecked")
+        Map<String, List<String>> userHeaders = (Map<String, List<String>>) request.invocationProperties.get(MessageContext.HTTP_REQUEST_HEADERS);
+        boolean addUserAgent = true;
+        if (userHeaders != null) {
+            // userHeaders may not be modifiable like SingletonMap, just copy them
+            reqHeaders.putAll(userHeaders);
+            // application wants to use its own User-Agent header
+            if (userHeaders.get("User-Agent") != null) {
+                addUserAgent = false;
+            }
+        }
+        if (addUserAgent) {
+            reqHeaders.put("User-Agent", USER_AGENT);
+        }
+
+        addBasicAuth(request, reqHeaders);
+        addCookies(request, reqHeaders);
+        return reqHeaders;
+    }
+
+    /**
+     * Sets Content-Type, Accept and SOAPAction headers from the content type
+     * of the encoded request.
+     */
+    protected void addContentTypeHeaders(Map<String, List<String>> reqHeaders, ContentType ct) {
+        reqHeaders.put("Content-Type", Collections.singletonList(ct.getContentType()));
+        if (ct.getAcceptHeader() != null) {
+            reqHeaders.put("Accept", Collections.singletonList(ct.getAcceptHeader()));
+        }
+        if (binding instanceof SOAPBinding) {
+            writeSOAPAction(reqHeaders, ct.getSOAPActionHeader());
+        }
+    }
+
     @Override
     public Packet process(Packet request) {
         HttpClientTransport con;
         try {
             // get transport headers from message
-            Map<String, List<String>> reqHeaders = new Headers();
-            @SuppressWarnings("unchecked")
-            Map<String, List<String>> userHeaders = (Map<String, List<String>>) request.invocationProperties.get(MessageContext.HTTP_REQUEST_HEADERS);
-            boolean addUserAgent = true;
-            if (userHeaders != null) {
-                // userHeaders may not be modifiable like SingletonMap, just copy them
-                reqHeaders.putAll(userHeaders);
-                // application wants to use its own User-Agent header
-                if (userHeaders.get("User-Agent") != null) {
-                    addUserAgent = false;
-                }
-            }
-            if (addUserAgent) {
-                reqHeaders.put("User-Agent", USER_AGENT);
-            }
-
-            addBasicAuth(request, reqHeaders);
-            addCookies(request, reqHeaders);
+            Map<String, List<String>> reqHeaders = createRequestHeaders(request);
 
             con = getTransport(request, reqHeaders);
             request.addSatellite(new HttpResponseProperties(con));
 
             ContentType ct = codec.getStaticContentType(request);
-            if (ct == null) {
+            Integer threshold = getRequestBufferThreshold(request);
+            if (ct == null && threshold != null && !(dump || LOGGER.isLoggable(Level.FINER))) {
+                // keeps at most threshold bytes on heap, and streams to the connection
+                SpillableOutputStream buf = new SpillableOutputStream(threshold);
+                try {
+                    ct = codec.encode(request, buf);
+                    buf.close();
+                    reqHeaders.put("Content-Length", Collections.singletonList(Long.toString(buf.size())));
+                    addContentTypeHeaders(reqHeaders, ct);
+
+                    con.setFixedContentLength(buf.size());
+                    OutputStream os = con.getOutput();
+                    if (os != null) {
+                        buf.writeTo(os);
+                    }
+                } finally {
+                    buf.dispose();
+                }
+            } else if (ct == null) {
                 ByteArrayBuffer buf = new ByteArrayBuffer();
 
                 ct = codec.encode(request, buf);
                 // data size is available, set it as Content-Length
                 reqHeaders.put("Content-Length", Collections.singletonList(Integer.toString(buf.size())));
-                reqHeaders.put("Content-Type", Collections.singletonList(ct.getContentType()));
-                if (ct.getAcceptHeader() != null) {
-                    reqHeaders.put("Accept", Collections.singletonList(ct.getAcceptHeader()));
-                }
-                if (binding instanceof SOAPBinding) {
-                    writeSOAPAction(reqHeaders, ct.getSOAPActionHeader());
-                }
+                addContentTypeHeaders(reqHeaders, ct);
 
                 if (dump || LOGGER.isLoggable(Level.FINER)) {
                     dump(buf, "HTTP request", reqHeaders);
@@ -189,13 +244,7 @@ public class HttpTransportPipe extends AbstractTubeImpl {
                 buf.writeTo(con.getOutput());
             } else {
                 // Set static Content-Type
-                reqHeaders.put("Content-Type", Collections.singletonList(ct.getContentType()));
-                if (ct.getAcceptHeader() != null) {
-                    reqHeaders.put("Accept", Collections.singletonList(ct.getAcceptHeader()));
-                }
-                if (binding instanceof SOAPBinding) {
-                    writeSOAPAction(reqHeaders, ct.getSOAPActionHeader());
-                }
+                addContentTypeHeaders(reqHeaders, ct);
 
                 if(dump || LOGGER.isLoggable(Level.FINER)) {
                     ByteArrayBuffer buf = new ByteArrayBuffer();
@@ -223,23 +272,52 @@ public class HttpTransportPipe extends AbstractTubeImpl {
         }
     }
 
+    static Integer getRequestBufferThreshold(Packet request) {
+        Object threshold = request.invocationProperties.get(JAXWSProperties.HTTP_CLIENT_REQUEST_BUFFER_THRESHOLD);
+        if (threshold instanceof Integer) {
+            return (Integer) threshold;
+        }
+        return requestBufferThreshold;
+    }
+
     private Packet createResponsePacket(Packet request, HttpClientTransport con) throws IOException {
         con.readResponseCodeAndMessage();   // throws IOE
-        recordCookies(request, con);
+        recordCookies(request, con.getHeaders());
 
         InputStream responseStream = con.getInput();
+        return createResponsePacket(request, responseStream, con.statusCode, con.statusMessage,
+                con.contentLength, con.getContentType(), con.isSecure(), con.getHeaders());
+    }
+
+    /**
+     * Creates the response packet from a received HTTP response, after
+     * checking its status code.
+     *
+     * @param request the request packet
+     * @param responseStream response body, null if there is none
+     * @param statusCode HTTP status code
+     * @param statusMessage HTTP status message, may be null
+     * @param cl value of Content-Length header, -1 if not known
+     * @param contentType value of Content-Type header, may be null
+     * @param secure true if the response was received over a secure connection
+     * @param respHeaders HTTP response headers
+     * @return the response packet
+     * @throws IOException if the response cannot be read
+     */
+    protected Packet createResponsePacket(Packet request, InputStream responseStream,
+            int statusCode, String statusMessage, int cl, String contentType,
+            boolean secure, Map<String, List<String>> respHeaders) throws IOException {
         if (dump || LOGGER.isLoggable(Level.FINER)) {
             ByteArrayBuffer buf = new ByteArrayBuffer();
             if (responseStream != null) {
                 buf.write(responseStream);
                 responseStream.close();
             }
-            dump(buf,"HTTP response - "+request.endpointAddress+" - "+con.statusCode, con.getHeaders());
+            dump(buf,"HTTP response - "+request.endpointAddress+" - "+statusCode, respHeaders);
             responseStream = buf.newInputStream();
         }
 
         // Check if stream contains any data
-        int cl = con.contentLength;
         InputStream tempIn = null;
         if (cl == -1) {                     // No Content-Length header
             tempIn = StreamUtils.hasSomeData(responseStream);
@@ -257,9 +335,9 @@ public class HttpTransportPipe extends AbstractTubeImpl {
 
         // Allows only certain http status codes for a binding. For all
         // other status codes, throws exception
-        checkStatusCode(responseStream, con); // throws ClientTransportException
+        checkStatusCode(responseStream, statusCode, statusMessage); // throws ClientTransportException
         //To avoid zero-length chunk for One-Way
-        if (cl ==-1 && con.statusCode == 202 && "Accepted".equals(con.statusMessage) && responseStream != null) {
+        if (cl ==-1 && statusCode == 202 && "Accepted".equals(statusMessage) && responseStream != null) {
             ByteArrayBuffer buf = new ByteArrayBuffer();
             buf.write(responseStream); //What is within the responseStream?
             responseStream.close();
@@ -267,11 +345,10 @@ public class HttpTransportPipe extends AbstractTubeImpl {
             buf.close();
         }
         Packet reply = request.createClientResponse(null);
-        reply.wasTransportSecure = con.isSecure();
+        reply.wasTransportSecure = secure;
         if (responseStream != null) {
-            String contentType = con.getContentType();
             if (contentType != null && contentType.contains("text/html") && binding instanceof SOAPBinding) {
-                throw new ClientTransportException(ClientMessages.localizableHTTP_STATUS_CODE(con.statusCode, con.statusMessage));
+                throw new ClientTransportException(ClientMessages.localizableHTTP_STATUS_CODE(statusCode, statusMessage));
             }
             codec.decode(responseStream, contentType, reply);
         }
@@ -286,9 +363,7 @@ public class HttpTransportPipe extends AbstractTubeImpl {
      *
      * For all other status codes, it throws an exception
      */
-    private void checkStatusCode(InputStream in, HttpClientTransport con) throws IOException {
-        int statusCode = con.statusCode;
-        String statusMessage = con.statusMessage;
+    private void checkStatusCode(InputStream in, int statusCode, String statusMessage) throws IOException {
         // SOAP1.1 and SOAP1.2 differ here
         if (binding instanceof SOAPBinding) {
             if (binding.getSOAPVersion() == SOAPVersion.SOAP_12) {
@@ -368,14 +443,17 @@ public class HttpTransportPipe extends AbstractTubeImpl {
         }
     }
 
-    private void recordCookies(Packet context, HttpClientTransport con) throws IOException {
+    /**
+     * Stores the cookies of the response when the session is maintained.
+     */
+    protected void recordCookies(Packet context, Map<String, List<String>> respHeaders) throws IOException {
         Boolean shouldMaintainSessionProperty =
                 (Boolean) context.invocationProperties.get(BindingProvider.SESSION_MAINTAIN_PROPERTY);
         if (shouldMaintainSessionProperty != null && !shouldMaintainSessionProperty) {
             return;         // explicitly turned off
         }
         if (sticky || (shouldMaintainSessionProperty != null && shouldMaintainSessionProperty)) {
-            cookieJar.put(context.endpointAddress.getURI(), con.getHeaders());
+            cookieJar.put(context.endpointAddress.getURI(), respHeaders);
         }
     }
 
@@ -420,7 +498,14 @@ public class HttpTransportPipe extends AbstractTubeImpl {
     }
 
 
-    private void dump(ByteArrayBuffer buf, String caption, Map<String, List<String>> headers) throws IOException {
+    /**
+     * @return true if the HTTP traffic is to be dumped
+     */
+    protected static boolean isDumpEnabled() {
+        return dump || LOGGER.isLoggable(Level.FINER);
+    }
+
+    protected void dump(ByteArrayBuffer buf, String caption, Map<String, List<String>> headers) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         MessageWriter pw = new MessageWriter(new OutputStreamWriter(baos), HttpAdapter.dump_threshold);
         pw.println("---["+caption +"]---");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2006, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2006, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -227,7 +227,7 @@ class InMemoryCookieStore implements CookieStore {
      * passed along.
      * And should be used for 'old' style cookies (aka Netscape type of cookies)
      */
-    private boolean netscapeDomainMatches(String domain, String host)
+    static boolean netscapeDomainMatches(String domain, String host)
     {
         if (domain == null || host == null) {
             return false;
@@ -374,7 +374,7 @@ class InMemoryCookieStore implements CookieStore {
     // for cookie purpose, the effective uri should only be http://host
     // the path will be taken into account when path-match algorithm applied
     //
-    private URI getEffectiveURI(URI uri) {
+    static URI getEffectiveURI(URI uri) {
         URI effectiveURI;
         try {
             effectiveURI = new URI("http",
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,6 +11,9 @@
 package com.sun.xml.ws.transport.http.server;
 
 import com.sun.net.httpserver.HttpContext;
+import com.sun.xml.ws.api.Component;
+import com.sun.xml.ws.api.monitoring.ExecutorStatistics;
+import com.sun.xml.ws.developer.HttpServerExecutorFeature;
 import com.sun.xml.ws.transport.http.HttpAdapter;
 import com.sun.xml.ws.transport.http.HttpAdapterList;
 import com.sun.xml.ws.server.ServerRtException;
@@ -38,6 +41,9 @@ public final class HttpEndpoint extends com.sun.xml.ws.api.server.HttpEndpoint {
     private HttpContext httpContext;
     private final HttpAdapter adapter;
     private final Executor executor;
+    // threads of the server created by the runtime, null for a context of the application
+    private ServerExecutor serverExecutor;
+    private Component statistics;
 
     public HttpEndpoint(Executor executor, HttpAdapter adapter) {
         this.executor = executor;
@@ -47,7 +53,19 @@ public final class HttpEndpoint extends com.sun.xml.ws.api.server.HttpEndpoint {
     @Override
     public void publish(String address) {
         this.address = address;
-        httpContext = ServerMgr.getInstance().createContext(address);
+        HttpServerExecutorFeature feature = adapter.getEndpoint().getBinding().getFeature(HttpServerExecutorFeature.class);
+        httpContext = ServerMgr.getInstance().createContext(address, feature);
+        serverExecutor = ServerMgr.getInstance().getExecutor(httpContext);
+        if (serverExecutor != null && executor == null) {
+            final ExecutorStatistics stats = serverExecutor.getStatistics();
+            statistics = new Component() {
+                @Override
+                public <S> S getSPI(Class<S> spiType) {
+                    return spiType == ExecutorStatistics.class ? spiType.cast(stats) : null;
+                }
+            };
+            adapter.getEndpoint().getComponents().add(statistics);
+        }
         publish(httpContext);
     }
 
@@ -99,13 +117,21 @@ public final class HttpEndpoint extends com.sun.xml.ws.api.server.HttpEndpoint {
                 ServerMgr.getInstance().removeContext(httpContext);
             }
         }
+        if (statistics != null) {
+            adapter.getEndpoint().getComponents().remove(statistics);
+        }
 
         // Invoke WebService Life cycle method
         adapter.getEndpoint().dispose();
     }
 
     private void setHandler(HttpContext context) {
-        context.setHandler(new WSHttpHandler(adapter, executor));
+        // the application's executor takes precedence over the server's
+        Executor requestExecutor = executor;
+        if (requestExecutor == null && serverExecutor != null) {
+            requestExecutor = serverExecutor.getRequestExecutor();
+        }
+        context.setHandler(new WSHttpHandler(adapter, requestExecutor));
     }
 
     private void setHandler(jakarta.xml.ws.spi.http.HttpContext context) {
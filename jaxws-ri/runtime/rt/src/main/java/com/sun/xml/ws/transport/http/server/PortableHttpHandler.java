@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -20,6 +20,7 @@ import jakarta.xml.ws.spi.http.HttpHandler;
 import jakarta.xml.ws.spi.http.HttpExchange;
 import java.io.IOException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -61,7 +62,16 @@ final class PortableHttpHandler extends HttpHandler {
             if (executor != null) {
                 // Use application's Executor to handle request. Application may
                 // have set an executor using Endpoint.setExecutor().
-                executor.execute(new HttpHandlerRunnable(msg));
+                try {
+                    executor.execute(new HttpHandlerRunnable(msg));
+                } catch (RejectedExecutionException e) {
+                    // saturated, let the client retry later
+                    if (logger.isLoggable(Level.FINE)) {
+                        logger.log(Level.FINE, "Request rejected:{0}", e.getMessage());
+                    }
+                    msg.setStatus(503);
+                    msg.close();
+                }
             } else {
                 handleExchange(msg);
             }
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.http.server;
+
+import com.sun.istack.NotNull;
+import com.sun.istack.Nullable;
+import com.sun.xml.ws.api.monitoring.ExecutorStatistics;
+import com.sun.xml.ws.api.pipe.Engine;
+import com.sun.xml.ws.developer.HttpServerExecutorFeature;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Threads of an HTTP server created by {@link ServerMgr}.
+ *
+ * <p>
+ * The HTTP server runs the exchanges on the {@link #getServerExecutor() server executor}.
+ * When requests are limited, the handlers pass them to the
+ * {@link #getRequestExecutor() request executor}, which throws
+ * {@link RejectedExecutionException} when it is saturated, so that the
+ * handler can answer 503 right away.
+ *
+ * @see HttpServerExecutorFeature
+ */
+final class ServerExecutor {
+
+    private static final Logger LOGGER =
+        Logger.getLogger(
+            com.sun.xml.ws.util.Constants.LoggingDomain + ".server.http");
+
+    private final ExecutorService serverExecutor;
+    private final @Nullable Executor requestExecutor;
+    private final ExecutorStatistics statistics;
+    private final LongAdder rejected = new LongAdder();
+    private final HttpServerExecutorFeature feature;
+
+    private ServerExecutor(HttpServerExecutorFeature feature) {
+        this.feature = feature;
+        final int maxThreads = feature.getMaxThreads();
+        ExecutorService virtual = feature.isVirtualThreads() ? Engine.createVirtualThreadExecutor() : null;
+        if (feature.isVirtualThreads() && virtual == null) {
+            LOGGER.warning("Virtual threads are not supported by this JVM, HTTP server uses a thread pool instead");
+        }
+        if (virtual != null) {
+            // requests run on the virtual thread of the exchange, at most maxThreads at once
+            final AtomicInteger active = new AtomicInteger();
+            serverExecutor = virtual;
+            requestExecutor = new Executor() {
+                @Override
+                public void execute(Runnable task) {
+                    int n = active.incrementAndGet();
+                    try {
+                        if (maxThreads > 0 && n > maxThreads) {
+                            rejected.increment();
+                            throw new RejectedExecutionException("More than " + maxThreads + " requests");
+                        }
+                        task.run();
+                    } finally {
+                        active.decrementAndGet();
+                    }
+                }
+            };
+            statistics = new Statistics(maxThreads, 0, true) {
+                @Override
+                public int getActiveCount() {
+                    return Math.min(active.get(), maxThreads > 0 ? maxThreads : Integer.MAX_VALUE);
+                }
+
+                @Override
+                public int getQueueSize() {
+                    return 0;
+                }
+            };
+        } else if (maxThreads > 0) {
+            // exchanges only read the request on the server threads, and wait for a pool thread
+            int queueSize = feature.getQueueSize();
+            BlockingQueue<Runnable> queue = queueSize > 0
+                    ? new ArrayBlockingQueue<>(queueSize) : new SynchronousQueue<>();
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads,
+                    60L, TimeUnit.SECONDS, queue, (r, e) -> {
+                        rejected.increment();
+                        throw new RejectedExecutionException("More than " + maxThreads + " requests");
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            serverExecutor = Executors.newCachedThreadPool();
+            requestExecutor = pool;
+            statistics = new PoolStatistics(pool, maxThreads, queueSize);
+        } else {
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+            serverExecutor = pool;
+            requestExecutor = null;
+            statistics = new PoolStatistics(pool, 0, 0);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "HTTP server executor: {0}", statistics);
+        }
+    }
+
+    /**
+     * Creates the threads configured by the feature, or by the system properties
+     * named by {@link HttpServerExecutorFeature} when the feature is null.
+     */
+    static ServerExecutor create(@Nullable HttpServerExecutorFeature feature) {
+        return new ServerExecutor(feature != null ? feature : fromSystemProperties());
+    }
+
+    private static HttpServerExecutorFeature fromSystemProperties() {
+        int maxThreads = 0;
+        int queueSize = 0;
+        boolean virtualThreads = false;
+        try {
+            maxThreads = Integer.getInteger(HttpServerExecutorFeature.MAX_THREADS_PROPERTY, 0);
+            queueSize = Integer.getInteger(HttpServerExecutorFeature.QUEUE_SIZE_PROPERTY, 0);
+            virtualThreads = Boolean.getBoolean(HttpServerExecutorFeature.VIRTUAL_THREADS_PROPERTY);
+        } catch (SecurityException se) {
+            LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' properties, using defaults", HttpServerExecutorFeature.class.getName());
+        }
+        return new HttpServerExecutorFeature(maxThreads, queueSize, virtualThreads);
+    }
+
+    /**
+     * Tells whether the threads were created as the feature asks.
+     */
+    boolean isConfiguredAs(@NotNull HttpServerExecutorFeature other) {
+        return feature.getMaxThreads() == other.getMaxThreads()
+                && feature.isVirtualThreads() == other.isVirtualThreads()
+                // the queue of virtual threads isn't used
+                && (other.isVirtualThreads() || feature.getQueueSize() == other.getQueueSize());
+    }
+
+    static String describe(@NotNull HttpServerExecutorFeature feature) {
+        return "maxThreads=" + feature.getMaxThreads()
+                + ", queueSize=" + feature.getQueueSize()
+                + ", virtualThreads=" + feature.isVirtualThreads();
+    }
+
+    @NotNull HttpServerExecutorFeature getFeature() {
+        return feature;
+    }
+
+    /**
+     * @return the executor to give to the HTTP server
+     */
+    @NotNull ExecutorService getServerExecutor() {
+        return serverExecutor;
+    }
+
+    /**
+     * @return the executor running the requests, null if they run on the
+     *         thread of the exchange without limit
+     */
+    @Nullable Executor getRequestExecutor() {
+        return requestExecutor;
+    }
+
+    @NotNull ExecutorStatistics getStatistics() {
+        return statistics;
+    }
+
+    void shutdown() {
+        serverExecutor.shutdown();
+        if (requestExecutor instanceof ExecutorService) {
+            ((ExecutorService) requestExecutor).shutdown();
+        }
+    }
+
+    private abstract class Statistics extends ExecutorStatistics {
+        private final int maxThreads;
+        private final int maxQueueSize;
+        private final boolean virtualThreads;
+
+        Statistics(int maxThreads, int maxQueueSize, boolean virtualThreads) {
+            this.maxThreads = maxThreads;
+            this.maxQueueSize = maxQueueSize;
+            this.virtualThreads = virtualThreads;
+        }
+
+        @Override
+        public int getMaxThreads() {
+            return maxThreads;
+        }
+
+        @Override
+        public int getMaxQueueSize() {
+            return maxQueueSize;
+        }
+
+        @Override
+        public long getRejectedCount() {
+            return rejected.sum();
+        }
+
+        @Override
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+    }
+
+    private final class PoolStatistics extends Statistics {
+        private final ThreadPoolExecutor pool;
+
+        PoolStatistics(ThreadPoolExecutor pool, int maxThreads, int maxQueueSize) {
+            super(maxThreads, maxQueueSize, false);
+            this.pool = pool;
+        }
+
+        @Override
+        public int getActiveCount() {
+            return pool.getActiveCount();
+        }
+
+        @Override
+        public int getQueueSize() {
+            return pool.getQueue().size();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,8 +10,10 @@
 
 package com.sun.xml.ws.transport.http.server;
 
+import com.sun.istack.Nullable;
 import com.sun.net.httpserver.HttpContext;
 import com.sun.net.httpserver.HttpServer;
+import com.sun.xml.ws.developer.HttpServerExecutorFeature;
 import com.sun.xml.ws.resources.ServerMessages;
 import com.sun.xml.ws.server.ServerRtException;
 
@@ -21,8 +23,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -54,8 +54,11 @@ final class ServerMgr {
      * Creates a HttpContext at the given address. If there is already a server
      * it uses that server to create a context. Otherwise, it creates a new
      * HTTP server. This sever is added to servers Map.
+     *
+     * The threads of a new server are configured by the feature, or by
+     * system properties if the feature is null.
      */
-    /*package*/ HttpContext createContext(String address) {
+    /*package*/ HttpContext createContext(String address, @Nullable HttpServerExecutorFeature feature) {
         try {
             HttpServer server;
             ServerState state;
@@ -84,7 +87,8 @@ final class ServerMgr {
                         }
                         // Creates server with default socket backlog
                         server = HttpServer.create(inetAddress, 0);
-                        server.setExecutor(Executors.newCachedThreadPool());
+                        ServerExecutor executor = ServerExecutor.create(feature);
+                        server.setExecutor(executor.getServerExecutor());
                         String path = url.toURI().getPath();
                         if (LOGGER.isLoggable(Level.FINE)) {
                             LOGGER.fine("Creating HTTP Context at = "+path);
@@ -100,14 +104,22 @@ final class ServerMgr {
                         if (LOGGER.isLoggable(Level.FINE)) {
                             LOGGER.fine("HTTP server started = "+inetAddress);
                         }
-                        state = new ServerState(server, path);
+                        state = new ServerState(server, executor, path);
                         servers.put(inetAddress, state);
                         return context;
                     }
                 }
             }
             server = state.getServer();
-            
+            if (feature != null && !state.getExecutor().isConfiguredAs(feature)) {
+                // the endpoint gets other threads than it asked for
+                LOGGER.log(Level.WARNING, "HTTP server at {0} already exists with threads {1}, "
+                        + "the threads {2} asked for the context {3} are ignored",
+                        new Object[] {server.getAddress(),
+                                ServerExecutor.describe(state.getExecutor().getFeature()),
+                                ServerExecutor.describe(feature), url.getPath()});
+            }
+
             if (state.getPaths().contains(url.getPath())) {
               String err = "Context with URL path "+url.getPath()+ " already exists on the server "+server.getAddress();
               if (LOGGER.isLoggable(Level.FINE)) {
@@ -137,7 +149,7 @@ final class ServerMgr {
             ServerState state = servers.get(inetAddress);
             int instances = state.noOfContexts();
             if (instances < 2) {
-                ((ExecutorService)state.getServer().getExecutor()).shutdown();
+                state.getExecutor().shutdown();
                 state.getServer().stop(0);
                 servers.remove(inetAddress);
             } else {
@@ -147,13 +159,25 @@ final class ServerMgr {
         }
     }
     
+    /*
+     * Gets the threads of the server of a context created by this manager.
+     */
+    /*package*/ @Nullable ServerExecutor getExecutor(HttpContext context) {
+        synchronized(servers) {
+            ServerState state = servers.get(context.getServer().getAddress());
+            return state != null ? state.getExecutor() : null;
+        }
+    }
+
     private static final class ServerState {
         private final HttpServer server;
+        private final ServerExecutor executor;
         private int instances;
         private final Set<String> paths = new HashSet<>();
         
-        ServerState(HttpServer server, String path) {
+        ServerState(HttpServer server, ServerExecutor executor, String path) {
             this.server = server;
+            this.executor = executor;
             this.instances = 1;
             paths.add(path);
         }
@@ -161,6 +185,10 @@ final class ServerMgr {
         public HttpServer getServer() {
             return server;
         }
+
+        public ServerExecutor getExecutor() {
+            return executor;
+        }
         
         public void oneMoreContext(String path) {
             ++instances;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -20,6 +20,7 @@ import com.sun.xml.ws.transport.http.WSHTTPConnection;
 
 import java.io.IOException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -63,7 +64,16 @@ final class WSHttpHandler implements HttpHandler {
             if (executor != null) {
                 // Use application's Executor to handle request. Application may
                 // have set an executor using Endpoint.setExecutor().
-                executor.execute(new HttpHandlerRunnable(msg));
+                try {
+                    executor.execute(new HttpHandlerRunnable(msg));
+                } catch (RejectedExecutionException e) {
+                    // saturated, let the client retry later
+                    if (LOGGER.isLoggable(Level.FINE)) {
+                        LOGGER.log(Level.FINE, "Request rejected:{0}", e.getMessage());
+                    }
+                    msg.sendResponseHeaders(503, -1);
+                    msg.close();
+                }
             } else {
                 handleExchange(msg);
             }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.util;
+
+import com.sun.istack.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates {@link MethodHandle}s to read and write bean properties and to
+ * invoke endpoint methods, instead of going through reflection on every call.
+ *
+ * <p>
+ * The handles have erased types, so that callers can use
+ * {@link MethodHandle#invokeExact} on them:
+ * <ul>
+ * <li>getters are {@code (Object)Object},
+ * <li>setters are {@code (Object,Object)void},
+ * <li>invokers are {@code (Object,Object[])Object}.
+ * </ul>
+ * Invokers throw what the method throws wrapped in an
+ * {@link InvocationTargetException}, so that it's told apart from the
+ * {@link ClassCastException} and the {@link NullPointerException} of the
+ * arguments of the wrong type.
+ *
+ * <p>
+ * Each method returns null when the member can't be accessed with a handle,
+ * the caller then keeps using reflection. Handles can be turned off with the
+ * {@code com.sun.xml.ws.util.AccessorFactory.disabled} system property.
+ */
+public final class AccessorFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(AccessorFactory.class.getName());
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType INVOKER = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private static final boolean DISABLED;
+
+    static {
+        String propName = AccessorFactory.class.getName() + ".disabled";
+        boolean disabled = false;
+        try {
+            disabled = Boolean.getBoolean(propName);
+        } catch (SecurityException se) {
+            LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults", propName);
+        }
+        DISABLED = disabled;
+    }
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    // wraps what an invoked method throws
+    private static final MethodHandle TARGET_EXCEPTION;
+
+    static {
+        try {
+            TARGET_EXCEPTION = LOOKUP.findConstructor(InvocationTargetException.class,
+                    MethodType.methodType(void.class, Throwable.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // invokers by declaring class, so that they go away with the application
+    private static final ClassValue<Map<Method, MethodHandle>> INVOKERS = new ClassValue<>() {
+        @Override
+        protected Map<Method, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    // marks the methods that can't be invoked with a handle
+    private static final MethodHandle NONE = MethodHandles.constant(Object.class, null);
+
+    private AccessorFactory() {
+    }
+
+    /**
+     * @return {@code (Object)Object} handle reading the field, or null
+     */
+    public static @Nullable MethodHandle getter(Field f) {
+        if (DISABLED) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflectGetter(f).asType(GETTER);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log(f, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return {@code (Object,Object)void} handle writing the field, or null
+     */
+    public static @Nullable MethodHandle setter(Field f) {
+        if (DISABLED || Modifier.isFinal(f.getModifiers())) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflectSetter(f).asType(SETTER);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log(f, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return {@code (Object)Object} handle calling the no-argument method, or null
+     */
+    public static @Nullable MethodHandle getter(Method m) {
+        if (DISABLED || m.getParameterCount() != 0 || Modifier.isStatic(m.getModifiers())) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflect(m).asType(GETTER);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log(m, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return {@code (Object,Object)void} handle calling the one-argument method, or null
+     */
+    public static @Nullable MethodHandle setter(Method m) {
+        if (DISABLED || m.getParameterCount() != 1 || Modifier.isStatic(m.getModifiers())) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflect(m).asType(SETTER);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log(m, e);
+            return null;
+        }
+    }
+
+    /**
+     * Gets the handle invoking the method with an array of arguments.
+     * Invokers are created once per method.
+     *
+     * @return {@code (Object,Object[])Object} handle, or null
+     */
+    public static @Nullable MethodHandle invoker(Method m) {
+        if (DISABLED) {
+            return null;
+        }
+        Map<Method, MethodHandle> invokers = INVOKERS.get(m.getDeclaringClass());
+        MethodHandle h = invokers.get(m);
+        if (h == null) {
+            h = invokers.computeIfAbsent(m, AccessorFactory::createInvoker);
+        }
+        return h == NONE ? null : h;
+    }
+
+    private static MethodHandle createInvoker(Method m) {
+        Class<?> c = m.getDeclaringClass();
+        // same restriction as the reflective trampoline
+        if (c == AccessController.class || c == Method.class || c.getName().startsWith("java.lang.invoke.")) {
+            return NONE;
+        }
+        try {
+            MethodHandle h = LOOKUP.unreflect(m);
+            MethodHandle thrower = MethodHandles.filterArguments(
+                    MethodHandles.throwException(h.type().returnType(), InvocationTargetException.class),
+                    0, TARGET_EXCEPTION);
+            h = MethodHandles.catchException(h, Throwable.class,
+                    MethodHandles.dropArguments(thrower, 1, h.type().parameterList()));
+            if (Modifier.isStatic(m.getModifiers())) {
+                h = MethodHandles.dropArguments(h, 0, Object.class);
+            }
+            return h.asType(h.type().generic())
+                    .asSpreader(Object[].class, m.getParameterCount())
+                    .asType(INVOKER);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log(m, e);
+            return NONE;
+        }
+    }
+
+    private static void log(Object member, Exception e) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Using reflection to access " + member, e);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,6 +11,7 @@
 package com.sun.xml.ws.util;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
@@ -53,6 +54,13 @@ public final class ByteArrayDataSource implements DataSource {
         return new ByteArrayInputStream(buf,start,len);
     }
 
+    /**
+     * Writes the bytes to the stream, without copying them.
+     */
+    public void writeTo(OutputStream os) throws IOException {
+        os.write(buf, start, len);
+    }
+
     @Override
     public String getName() {
         return null;
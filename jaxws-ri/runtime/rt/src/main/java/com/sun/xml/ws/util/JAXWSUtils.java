@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -10,7 +10,6 @@
 
 package com.sun.xml.ws.util;
 
-import java.util.UUID;
 import java.util.regex.Pattern;
 import java.net.URL;
 import java.net.MalformedURLException;
@@ -21,6 +20,8 @@ import java.io.IOException;
 
 import javax.xml.namespace.QName;
 
+import com.sun.xml.ws.api.IdGenerator;
+
 /**
  * @author Vivek Pandey
  *
@@ -31,7 +32,7 @@ public final class JAXWSUtils {
     private JAXWSUtils() {}
 
     public static String getUUID(){
-         return UUID.randomUUID().toString();
+         return IdGenerator.getInstance().generate();
     }
 
     public static String getFileOrURLName(String fileOrURL) {
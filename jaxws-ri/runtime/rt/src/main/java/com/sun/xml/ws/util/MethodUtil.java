@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -12,6 +12,7 @@ package com.sun.xml.ws.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
@@ -70,9 +71,31 @@ public final class MethodUtil extends SecureClassLoader {
 
     /*
      * Bounce through the trampoline.
+     *
+     * Without a security manager, there's no caller to hide, and the method is
+     * invoked through a cached method handle instead.
      */
     public static Object invoke(Method m, Object obj, Object[] params)
             throws InvocationTargetException, IllegalAccessException {
+        if (obj != null && System.getSecurityManager() == null
+                && (params == null ? 0 : params.length) == m.getParameterCount()) {
+            MethodHandle h = AccessorFactory.invoker(m);
+            if (h != null) {
+                try {
+                    return (Object) h.invokeExact(obj, params);
+                } catch (InvocationTargetException e) {
+                    // thrown by the method, see AccessorFactory#invoker
+                    throw e;
+                } catch (ClassCastException | NullPointerException e) {
+                    // an argument of the wrong type, as Method.invoke reports it
+                    throw new IllegalArgumentException("argument type mismatch", e);
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new IllegalArgumentException(t);
+                }
+            }
+        }
         try {
             return bounce.invoke(null, m, obj, params);
         } catch (InvocationTargetException ie) {
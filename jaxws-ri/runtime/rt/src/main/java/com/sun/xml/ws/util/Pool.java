@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -16,8 +16,13 @@ import com.sun.xml.ws.api.pipe.TubeCloner;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.lang.ref.SoftReference; 
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 
 /**
@@ -28,21 +33,90 @@ import java.lang.ref.SoftReference;
  * are expensive to create (such as JAXB objects, StAX parsers, {@link Tube} instances.)
  *
  * <p>
- * This class provides a default implementation of such a pool.
+ * This class provides a default implementation of such a pool. It keeps at
+ * most {@link #getMaxSize()} idle objects, spread over stripes selected by
+ * the calling thread so that concurrent threads rarely contend on the same
+ * queue. Objects recycled beyond the maximum size are dropped, and objects
+ * left idle longer than the idle timeout are evicted by later recycles, so
+ * the pool shrinks gradually instead of being dropped at once.
  *
- * TODO: improve the implementation
+ * <p>
+ * The defaults are given by the {@code com.sun.xml.ws.util.Pool.maxSize}
+ * and {@code com.sun.xml.ws.util.Pool.idleTimeout} (in milliseconds)
+ * system properties.
  *
  * @author Kohsuke Kawaguchi
  */
 public abstract class Pool<T> {
 
-    // volatile since multiple threads may access queue reference
-    private volatile SoftReference<ConcurrentLinkedQueue<T>> queue;
+    private static final Logger LOGGER = Logger.getLogger(Pool.class.getName());
+
+    /**
+     * System property with the default maximum number of idle objects kept by a pool.
+     */
+    public static final String MAX_SIZE_PROPERTY = Pool.class.getName() + ".maxSize";
+
+    /**
+     * System property with the default time in milliseconds after which an
+     * idle object is evicted, 0 or less to never evict idle objects.
+     */
+    public static final String IDLE_TIMEOUT_PROPERTY = Pool.class.getName() + ".idleTimeout";
+
+    private static final int STRIPES;
+    private static int defaultMaxSize = Math.max(64, 4 * Runtime.getRuntime().availableProcessors());
+    private static long defaultIdleTimeout = 60000L;
+
+    static {
+        int stripes = 1;
+        while (stripes < Runtime.getRuntime().availableProcessors() && stripes < 64) {
+            stripes <<= 1;
+        }
+        STRIPES = stripes;
+        try {
+            defaultMaxSize = Integer.getInteger(MAX_SIZE_PROPERTY, defaultMaxSize);
+            defaultIdleTimeout = Long.getLong(IDLE_TIMEOUT_PROPERTY, defaultIdleTimeout);
+        } catch (SecurityException se) {
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' and ''{1}'' properties, using defaults.",
+                        new Object[]{MAX_SIZE_PROPERTY, IDLE_TIMEOUT_PROPERTY});
+            }
+        }
+    }
+
+    private final int maxSize;
+    private final long idleTimeout;
+    // stripes are created on first use, most pools only ever see a few threads
+    private final AtomicReferenceArray<ConcurrentLinkedDeque<Entry<T>>> stripes = new AtomicReferenceArray<>(STRIPES);
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile long nextEviction;
+
+    private final LongAdder takeCount = new LongAdder();
+    private final LongAdder createCount = new LongAdder();
+    private final LongAdder recycleCount = new LongAdder();
+    private final LongAdder evictCount = new LongAdder();
 
     /**
      * Default constructor.
      */
-    protected Pool() {}
+    protected Pool() {
+        this(defaultMaxSize, defaultIdleTimeout);
+    }
+
+    /**
+     * Creates a pool with the given limits.
+     *
+     * @param maxSize maximum number of idle objects kept by this pool
+     * @param idleTimeout time in milliseconds after which an idle object is
+     *                    evicted, 0 or less to never evict idle objects
+     */
+    protected Pool(int maxSize, long idleTimeout) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.idleTimeout = idleTimeout > 0 ? TimeUnit.MILLISECONDS.toNanos(idleTimeout) : 0;
+        this.nextEviction = System.nanoTime() + this.idleTimeout;
+    }
 
     /**
      * Gets a new object from the pool.
@@ -54,32 +128,114 @@ public abstract class Pool<T> {
      *      always non-null.
      */
     public final T take() {
-        T t = getQueue().poll();
-        if(t==null)
-            return create();
-        return t;
+        takeCount.increment();
+        int index = stripeIndex();
+        for (int i = 0; i < STRIPES; i++) {
+            ConcurrentLinkedDeque<Entry<T>> stripe = stripes.get((index + i) & (STRIPES - 1));
+            if (stripe != null) {
+                Entry<T> e = stripe.pollFirst();
+                if (e != null) {
+                    size.decrementAndGet();
+                    return e.value;
+                }
+            }
+        }
+        createCount.increment();
+        return create();
+    }
+
+    /**
+     * Returns an object back to the pool.
+     */
+    public final void recycle(T t) {
+        recycleCount.increment();
+        long now = System.nanoTime();
+        if (size.incrementAndGet() > maxSize) {
+            size.decrementAndGet();
+            evictCount.increment();
+        } else {
+            // most recently used objects are taken first, so that the others become idle
+            getStripe(stripeIndex()).offerFirst(new Entry<>(t, now));
+        }
+        if (idleTimeout > 0 && now - nextEviction >= 0) {
+            nextEviction = now + idleTimeout / 2;
+            evictIdle(now);
+        }
     }
 
-    private ConcurrentLinkedQueue<T> getQueue() {
-    	SoftReference<ConcurrentLinkedQueue<T>> q = queue;
-        if (q != null) {
-            ConcurrentLinkedQueue<T> d = q.get();
-            if (d != null)
-                return d;
+    private void evictIdle(long now) {
+        for (int i = 0; i < STRIPES; i++) {
+            ConcurrentLinkedDeque<Entry<T>> stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            Entry<T> e;
+            while ((e = stripe.peekLast()) != null && now - e.recycled > idleTimeout) {
+                // fails if taken meanwhile
+                if (stripe.removeLastOccurrence(e)) {
+                    size.decrementAndGet();
+                    evictCount.increment();
+                }
+            }
         }
+    }
 
-        // overwrite the queue
-        ConcurrentLinkedQueue<T> d = new ConcurrentLinkedQueue<>();
-        queue = new SoftReference<>(d);
+    private ConcurrentLinkedDeque<Entry<T>> getStripe(int index) {
+        ConcurrentLinkedDeque<Entry<T>> stripe = stripes.get(index);
+        if (stripe == null) {
+            stripe = new ConcurrentLinkedDeque<>();
+            if (!stripes.compareAndSet(index, null, stripe)) {
+                stripe = stripes.get(index);
+            }
+        }
+        return stripe;
+    }
 
-        return d;
+    private static int stripeIndex() {
+        return (int) Thread.currentThread().getId() & (STRIPES - 1);
     }
 
     /**
-     * Returns an object back to the pool.
+     * @return maximum number of idle objects kept by this pool
      */
-    public final void recycle(T t) {
-        getQueue().offer(t);
+    public final int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return number of idle objects currently in this pool
+     */
+    public final int getSize() {
+        return size.get();
+    }
+
+    /**
+     * @return number of {@link #take()} calls
+     */
+    public final long getTakeCount() {
+        return takeCount.sum();
+    }
+
+    /**
+     * @return number of objects created because the pool was empty
+     */
+    public final long getCreateCount() {
+        return createCount.sum();
+    }
+
+    /**
+     * @return number of {@link #recycle(Object)} calls
+     */
+    public final long getRecycleCount() {
+        return recycleCount.sum();
+    }
+
+    /**
+     * @return number of objects dropped because the pool was full or
+     *         because they were idle for too long
+     */
+    public final long getEvictCount() {
+        return evictCount.sum();
     }
 
     /**
@@ -166,4 +322,14 @@ public abstract class Pool<T> {
         }
         
     }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final long recycled;
+
+        Entry(T value, long recycled) {
+            this.value = value;
+            this.recycled = recycled;
+        }
+    }
 }
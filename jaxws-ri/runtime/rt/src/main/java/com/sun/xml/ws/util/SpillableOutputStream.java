@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.util;
+
+import com.sun.istack.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link OutputStream} that keeps the written data in memory until
+ * a threshold is reached, and the rest on the file system.
+ *
+ * <p>
+ * This is the write-side counterpart of {@link ReadAllStream}. It is used
+ * when the size of some data has to be known before the data can be sent,
+ * without keeping large payloads on the heap.
+ *
+ * <p>
+ * The data kept in memory is written to fixed size chunks, which are
+ * shared with the other streams through a pool once they are disposed.
+ *
+ * <p>
+ * Once all the data is written, {@link #size()} reports the total size and
+ * {@link #writeTo(OutputStream)} or {@link #newInputStream()} replays the
+ * data. {@link #dispose()} must be called to release the temporary file.
+ */
+public class SpillableOutputStream extends OutputStream {
+
+    private static final Logger LOGGER = Logger.getLogger(SpillableOutputStream.class.getName());
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final Pool<byte[]> CHUNKS = new Pool<byte[]>() {
+        @Override
+        protected byte[] create() {
+            return new byte[CHUNK_SIZE];
+        }
+    };
+
+    private final int inMemory;
+    private final List<byte[]> chunks = new ArrayList<>();
+    // bytes in the chunks
+    private int memSize;
+    private @Nullable File tempFile;
+    private @Nullable OutputStream fileOut;
+    private long size;
+    private boolean closed;
+
+    /**
+     * @param inMemory this much data is kept in the memory
+     */
+    public SpillableOutputStream(int inMemory) {
+        this.inMemory = inMemory;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (fileOut == null && memSize < inMemory) {
+            chunk()[memSize % CHUNK_SIZE] = (byte) b;
+            memSize++;
+        } else {
+            spill().write(b);
+        }
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (fileOut == null && len > 0 && memSize < inMemory) {
+            byte[] chunk = chunk();
+            int pos = memSize % CHUNK_SIZE;
+            int mem = Math.min(len, Math.min(CHUNK_SIZE - pos, inMemory - memSize));
+            System.arraycopy(b, off, chunk, pos, mem);
+            memSize += mem;
+            off += mem;
+            len -= mem;
+            size += mem;
+        }
+        if (len > 0) {
+            spill().write(b, off, len);
+            size += len;
+        }
+    }
+
+    /*
+     * The chunk the next byte is written to.
+     */
+    private byte[] chunk() {
+        if (memSize == chunks.size() * CHUNK_SIZE) {
+            chunks.add(CHUNKS.take());
+        }
+        return chunks.get(chunks.size() - 1);
+    }
+
+    private OutputStream spill() throws IOException {
+        if (fileOut == null) {
+            tempFile = File.createTempFile("jaxws", ".bin");
+            fileOut = new BufferedOutputStream(new FileOutputStream(tempFile));
+        }
+        return fileOut;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileOut != null) {
+            fileOut.flush();
+        }
+    }
+
+    /**
+     * Finishes writing. No more data can be written after this.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            if (fileOut != null) {
+                fileOut.close();
+            }
+        }
+    }
+
+    /**
+     * @return total number of bytes written so far
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return number of bytes kept in memory
+     */
+    public int getMemorySize() {
+        return memSize;
+    }
+
+    /**
+     * @return true if the data didn't fit into memory
+     */
+    public boolean isSpilled() {
+        return tempFile != null;
+    }
+
+    /**
+     * Writes all the written data to the given stream. The stream is
+     * closed first, if it is not already closed.
+     *
+     * @param out to which the data is written
+     * @throws IOException in case of exception
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        close();
+        for (int i = 0; i < chunks.size(); i++) {
+            out.write(chunks.get(i), 0, Math.min(CHUNK_SIZE, memSize - i * CHUNK_SIZE));
+        }
+        if (tempFile != null) {
+            byte[] buf = CHUNKS.take();
+            try (InputStream in = new FileInputStream(tempFile)) {
+                int len;
+                while((len=in.read(buf)) != -1) {
+                    out.write(buf, 0, len);
+                }
+            } finally {
+                CHUNKS.recycle(buf);
+            }
+        }
+    }
+
+    /**
+     * Creates an {@link InputStream} reading all the written data. The
+     * stream is closed first, if it is not already closed, and must not
+     * be disposed before the data is read.
+     *
+     * @return stream of the written data
+     * @throws IOException if the temporary file can't be opened
+     */
+    public InputStream newInputStream() throws IOException {
+        close();
+        List<InputStream> ins = new ArrayList<>(chunks.size() + 1);
+        for (int i = 0; i < chunks.size(); i++) {
+            ins.add(new ByteArrayInputStream(chunks.get(i), 0, Math.min(CHUNK_SIZE, memSize - i * CHUNK_SIZE)));
+        }
+        if (tempFile != null) {
+            ins.add(new FileInputStream(tempFile));
+        }
+        return new SequenceInputStream(Collections.enumeration(ins));
+    }
+
+    /**
+     * Closes this stream and releases the memory and the temporary file.
+     * The stream can't be used after this.
+     */
+    public void dispose() {
+        try {
+            close();
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Error closing temporary file", e);
+        }
+        for (byte[] chunk : chunks) {
+            CHUNKS.recycle(chunk);
+        }
+        chunks.clear();
+        memSize = 0;
+        if (tempFile != null) {
+            boolean success = tempFile.delete();
+            if (!success) {
+                LOGGER.log(Level.INFO, "File {0} could not be deleted", tempFile);
+            }
+            tempFile = null;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -76,6 +76,16 @@ public abstract class AbstractSchemaValidationTube extends AbstractFilterTubeImp
 
     private static final Logger LOGGER = Logger.getLogger(AbstractSchemaValidationTube.class.getName());
 
+    // whether getValidatorPool() is overridden where getValidator() is or below
+    private static final ClassValue<Boolean> POOLED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            Class<?> validator = declaringClass(type, "getValidator");
+            Class<?> pool = declaringClass(type, "getValidatorPool");
+            return validator != null && pool != null && validator.isAssignableFrom(pool);
+        }
+    };
+
     protected final WSBinding binding;
     protected final SchemaValidationFeature feature;
     protected final DocumentAddressResolver resolver = new ValidationDocumentAddressResolver();
@@ -529,8 +539,135 @@ public abstract class AbstractSchemaValidationTube extends AbstractFilterTubeImp
         };
     }
 
+    /**
+     * Gets the validators shared by the copies of this tube.
+     *
+     * <p>
+     * They are used only when this method is overridden by the class
+     * overriding {@link #getValidator()}, or by a subclass of it: a subclass
+     * overriding only {@link #getValidator()} keeps validating with it.
+     *
+     * @return null if the validation uses {@link #getValidator()}
+     */
+    protected @Nullable SchemaCache.ValidatorPool getValidatorPool() {
+        return null;
+    }
+
+    /*
+     * The validators of getValidatorPool(), null if the tube validates with getValidator().
+     */
+    private @Nullable SchemaCache.ValidatorPool validatorPool() {
+        return usesValidatorPool(getClass()) ? getValidatorPool() : null;
+    }
+
+    static boolean usesValidatorPool(Class<? extends AbstractSchemaValidationTube> type) {
+        return POOLED.get(type);
+    }
+
+    private static @Nullable Class<?> declaringClass(Class<?> type, String method) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(method);
+                return c;
+            } catch (NoSuchMethodException e) {
+                // declared by a superclass
+            } catch (SecurityException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the validators of the schema of the given documents. The schema
+     * is compiled from {@link #getSchemaSources} only if the {@link SchemaCache}
+     * doesn't have it yet.
+     *
+     * @return null if the documents don't have any schema
+     */
+    protected @Nullable SchemaCache.ValidatorPool compileSchema(final Iterable<SDDocument> docs, final MetadataResolverImpl mdresolver) {
+        return SchemaCache.getInstance().get(getClass().getName(), docs, resolver, () -> {
+            Source[] sources = getSchemaSources(docs, mdresolver);
+            for (Source source : sources) {
+                LOGGER.log(Level.FINE, "Constructing validation schema from = {0}", source.getSystemId());
+            }
+            if (sources.length == 0) {
+                return null;
+            }
+            sf.setResourceResolver(mdresolver);
+            try {
+                return sf.newSchema(sources);
+            } catch (SAXException e) {
+                throw new WebServiceException(e);
+            }
+        });
+    }
+
     protected void doProcess(Packet packet) throws SAXException {
-        getValidator().reset();
+        SchemaCache.ValidatorPool pool = validatorPool();
+        Validator validator = pool != null ? pool.take() : getValidator();
+        try {
+            validator.reset();
+            validator.setErrorHandler(createErrorHandler(packet));
+            Message msg = packet.getMessage().copy();
+            Source source = msg.readPayloadAsSource();
+            try {
+                // Validator javadoc allows ONLY SAX, and DOM Sources
+                // But the impl seems to handle all kinds.
+                validator.validate(source);
+            } catch(IOException e) {
+                throw new WebServiceException(e);
+            }
+        } finally {
+            if (pool != null) {
+                // don't keep the packet reachable from the pool
+                validator.setErrorHandler(null);
+                pool.recycle(validator);
+            }
+        }
+    }
+
+    /**
+     * Validates the payload of the message of the packet while the next tubes
+     * read it, instead of validating a copy of it beforehand.
+     *
+     * <p>
+     * The message of the packet is replaced by a message that validates its
+     * payload in the same pass as it is parsed, so a streamed payload is
+     * neither copied nor read twice. Validation errors are then thrown by
+     * the consumer of the payload, {@link #getValidationError(Throwable)}
+     * finds them in what it throws.
+     *
+     * <p>
+     * Messages with attachments, and tubes without {@link #getValidatorPool() shared validators},
+     * are validated with {@link #doProcess(Packet)}.
+     */
+    protected void doProcessStreaming(Packet packet) throws SAXException {
+        SchemaCache.ValidatorPool pool = validatorPool();
+        Message msg = packet.getMessage();
+        if (pool == null || !msg.getAttachments().isEmpty()) {
+            doProcess(packet);
+            return;
+        }
+        packet.setMessage(new ValidatingMessage(msg, pool, createErrorHandler(packet)));
+    }
+
+    /**
+     * Gets the error of the validation of a payload read after {@link #doProcessStreaming(Packet)}.
+     *
+     * @param t thrown while reading the payload
+     * @return null if t isn't caused by a validation error
+     */
+    protected static @Nullable SAXException getValidationError(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ValidatingStreamReader.ValidationFailure) {
+                return ((ValidatingStreamReader.ValidationFailure) cause).getError();
+            }
+        }
+        return null;
+    }
+
+    private ValidationErrorHandler createErrorHandler(Packet packet) {
         Class<? extends ValidationErrorHandler> handlerClass = feature.getErrorHandler();
         ValidationErrorHandler handler;
         try {
@@ -539,16 +676,7 @@ public abstract class AbstractSchemaValidationTube extends AbstractFilterTubeImp
             throw new WebServiceException(e);
         }
         handler.setPacket(packet);
-        getValidator().setErrorHandler(handler);
-        Message msg = packet.getMessage().copy();
-        Source source = msg.readPayloadAsSource();
-        try {
-            // Validator javadoc allows ONLY SAX, and DOM Sources
-            // But the impl seems to handle all kinds.
-            getValidator().validate(source);
-        } catch(IOException e) {
-            throw new WebServiceException(e);
-        }
+        return handler;
     }
 
     private String getTargetNamespace(DOMSource src) {
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.util.pipe;
+
+import com.sun.istack.NotNull;
+import com.sun.istack.Nullable;
+import com.sun.xml.ws.api.server.DocumentAddressResolver;
+import com.sun.xml.ws.api.server.SDDocument;
+import com.sun.xml.ws.util.ByteArrayBuffer;
+import com.sun.xml.ws.util.Pool;
+
+import javax.xml.validation.Schema;
+import javax.xml.validation.Validator;
+import javax.xml.validation.ValidatorHandler;
+import jakarta.xml.ws.WebServiceException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Compiled {@link Schema}s of the schema validation tubes, keyed by the
+ * content of the WSDL and schema documents they are compiled from.
+ *
+ * <p>
+ * Endpoints and clients of the same WSDL share one {@link Schema} and one
+ * pool of {@link Validator}s instead of building the pseudo schemas and
+ * compiling them for every tube. At most {@link #getMaxSize()} schemas are
+ * kept, the least recently used ones are evicted first. The maximum is given
+ * by the {@code com.sun.xml.ws.util.pipe.SchemaCache.maxSize} system property,
+ * 0 disables the cache.
+ *
+ * <p>
+ * The digest of a document is computed once: the tubes created later with
+ * the same {@link SDDocument}s, like the tubes of an endpoint, reuse it.
+ */
+public final class SchemaCache {
+
+    private static final Logger LOGGER = Logger.getLogger(SchemaCache.class.getName());
+
+    /**
+     * System property with the maximum number of cached schemas, 0 to disable the cache.
+     */
+    public static final String MAX_SIZE_PROPERTY = SchemaCache.class.getName() + ".maxSize";
+
+    private static final SchemaCache INSTANCE;
+
+    static {
+        int maxSize = 32;
+        try {
+            maxSize = Integer.getInteger(MAX_SIZE_PROPERTY, maxSize);
+        } catch (SecurityException se) {
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Cannot read ''{0}'' property, using defaults.", MAX_SIZE_PROPERTY);
+            }
+        }
+        INSTANCE = new SchemaCache(maxSize);
+    }
+
+    private final int maxSize;
+    // access ordered, guarded by itself
+    private final Map<String, Holder> schemas;
+    // digests of the documents, so that they are written once and not for every tube
+    private final Map<SDDocument, Digest> digests = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Creates a cache of at most the given number of schemas.
+     *
+     * @param maxSize maximum number of cached schemas, 0 or less to disable caching
+     */
+    public SchemaCache(final int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        this.schemas = new LinkedHashMap<String, Holder>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Holder> eldest) {
+                return size() > SchemaCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the cache shared by the runtime
+     */
+    public static @NotNull SchemaCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the validators of the schema compiled from the given documents,
+     * compiling it with the given function if it is not cached yet.
+     *
+     * <p>
+     * Concurrent callers with the same documents wait for one compilation.
+     *
+     * @param scope distinguishes schemas compiled differently from the same documents,
+     *              usually the class of the tube
+     * @param docs WSDL and schema documents of the schema
+     * @param resolver resolves the references between the documents
+     * @param compiler compiles the schema, returns null when the documents have no schema
+     * @return the validators of the schema, null if the documents have no schema
+     */
+    public @Nullable ValidatorPool get(@NotNull String scope, @NotNull Iterable<SDDocument> docs,
+            @NotNull DocumentAddressResolver resolver, @NotNull Supplier<Schema> compiler) {
+        if (maxSize == 0) {
+            return ValidatorPool.of(compiler.get());
+        }
+        String key = key(scope, docs, resolver);
+        Holder holder;
+        synchronized (schemas) {
+            holder = schemas.computeIfAbsent(key, k -> new Holder());
+        }
+        try {
+            return holder.get(compiler);
+        } catch (RuntimeException | Error e) {
+            // don't keep the failure, the documents may be fixed
+            synchronized (schemas) {
+                schemas.remove(key, holder);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Removes all the schemas from this cache.
+     */
+    public void clear() {
+        synchronized (schemas) {
+            schemas.clear();
+        }
+    }
+
+    /**
+     * @return number of cached schemas
+     */
+    public int size() {
+        synchronized (schemas) {
+            return schemas.size();
+        }
+    }
+
+    /**
+     * @return maximum number of cached schemas, 0 if caching is disabled
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /*
+     * Digest of the documents, independent of their order.
+     */
+    private String key(String scope, Iterable<SDDocument> docs, DocumentAddressResolver resolver) {
+        List<String> keys = new ArrayList<>();
+        for (SDDocument doc : docs) {
+            if (!doc.isWSDL() && !doc.isSchema()) {
+                continue;
+            }
+            Digest digest = digests.get(doc);
+            if (digest == null || digest.resolver != resolver.getClass()) {
+                digest = new Digest(resolver.getClass(), digest(doc, resolver));
+                digests.put(doc, digest);
+            }
+            keys.add(digest.value);
+        }
+        Collections.sort(keys);
+        MessageDigest md = newDigest();
+        md.update(scope.getBytes(StandardCharsets.UTF_8));
+        for (String key : keys) {
+            md.update((byte) 0);
+            md.update(key.getBytes(StandardCharsets.US_ASCII));
+        }
+        return toHex(md.digest());
+    }
+
+    private static String digest(SDDocument doc, DocumentAddressResolver resolver) {
+        ByteArrayBuffer bab = new ByteArrayBuffer();
+        try {
+            doc.writeTo(null, resolver, bab);
+        } catch (IOException ioe) {
+            throw new WebServiceException(ioe);
+        }
+        MessageDigest md = newDigest();
+        md.update(doc.getURL().toExternalForm().getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+        md.update(bab.getRawData(), 0, bab.size());
+        return toHex(md.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // required on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    /*
+     * Digest of a document written with a resolver of the given class; the
+     * resolvers of the tubes write the references between the documents the same way.
+     */
+    private static final class Digest {
+        final Class<?> resolver;
+        final String value;
+
+        Digest(Class<?> resolver, String value) {
+            this.resolver = resolver;
+            this.value = value;
+        }
+    }
+
+    private static final class Holder {
+        private boolean compiled;
+        private ValidatorPool validators;
+
+        synchronized ValidatorPool get(Supplier<Schema> compiler) {
+            if (!compiled) {
+                validators = ValidatorPool.of(compiler.get());
+                compiled = true;
+            }
+            return validators;
+        }
+    }
+
+    /**
+     * {@link Validator}s of a {@link Schema}, shared by all the copies of the
+     * tubes validating against it.
+     */
+    public static final class ValidatorPool extends Pool<Validator> {
+        private final Schema schema;
+        private final Pool<ValidatorHandler> handlers;
+
+        private ValidatorPool(final Schema schema) {
+            this.schema = schema;
+            this.handlers = new Pool<ValidatorHandler>() {
+                @Override
+                protected ValidatorHandler create() {
+                    return schema.newValidatorHandler();
+                }
+            };
+        }
+
+        private static ValidatorPool of(@Nullable Schema schema) {
+            return schema != null ? new ValidatorPool(schema) : null;
+        }
+
+        /**
+         * @return the schema of the validators
+         */
+        public @NotNull Schema getSchema() {
+            return schema;
+        }
+
+        /**
+         * @return the {@link ValidatorHandler}s of the schema, to validate
+         *         a document while it is read
+         */
+        public @NotNull Pool<ValidatorHandler> getHandlers() {
+            return handlers;
+        }
+
+        @Override
+        protected Validator create() {
+            return schema.newValidator();
+        }
+    }
+}
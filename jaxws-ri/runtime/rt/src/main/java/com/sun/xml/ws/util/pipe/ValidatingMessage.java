@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.util.pipe;
+
+import com.sun.xml.ws.api.message.FilterMessageImpl;
+import com.sun.xml.ws.api.message.Message;
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.streaming.XMLStreamReaderFactory;
+import com.sun.xml.ws.message.AttachmentUnmarshallerImpl;
+import com.sun.xml.ws.message.stream.StreamMessage;
+import com.sun.xml.ws.spi.db.XMLBridge;
+import com.sun.xml.ws.streaming.XMLStreamReaderUtil;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.soap.SOAPException;
+import jakarta.xml.soap.SOAPMessage;
+import jakarta.xml.ws.WebServiceException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Source;
+import javax.xml.validation.ValidatorHandler;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link Message} whose payload is validated while it is read.
+ *
+ * <p>
+ * The payload read with {@link #readPayload()} or unmarshalled with JAXB is
+ * validated in the same pass, without copying the message. The other ways
+ * of reading the message validate a copy of the payload first, as
+ * {@link AbstractSchemaValidationTube#doProcess(Packet)} does.
+ *
+ * <p>
+ * Only the first element of the body is validated, like the copy validated
+ * from {@link Message#readPayloadAsSource()}: the elements following it in
+ * a body with several children are read without validation.
+ */
+final class ValidatingMessage extends FilterMessageImpl implements ValidatingStreamReader.Listener {
+
+    private final Message message;
+    private final SchemaCache.ValidatorPool validators;
+    private final ErrorHandler errorHandler;
+    // true once the payload has been handed out or validated
+    private boolean read;
+
+    ValidatingMessage(Message message, SchemaCache.ValidatorPool validators, ErrorHandler errorHandler) {
+        super(message);
+        this.message = message;
+        this.validators = validators;
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public XMLStreamReader readPayload() throws XMLStreamException {
+        if (read) {
+            return message.readPayload();
+        }
+        read = true;
+        return validating(message, message.readPayload());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readPayloadAsJAXB(Unmarshaller unmarshaller) throws JAXBException {
+        if (read || !hasPayload()) {
+            return message.readPayloadAsJAXB(unmarshaller);
+        }
+        XMLStreamReader reader = readPayloadForJAXB();
+        if (!getAttachments().isEmpty()) {
+            unmarshaller.setAttachmentUnmarshaller(new AttachmentUnmarshallerImpl(getAttachments()));
+        }
+        try {
+            return (T) unmarshaller.unmarshal(reader);
+        } finally {
+            unmarshaller.setAttachmentUnmarshaller(null);
+            close(reader);
+        }
+    }
+
+    @Override
+    public <T> T readPayloadAsJAXB(XMLBridge<T> bridge) throws JAXBException {
+        if (read || !hasPayload()) {
+            return message.readPayloadAsJAXB(bridge);
+        }
+        XMLStreamReader reader = readPayloadForJAXB();
+        try {
+            return bridge.unmarshal(reader,
+                    !getAttachments().isEmpty() ? new AttachmentUnmarshallerImpl(getAttachments()) : null);
+        } finally {
+            close(reader);
+        }
+    }
+
+    @Override
+    public Source readEnvelopeAsSource() {
+        validate();
+        return super.readEnvelopeAsSource();
+    }
+
+    @Override
+    public Source readPayloadAsSource() {
+        validate();
+        return super.readPayloadAsSource();
+    }
+
+    @Override
+    public SOAPMessage readAsSOAPMessage() throws SOAPException {
+        validate();
+        return super.readAsSOAPMessage();
+    }
+
+    @Override
+    public SOAPMessage readAsSOAPMessage(Packet packet, boolean inbound) throws SOAPException {
+        validate();
+        return super.readAsSOAPMessage(packet, inbound);
+    }
+
+    @Override
+    public void writePayloadTo(XMLStreamWriter sw) throws XMLStreamException {
+        validate();
+        super.writePayloadTo(sw);
+    }
+
+    @Override
+    public void writeTo(XMLStreamWriter sw) throws XMLStreamException {
+        validate();
+        super.writeTo(sw);
+    }
+
+    @Override
+    public void writeTo(ContentHandler contentHandler, ErrorHandler errorHandler) throws SAXException {
+        validate();
+        super.writeTo(contentHandler, errorHandler);
+    }
+
+    @Override
+    public Message copy() {
+        validate();
+        return super.copy();
+    }
+
+    @Override
+    public void validated(ValidatorHandler handler, SAXException failure) {
+        // don't keep the packet reachable from the pool
+        handler.setErrorHandler(null);
+        validators.getHandlers().recycle(handler);
+    }
+
+    private XMLStreamReader validating(Message m, XMLStreamReader reader) throws XMLStreamException {
+        if (reader == null) {
+            return null;
+        }
+        // the prefixes of the envelope and body aren't declared on the payload
+        String[] inscope = m instanceof StreamMessage ? inscopeNamespaces((StreamMessage) m) : null;
+        ValidatorHandler handler = validators.getHandlers().take();
+        handler.setErrorHandler(errorHandler);
+        return new ValidatingStreamReader(reader, inscope, handler, this);
+    }
+
+    /*
+     * The namespaces declared on the Envelope and Body, of the form
+     * { prefix0, uri0, prefix1, uri1, ... }. They can't be enumerated from the
+     * payload reader, so the start tags are read again from the message; the
+     * headers in between are skipped.
+     */
+    private static String[] inscopeNamespaces(StreamMessage m) throws XMLStreamException {
+        Map<String, String> ns = new LinkedHashMap<>();
+        XMLStreamReader reader = m.readToBodyStarTag();
+        declared(reader, ns);
+        if (reader.nextTag() == XMLStreamConstants.START_ELEMENT && "Header".equals(reader.getLocalName())) {
+            XMLStreamReaderUtil.skipElement(reader);
+            reader.nextTag();
+        }
+        // the body declarations hide the envelope ones of the same prefix
+        declared(reader, ns);
+        String[] inscope = new String[ns.size() * 2];
+        int i = 0;
+        for (Map.Entry<String, String> e : ns.entrySet()) {
+            inscope[i++] = e.getKey();
+            inscope[i++] = e.getValue();
+        }
+        return inscope;
+    }
+
+    private static void declared(XMLStreamReader reader, Map<String, String> ns) {
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            String prefix = reader.getNamespacePrefix(i);
+            ns.put(prefix != null ? prefix : "", reader.getNamespaceURI(i));
+        }
+    }
+
+    private XMLStreamReader readPayloadForJAXB() throws JAXBException {
+        try {
+            return readPayload();
+        } catch (XMLStreamException e) {
+            throw new JAXBException(e);
+        }
+    }
+
+    /*
+     * Validates a copy of the payload, for the consumers that don't read it as a stream.
+     */
+    private void validate() {
+        if (read) {
+            return;
+        }
+        read = true;
+        Message copy = message.copy();
+        try {
+            XMLStreamReader reader = validating(copy, copy.readPayload());
+            if (reader != null) {
+                try {
+                    while (!((ValidatingStreamReader) reader).isDone() && reader.hasNext()) {
+                        reader.next();
+                    }
+                } finally {
+                    close(reader);
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new WebServiceException(e);
+        }
+    }
+
+    private static void close(XMLStreamReader reader) {
+        XMLStreamReaderUtil.readRest(reader);
+        XMLStreamReaderUtil.close(reader);
+        XMLStreamReaderFactory.recycle(reader);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.util.pipe;
+
+import com.sun.xml.ws.util.xml.XMLStreamReaderFilter;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.validation.ValidatorHandler;
+
+/**
+ * {@link XMLStreamReader} that validates the element it is positioned on
+ * while its consumer reads it.
+ *
+ * <p>
+ * Every event read with {@link #next()}, {@link #nextTag()} or
+ * {@link #getElementText()} is passed to a {@link ValidatorHandler}, so the
+ * element is validated in the same pass as it is unmarshalled. An error
+ * thrown by the error handler of the validator stops the reading with
+ * {@link ValidationFailure}.
+ *
+ * <p>
+ * The namespaces declared on the ancestors of the element, like the SOAP
+ * Envelope and Body, can't be enumerated from the reader; they are given
+ * to the constructor, so that the prefixes used in {@code xsi:type} and
+ * {@code xs:QName} values resolve.
+ *
+ * <p>
+ * Once the element has been read, the reader passes the events through
+ * without validating them: the siblings following the element, like the
+ * other children of a SOAP Body, aren't validated.
+ */
+final class ValidatingStreamReader extends XMLStreamReaderFilter {
+
+    /**
+     * Called once the element has been validated, or the validation has failed.
+     */
+    interface Listener {
+        void validated(ValidatorHandler handler, SAXException failure);
+    }
+
+    private final ValidatorHandler handler;
+    private final Listener listener;
+    private final AttributesImpl atts = new AttributesImpl();
+    // { prefix0, uri0, prefix1, uri1, ... } in scope of the element
+    private final String[] inscope;
+    private int depth;
+    private boolean done;
+
+    ValidatingStreamReader(XMLStreamReader reader, ValidatorHandler handler, Listener listener) throws XMLStreamException {
+        this(reader, null, handler, listener);
+    }
+
+    /**
+     * @param inscope namespaces declared on the ancestors of the element,
+     *      of the form { prefix0, uri0, prefix1, uri1, ... }, or null
+     */
+    ValidatingStreamReader(XMLStreamReader reader, String[] inscope, ValidatorHandler handler, Listener listener) throws XMLStreamException {
+        super(reader);
+        this.handler = handler;
+        this.listener = listener;
+        this.inscope = inscope != null ? inscope : new String[0];
+        try {
+            handler.startDocument();
+            for (int i = 0; i < this.inscope.length; i += 2) {
+                handler.startPrefixMapping(fixNull(this.inscope[i]), fixNull(this.inscope[i + 1]));
+            }
+        } catch (SAXException e) {
+            throw fail(e);
+        }
+        fire(reader.getEventType());
+    }
+
+    /**
+     * @return true when the element has been read entirely, or its validation has failed
+     */
+    boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        int event = reader.next();
+        fire(event);
+        return event;
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        int event = next();
+        while ((event == XMLStreamConstants.CHARACTERS && isWhiteSpace())
+                || (event == XMLStreamConstants.CDATA && isWhiteSpace())
+                || event == XMLStreamConstants.SPACE
+                || event == XMLStreamConstants.PROCESSING_INSTRUCTION
+                || event == XMLStreamConstants.COMMENT) {
+            event = next();
+        }
+        if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+            throw new XMLStreamException("expected start or end tag", getLocation());
+        }
+        return event;
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        if (getEventType() != XMLStreamConstants.START_ELEMENT) {
+            throw new XMLStreamException("parser must be on START_ELEMENT to read next text", getLocation());
+        }
+        StringBuilder sb = new StringBuilder();
+        int event = next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.ENTITY_REFERENCE) {
+                sb.append(getText());
+            } else if (event != XMLStreamConstants.PROCESSING_INSTRUCTION && event != XMLStreamConstants.COMMENT) {
+                throw new XMLStreamException("element text content may not contain START_ELEMENT", getLocation());
+            }
+            event = next();
+        }
+        return sb.toString();
+    }
+
+    private void fire(int event) throws XMLStreamException {
+        if (done) {
+            return;
+        }
+        try {
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    startElement();
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    endElement();
+                    if (--depth == 0) {
+                        for (int i = inscope.length - 2; i >= 0; i -= 2) {
+                            handler.endPrefixMapping(fixNull(inscope[i]));
+                        }
+                        handler.endDocument();
+                        done = true;
+                        listener.validated(handler, null);
+                    }
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (depth > 0) {
+                        handler.characters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                    break;
+                default:
+                    // comments and processing instructions are not validated
+            }
+        } catch (SAXException e) {
+            throw fail(e);
+        }
+    }
+
+    private void startElement() throws SAXException {
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            handler.startPrefixMapping(fixNull(reader.getNamespacePrefix(i)), fixNull(reader.getNamespaceURI(i)));
+        }
+        atts.clear();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String localName = reader.getAttributeLocalName(i);
+            atts.addAttribute(fixNull(reader.getAttributeNamespace(i)), localName,
+                    qName(prefix, localName), reader.getAttributeType(i), reader.getAttributeValue(i));
+        }
+        String localName = reader.getLocalName();
+        handler.startElement(fixNull(reader.getNamespaceURI()), localName, qName(reader.getPrefix(), localName), atts);
+    }
+
+    private void endElement() throws SAXException {
+        String localName = reader.getLocalName();
+        handler.endElement(fixNull(reader.getNamespaceURI()), localName, qName(reader.getPrefix(), localName));
+        for (int i = reader.getNamespaceCount() - 1; i >= 0; i--) {
+            handler.endPrefixMapping(fixNull(reader.getNamespacePrefix(i)));
+        }
+    }
+
+    private XMLStreamException fail(SAXException e) {
+        done = true;
+        listener.validated(handler, e);
+        return new ValidationFailure(e);
+    }
+
+    private static String qName(String prefix, String localName) {
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ':' + localName;
+    }
+
+    private static String fixNull(String s) {
+        return s == null ? "" : s;
+    }
+
+    /**
+     * Thrown when the element is not valid.
+     */
+    static final class ValidationFailure extends XMLStreamException {
+        private static final long serialVersionUID = 1L;
+
+        ValidationFailure(SAXException e) {
+            super(e.getMessage(), e);
+        }
+
+        SAXException getError() {
+            return (SAXException) getNestedException();
+        }
+    }
+}
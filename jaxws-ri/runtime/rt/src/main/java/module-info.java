@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -26,6 +26,7 @@ module com.sun.xml.ws.rt {
     requires java.desktop;
     requires java.logging;
     requires java.management;
+    requires transitive java.net.http;
     requires transitive java.xml;
     requires jdk.httpserver;
     requires jdk.unsupported;
@@ -67,6 +68,7 @@ module com.sun.xml.ws.rt {
     exports com.sun.xml.ws.api.model.soap;
     exports com.sun.xml.ws.api.model.wsdl;
     exports com.sun.xml.ws.api.model.wsdl.editable;
+    exports com.sun.xml.ws.api.monitoring;
     exports com.sun.xml.ws.api.pipe;
     exports com.sun.xml.ws.api.pipe.helper;
     exports com.sun.xml.ws.api.policy; //wsit
@@ -174,6 +176,8 @@ module com.sun.xml.ws.rt {
     uses com.sun.xml.ws.api.wsdl.writer.WSDLGeneratorExtension;
     uses com.sun.xml.ws.api.server.EndpointReferenceExtensionContributor;
     uses com.sun.xml.ws.api.server.ServerPipelineHook;
+    uses com.sun.xml.ws.api.monitoring.InvocationListener;
+    uses com.sun.xml.ws.api.IdGenerator;
 
     provides jakarta.xml.ws.spi.Provider with
             com.sun.xml.ws.spi.ProviderImpl;
@@ -187,4 +191,7 @@ module com.sun.xml.ws.rt {
     provides com.sun.xml.ws.spi.db.BindingContextFactory with
             com.sun.xml.ws.db.glassfish.JAXBRIContextFactory;
 
+    provides com.sun.xml.ws.api.pipe.TransportTubeFactory with
+            com.sun.xml.ws.transport.http.client.AsyncHttpTransportTubeFactory;
+
 }
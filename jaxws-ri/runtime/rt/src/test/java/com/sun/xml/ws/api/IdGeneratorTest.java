@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.api;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class IdGeneratorTest extends TestCase {
+
+    public void testFormat() {
+        for (IdGenerator ids : new IdGenerator[]{IdGenerator.fast(), IdGenerator.strong()}) {
+            String id = ids.generate();
+            UUID uuid = UUID.fromString(id);
+            assertEquals(id, uuid.toString());
+            assertEquals(4, uuid.version());
+            assertEquals(2, uuid.variant());
+        }
+    }
+
+    public void testUnique() throws Exception {
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    assertTrue(ids.add(IdGenerator.fast().generate()));
+                }
+            }));
+        }
+        for (Thread t : threads) {
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertEquals(80000, ids.size());
+    }
+
+    public void testSingleThread() {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(ids.add(IdGenerator.fast().generate()));
+        }
+    }
+
+    public void testSetInstance() {
+        IdGenerator old = IdGenerator.getInstance();
+        try {
+            IdGenerator.setInstance(IdGenerator.strong());
+            assertSame(IdGenerator.strong(), IdGenerator.getInstance());
+            IdGenerator.setInstance(null);
+            assertSame(IdGenerator.fast(), IdGenerator.getInstance());
+        } finally {
+            IdGenerator.setInstance(old);
+        }
+    }
+}
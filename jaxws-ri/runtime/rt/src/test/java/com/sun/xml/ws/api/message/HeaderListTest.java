@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,6 +11,8 @@
 package com.sun.xml.ws.api.message;
 
 import java.io.ByteArrayInputStream;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import javax.xml.namespace.QName;
@@ -72,6 +74,49 @@ public class HeaderListTest extends TestCase {
         }
     }
     
+    public void testIndexedLookup() throws Exception {
+        String otherNs = TEST_NS + "other";
+        for (int i = 0; i < 20; i++) {
+            testInstance.add(Headers.create(new QName(i % 2 == 0 ? TEST_NS : otherNs, "h" + i % 5), "" + i));
+        }
+
+        assertEquals("1", testInstance.get(otherNs, "h1", false).getStringContent());
+        assertEquals("6", testInstance.get(TEST_NS, "h1", true).getStringContent());
+        assertTrue(testInstance.isUnderstood(6));
+        assertTrue(testInstance.isUnderstood(TEST_NS, "h1"));
+        assertNull(testInstance.get(TEST_NS, "h5", false));
+
+        Iterator<Header> it = testInstance.getHeaders(otherNs, "h3", true);
+        assertEquals("3", it.next().getStringContent());
+        // changes are seen by the iterators and the lookups
+        testInstance.remove(13);
+        testInstance.add(Headers.create(new QName(otherNs, "h3"), "last"));
+        assertEquals("last", it.next().getStringContent());
+        assertFalse(it.hasNext());
+        assertTrue(testInstance.isUnderstood(3));
+        assertTrue(testInstance.isUnderstood(testInstance.size() - 1));
+
+        testInstance.set(0, Headers.create(new QName(otherNs, "h4"), "set"));
+        assertEquals("set", testInstance.get(otherNs, "h4", false).getStringContent());
+        assertEquals("10", testInstance.get(TEST_NS, "h0", false).getStringContent());
+
+        testInstance.addOrReplace(Headers.create(new QName(TEST_NS, "h0"), "replaced"));
+        assertEquals("replaced", testInstance.get(TEST_NS, "h0", false).getStringContent());
+        assertEquals("replaced", testInstance.get(10).getStringContent());
+        assertEquals("replaced", testInstance.remove(TEST_NS, "h0").getStringContent());
+        assertEquals("2", testInstance.get(TEST_NS, "h2", false).getStringContent());
+
+        int count = 0;
+        for (Iterator<Header> ns = testInstance.getHeaders(TEST_NS, false); ns.hasNext(); ns.next()) {
+            count++;
+        }
+        assertEquals(8, count);
+
+        List<Header> view = testInstance.subList(0, 2);
+        view.set(1, Headers.create(new QName(TEST_NS, "h5"), "view"));
+        assertEquals("view", testInstance.get(TEST_NS, "h5", false).getStringContent());
+    }
+
     public void testUnderstoodBehavior() throws Exception {
       //a fairly complex SOAPMessage with 2 mustUnderstand=true headers, 
         //one mustUnderstand=false and one with no mustUnderstand specified
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.api.monitoring;
+
+import junit.framework.TestCase;
+
+import javax.xml.namespace.QName;
+import java.util.ArrayList;
+import java.util.List;
+
+public class InvocationStatisticsTest extends TestCase {
+
+    private static final QName SERVICE = new QName("urn:test", "Service");
+    private static final QName PORT = new QName("urn:test", "Port");
+    private static final QName ECHO = new QName("urn:test", "echo");
+    private static final QName PING = new QName("urn:test", "ping");
+
+    public void testRecord() {
+        InvocationStatistics stats = new InvocationStatistics(SERVICE, PORT, false);
+        long start = System.nanoTime();
+        stats.record(ECHO, start, false);
+        stats.record(ECHO, start, true);
+        stats.record(PING, start, false);
+        stats.record(null, start, false);
+
+        assertEquals(4, stats.getTotal().getRequestCount());
+        assertEquals(1, stats.getTotal().getFailureCount());
+        assertEquals(2, stats.getOperation(ECHO).getRequestCount());
+        assertEquals(1, stats.getOperation(ECHO).getFailureCount());
+        assertEquals(1, stats.getOperation(PING).getRequestCount());
+        assertEquals(2, stats.getOperations().size());
+        assertNull(stats.getOperation(new QName("urn:test", "unknown")));
+    }
+
+    public void testTotalNotRecorded() {
+        InvocationStatistics stats = new InvocationStatistics(SERVICE, PORT, false);
+        assertEquals(0, stats.getTotal().getRequestCount());
+        // no statistics are allocated until an invocation is recorded
+        assertSame(stats.getTotal(), new InvocationStatistics(SERVICE, PORT, true).getTotal());
+        stats.record(ECHO, System.nanoTime(), false);
+        assertEquals(1, stats.getTotal().getRequestCount());
+    }
+
+    public void testListener() {
+        final InvocationStatistics stats = new InvocationStatistics(SERVICE, PORT, true);
+        final List<QName> invoked = new ArrayList<>();
+        InvocationListener listener = (source, operation, nanos, failed) -> {
+            assertSame(stats, source);
+            assertTrue(nanos >= 0);
+            invoked.add(operation);
+        };
+        stats.addListener(listener);
+        stats.record(ECHO, System.nanoTime(), false);
+        stats.removeListener(listener);
+        stats.record(PING, System.nanoTime(), false);
+
+        assertEquals(1, invoked.size());
+        assertEquals(ECHO, invoked.get(0));
+        assertTrue(stats.isClient());
+    }
+
+    public void testFailingListener() {
+        InvocationStatistics stats = new InvocationStatistics(SERVICE, PORT, false);
+        stats.addListener((source, operation, nanos, failed) -> {
+            throw new IllegalStateException("broken listener");
+        });
+        stats.record(ECHO, System.nanoTime(), false);
+        assertEquals(1, stats.getTotal().getRequestCount());
+    }
+}
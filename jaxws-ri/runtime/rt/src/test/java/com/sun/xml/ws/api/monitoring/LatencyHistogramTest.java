@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.api.monitoring;
+
+import junit.framework.TestCase;
+
+public class LatencyHistogramTest extends TestCase {
+
+    public void testBuckets() {
+        long previous = -1;
+        for (int i = 0; i <= LatencyHistogram.index(LatencyHistogram.MAX_VALUE); i++) {
+            long upper = LatencyHistogram.upperBound(i);
+            assertEquals(i, LatencyHistogram.index(previous + 1));
+            assertEquals(i, LatencyHistogram.index(upper));
+            assertTrue(upper > previous);
+            previous = upper;
+        }
+        assertEquals(LatencyHistogram.MAX_VALUE, previous);
+    }
+
+    public void testEmpty() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getMean());
+        assertEquals(0, h.getValueAtPercentile(99));
+    }
+
+    public void testPercentiles() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            h.record(i);
+        }
+        assertEquals(1000, h.getCount());
+        assertEquals(500, h.getMean());
+        assertEquals(1000, h.getMax());
+        assertRelative(500, h.getValueAtPercentile(50));
+        assertRelative(990, h.getValueAtPercentile(99));
+        assertEquals(1000, h.getValueAtPercentile(100));
+        assertEquals(1, h.getValueAtPercentile(0));
+    }
+
+    public void testOutOfRange() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.record(-5);
+        h.record(Long.MAX_VALUE);
+        assertEquals(0, h.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_VALUE, h.getValueAtPercentile(100));
+        try {
+            h.getValueAtPercentile(101);
+            fail("percentile above 100 must be rejected");
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    public void testConcurrentRecording() throws InterruptedException {
+        final LatencyHistogram h = new LatencyHistogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    h.record(100);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertEquals(40000, h.getCount());
+        assertEquals(100, h.getMean());
+        assertRelative(100, h.getValueAtPercentile(50));
+    }
+
+    private static void assertRelative(long expected, long actual) {
+        assertTrue("expected about " + expected + " but was " + actual,
+                actual >= expected && actual <= expected + expected / 8);
+    }
+}
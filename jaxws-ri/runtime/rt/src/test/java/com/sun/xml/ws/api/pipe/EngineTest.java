@@ -12,7 +12,9 @@ package com.sun.xml.ws.api.pipe;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import com.sun.istack.NotNull;
 import com.sun.xml.ws.api.message.Packet;
@@ -111,6 +113,32 @@ public class EngineTest extends TestCase {
         assertEquals(testContainer, firstCall.container);
     }
     
+    public void testVirtualThreads() throws Exception {
+        Container testContainer = new Container() {};
+        Engine e = new Engine("engine1", testContainer);
+        assertFalse(e.isVirtualThreads());
+        e.setVirtualThreads(true);
+        assertTrue(e.isVirtualThreads());
+
+        Fiber f = e.createFiber();
+        TestTube testTube = new TestTube();
+        Packet request = new Packet();
+        final CountDownLatch done = new CountDownLatch(1);
+        SimpleCompletionCallback callback = new SimpleCompletionCallback() {
+            @Override
+            public void onCompletion(@NotNull Packet response) {
+                super.onCompletion(response);
+                done.countDown();
+            }
+        };
+
+        // falls back to the thread pool when virtual threads are not available
+        f.start(testTube, request, callback);
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(request, callback.response);
+    }
+
     static class SimpleCompletionCallback implements CompletionCallback {
         public Packet response = null;
         public Throwable error = null;
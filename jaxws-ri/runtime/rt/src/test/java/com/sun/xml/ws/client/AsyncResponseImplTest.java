@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.client;
+
+import com.sun.xml.ws.developer.CompletableResponse;
+import jakarta.xml.ws.WebServiceException;
+import junit.framework.TestCase;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AsyncResponseImplTest extends TestCase {
+
+    private static final Runnable NOOP = new Runnable() {
+        @Override
+        public void run() {
+        }
+    };
+
+    public void testCompletedByCompletingThread() throws Exception {
+        final AsyncResponseImpl<String> response = new AsyncResponseImpl<>(NOOP, null);
+        response.run();
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        CompletionStage<String> stage = response.toCompletionStage()
+                .thenApply(v -> {
+                    thread.set(Thread.currentThread());
+                    return v;
+                });
+        assertFalse(stage.toCompletableFuture().isDone());
+
+        Thread t = new Thread(() -> response.set("done", null));
+        t.start();
+        t.join();
+        assertEquals("done", stage.toCompletableFuture().get());
+        assertSame(t, thread.get());
+        assertSame(response.toCompletionStage(), response.toCompletionStage());
+    }
+
+    public void testAlreadyCompleted() throws Exception {
+        AsyncResponseImpl<String> response = new AsyncResponseImpl<>(NOOP, null);
+        response.set("done", null);
+        assertEquals("done", response.toCompletionStage().toCompletableFuture().getNow(null));
+    }
+
+    public void testException() {
+        AsyncResponseImpl<String> response = new AsyncResponseImpl<>(NOOP, null);
+        CompletableFuture<String> future = response.toCompletionStage().toCompletableFuture();
+        WebServiceException e = new WebServiceException("failed");
+        response.set(null, e);
+        assertTrue(future.isCompletedExceptionally());
+        assertSame(e, future.handle((v, t) -> t).join());
+    }
+
+    public void testHandlerCalledFirst() {
+        final AtomicBoolean handled = new AtomicBoolean();
+        AsyncResponseImpl<String> response = new AsyncResponseImpl<>(NOOP, r -> handled.set(true));
+        CompletableFuture<Boolean> future = response.toCompletionStage()
+                .thenApply(v -> handled.get()).toCompletableFuture();
+        response.set("done", null);
+        assertTrue(future.join());
+    }
+
+    public void testCancel() {
+        AsyncResponseImpl<String> response = new AsyncResponseImpl<>(NOOP, null);
+        assertTrue(response.toCompletionStage().toCompletableFuture().cancel(false));
+        assertTrue(response.isCancelled());
+
+        response = new AsyncResponseImpl<>(NOOP, null);
+        CompletableFuture<String> future = response.toCompletionStage().toCompletableFuture();
+        response.cancel(false);
+        assertTrue(future.isCancelled());
+    }
+
+    public void testToStage() {
+        AsyncResponseImpl<String> response = new AsyncResponseImpl<>(NOOP, null);
+        assertSame(response.toCompletionStage(), CompletableResponse.toStage(response));
+        try {
+            CompletableResponse.toStage(new CompletableFuture<String>());
+            fail("only responses of the runtime have a stage");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
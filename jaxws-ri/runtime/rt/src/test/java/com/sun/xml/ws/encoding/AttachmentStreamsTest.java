@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.encoding;
+
+import com.sun.xml.ws.util.ByteArrayDataSource;
+import jakarta.activation.DataHandler;
+import jakarta.activation.DataSource;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+public class AttachmentStreamsTest extends TestCase {
+
+    public void testByteArray() throws IOException {
+        byte[] data = content(100);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AttachmentStreams.writeTo(new DataHandler(new ByteArrayDataSource(data, 10, 50, "application/octet-stream")), out);
+        assertTrue(Arrays.equals(Arrays.copyOfRange(data, 10, 60), out.toByteArray()));
+    }
+
+    public void testStreaming() throws IOException {
+        final byte[] data = content(200 * 1024 + 17);
+        final boolean[] closed = new boolean[1];
+        DataSource ds = new DataSource() {
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(data) {
+                    @Override
+                    public void close() {
+                        closed[0] = true;
+                    }
+                };
+            }
+
+            @Override
+            public OutputStream getOutputStream() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String getContentType() {
+                return "application/octet-stream";
+            }
+
+            @Override
+            public String getName() {
+                return null;
+            }
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AttachmentStreams.writeTo(new DataSourceStreamingDataHandler(ds), out);
+        assertTrue(Arrays.equals(data, out.toByteArray()));
+        assertTrue(closed[0]);
+    }
+
+    public void testCopy() throws IOException {
+        byte[] data = content(3 * 64 * 1024 + 1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AttachmentStreams.copy(new ByteArrayInputStream(data), out);
+        assertTrue(Arrays.equals(data, out.toByteArray()));
+    }
+
+    private static byte[] content(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) (i * 31);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.handler;
+
+import com.sun.xml.ws.api.BindingID;
+import com.sun.xml.ws.api.WSBinding;
+import com.sun.xml.ws.api.message.Header;
+import com.sun.xml.ws.api.message.Message;
+import com.sun.xml.ws.api.message.MessageHeaders;
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.binding.BindingImpl;
+import com.sun.xml.ws.message.ByteArrayAttachment;
+import junit.framework.TestCase;
+
+import jakarta.xml.soap.AttachmentPart;
+import jakarta.xml.soap.SOAPBody;
+import jakarta.xml.soap.SOAPEnvelope;
+import jakarta.xml.soap.SOAPHeader;
+import jakarta.xml.soap.SOAPMessage;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+
+public class LazySOAPMessageTest extends TestCase {
+
+    private static final String ENVELOPE = "<S:Envelope xmlns:S='http://schemas.xmlsoap.org/soap/envelope/'>"
+            + "<S:Header><h:one xmlns:h='urn:h' S:mustUnderstand='1'>1</h:one><h:two xmlns:h='urn:h'>2</h:two></S:Header>"
+            + "<S:Body><p:echo xmlns:p='urn:test'>hello</p:echo></S:Body></S:Envelope>";
+
+    private static final QName ONE = new QName("urn:h", "one");
+    private static final QName THREE = new QName("urn:h", "three");
+
+    private final WSBinding binding = BindingImpl.create(BindingID.SOAP11_HTTP);
+
+    public void testNotRead() throws Exception {
+        Packet packet = decode();
+        Message original = packet.getMessage();
+        SOAPMessageContextImpl context = context(packet);
+        assertTrue(context.getMessage() instanceof LazySOAPMessage);
+        context.updateMessage();
+        assertSame(original, packet.getMessage());
+    }
+
+    public void testHeadersOnly() throws Exception {
+        Packet packet = decode();
+        Message original = packet.getMessage();
+        original.getHeaders().understood(ONE);
+        SOAPMessageContextImpl context = context(packet);
+
+        SOAPHeader header = context.getMessage().getSOAPHeader();
+        assertEquals(2, count(header.examineAllHeaderElements()));
+        header.addHeaderElement(THREE).addTextNode("3");
+        context.updateMessage();
+
+        // the payload wasn't read
+        assertSame(original, packet.getMessage());
+        MessageHeaders headers = packet.getMessage().getHeaders();
+        assertNotNull(headers.get(THREE, false));
+        assertNotNull(headers.get("urn:h", "two", false));
+        assertTrue(headers.isUnderstood(headers.get(ONE, false)));
+        assertTrue(headers.getUnderstoodHeaders().contains(ONE));
+        assertEquals("hello", text(packet.getMessage()));
+    }
+
+    public void testHeadersRead() throws Exception {
+        Packet packet = decode();
+        Message original = packet.getMessage();
+        Header one = original.getHeaders().get(ONE, false);
+        SOAPMessageContextImpl context = context(packet);
+
+        SOAPHeader header = context.getMessage().getSOAPHeader();
+        assertEquals(2, count(header.examineAllHeaderElements()));
+        context.updateMessage();
+
+        // only looked at, the headers of the message are kept
+        assertSame(original, packet.getMessage());
+        assertSame(one, packet.getMessage().getHeaders().get(ONE, false));
+    }
+
+    public void testHeadersThenBody() throws Exception {
+        Packet packet = decode();
+        Message original = packet.getMessage();
+        SOAPMessageContextImpl context = context(packet);
+        SOAPMessage message = context.getMessage();
+
+        SOAPHeader header = message.getSOAPHeader();
+        header.addHeaderElement(THREE).addTextNode("3");
+        // the body of the envelope of the header is empty until it is read
+        assertNull(((SOAPEnvelope) header.getParentElement()).getBody().getFirstChild());
+
+        SOAPBody body = message.getSOAPBody();
+        assertEquals("echo", body.getFirstChild().getLocalName());
+        // merged into the envelope the header was given from
+        assertEquals("echo", ((SOAPEnvelope) header.getParentElement()).getBody().getFirstChild().getLocalName());
+        assertEquals(3, count(message.getSOAPHeader().examineAllHeaderElements()));
+        context.updateMessage();
+
+        Message updated = packet.getMessage();
+        assertNotSame(original, updated);
+        assertNotNull(updated.getHeaders().get(THREE, false));
+        assertEquals("hello", text(updated));
+    }
+
+    public void testAttachments() throws Exception {
+        Packet packet = decode();
+        packet.getMessage().getAttachments().add(
+                new ByteArrayAttachment("att@test", "data".getBytes(StandardCharsets.UTF_8), "text/plain"));
+        SOAPMessageContextImpl context = context(packet);
+        SOAPMessage message = context.getMessage();
+
+        message.getSOAPHeader();
+        assertEquals(1, message.countAttachments());
+        AttachmentPart part = message.getAttachments().next();
+        assertTrue(part.getContentId(), part.getContentId().contains("att@test"));
+        context.updateMessage();
+
+        assertTrue(packet.getMessage().getAttachments().iterator().hasNext());
+        assertEquals("hello", text(packet.getMessage()));
+    }
+
+    public void testNotLazy() throws Exception {
+        Packet packet = decode();
+        Message original = packet.getMessage();
+        SOAPMessageContextImpl context = new SOAPMessageContextImpl(binding, packet, Collections.<String>emptySet(), false);
+        SOAPMessage message = context.getMessage();
+        assertFalse(message instanceof LazySOAPMessage);
+
+        message.getSOAPHeader().addHeaderElement(THREE).addTextNode("3");
+        context.updateMessage();
+        assertNotSame(original, packet.getMessage());
+        assertNotNull(packet.getMessage().getHeaders().get(THREE, false));
+        assertEquals("hello", text(packet.getMessage()));
+    }
+
+    private Packet decode() throws Exception {
+        Packet packet = new Packet();
+        BindingID.SOAP11_HTTP.createEncoder(binding).decode(
+                new ByteArrayInputStream(ENVELOPE.getBytes(StandardCharsets.UTF_8)), "text/xml; charset=utf-8", packet);
+        return packet;
+    }
+
+    private SOAPMessageContextImpl context(Packet packet) {
+        return new SOAPMessageContextImpl(binding, packet, Collections.<String>emptySet(), true);
+    }
+
+    private static int count(Iterator<?> it) {
+        int n = 0;
+        for (; it.hasNext(); it.next()) {
+            n++;
+        }
+        return n;
+    }
+
+    private static String text(Message message) throws Exception {
+        XMLStreamReader reader = message.readPayload();
+        return reader.getElementText();
+    }
+}
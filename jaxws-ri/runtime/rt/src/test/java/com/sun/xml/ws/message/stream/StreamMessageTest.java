@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -119,6 +119,20 @@ public class StreamMessageTest extends TestCase {
         message.copy();
     }
 
+    public void testCopyTwice() throws Exception {
+        String soapMsg = "<S:Envelope xmlns:S='http://schemas.xmlsoap.org/soap/envelope/'><S:Body> <a xmlns='urn:test'><b>text</b></a> </S:Body></S:Envelope>";
+        Message message = useStreamCodec(soapMsg);
+        Message copy1 = message.copy();
+        Message copy2 = message.copy();
+        Message copy3 = copy1.copy();
+        for (Message m : new Message[] {message, copy1, copy2, copy3}) {
+            XMLStreamReader reader = m.readPayload();
+            assertEquals("a", reader.getLocalName());
+            reader.nextTag();
+            assertEquals("text", reader.getElementText());
+        }
+    }
+
     /*
      * Test for the following exception. Bug in StreamMessage.copy() code
      * java.lang.IllegalArgumentException: faultCode argument for createFault was passed NULL
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.server;
+
+import com.sun.xml.stream.buffer.MutableXMLStreamBuffer;
+import com.sun.xml.ws.api.server.Container;
+import com.sun.xml.ws.api.server.SDDocumentSource;
+import com.sun.xml.ws.api.server.WSEndpoint;
+import com.sun.xml.ws.model.AbstractSEIModelImpl;
+import com.sun.xml.ws.runtime.config.ObjectFactory;
+import com.sun.xml.ws.runtime.config.TubeFactoryConfig;
+import junit.framework.TestCase;
+
+import jakarta.jws.WebService;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlElements;
+import jakarta.xml.bind.annotation.adapters.XmlAdapter;
+import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+public class GeneratedWSDLCacheTest extends TestCase {
+
+    public void testPutGet() throws Exception {
+        Path dir = Files.createTempDirectory("wsdl-cache");
+        GeneratedWSDLCache cache = new GeneratedWSDLCache(dir);
+        assertNull(cache.get("k"));
+
+        cache.put("k", Arrays.asList(
+                document("file:///CachedImplService.wsdl",
+                        "<definitions xmlns='http://schemas.xmlsoap.org/wsdl/'><import location='CachedImplService_schema1.xsd'/></definitions>"),
+                document("file:///CachedImplService_schema1.xsd",
+                        "<schema xmlns='http://www.w3.org/2001/XMLSchema'/>")));
+
+        List<SDDocumentSource> docs = new GeneratedWSDLCache(dir).get("k");
+        assertEquals(2, docs.size());
+        assertEquals(new URL("file:///CachedImplService.wsdl"), docs.get(0).getSystemId());
+        assertEquals("definitions", rootName(docs.get(0)));
+        assertEquals(new URL("file:///CachedImplService_schema1.xsd"), docs.get(1).getSystemId());
+        assertEquals("schema", rootName(docs.get(1)));
+        // the documents can be read again
+        assertEquals("definitions", rootName(docs.get(0)));
+        assertNull(cache.get("other"));
+    }
+
+    public void testKey() {
+        WSEndpoint<CachedImpl> endpoint = WSEndpoint.create(CachedImpl.class, false, null, null, null, null, null, null, null, null, true);
+        try {
+            AbstractSEIModelImpl model = (AbstractSEIModelImpl) endpoint.getSEIModel();
+            String key = GeneratedWSDLCache.key(model, endpoint.getBinding(), CachedImpl.class, null, new Object[0]);
+            assertNotNull(key);
+            assertEquals(key, GeneratedWSDLCache.key(model, endpoint.getBinding(), CachedImpl.class, null, new Object[0]));
+            // other generator extensions give other documents
+            assertFalse(key.equals(GeneratedWSDLCache.key(model, endpoint.getBinding(), CachedImpl.class, null, new Object[] {this})));
+            // and so does another container
+            assertFalse(key.equals(GeneratedWSDLCache.key(model, endpoint.getBinding(), CachedImpl.class, Container.NONE, new Object[0])));
+        } finally {
+            endpoint.dispose();
+        }
+    }
+
+    public void testEvict() throws Exception {
+        Path dir = Files.createTempDirectory("wsdl-cache");
+        GeneratedWSDLCache cache = new GeneratedWSDLCache(dir);
+        List<SDDocumentSource> docs = Arrays.asList(document("file:///CachedImplService.wsdl",
+                "<definitions xmlns='http://schemas.xmlsoap.org/wsdl/'/>"));
+        cache.put("e1-01", docs);
+        cache.put("e2-01", docs);
+        // the classes of the first endpoint have changed
+        cache.put("e1-02", docs);
+        assertNull(cache.get("e1-01"));
+        assertNotNull(cache.get("e1-02"));
+        assertNotNull(cache.get("e2-01"));
+    }
+
+    public void testAnnotationClasses() {
+        Set<Class<?>> classes = GeneratedWSDLCache.classes(AnnotatedBean.class, null);
+        assertTrue(classes.contains(CachedBean.class));
+        assertTrue(classes.contains(CachedAdapter.class));
+        assertFalse(classes.contains(Integer.class));
+    }
+
+    public void testPackageClasses() throws Exception {
+        Set<Class<?>> classes = GeneratedWSDLCache.classes(TubeFactoryConfig.class, null);
+        assertTrue(classes.contains(Class.forName("com.sun.xml.ws.runtime.config.package-info")));
+        assertTrue(classes.contains(ObjectFactory.class));
+    }
+
+    public void testParentLoaderClasses() throws Exception {
+        // the implementation of an application, its bean shared from the parent loader
+        ClassLoader child = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (!name.equals(CachedImpl.class.getName())) {
+                    return super.loadClass(name, resolve);
+                }
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> c = findLoadedClass(name);
+                    if (c == null) {
+                        byte[] b;
+                        try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                            b = in.readAllBytes();
+                        } catch (IOException e) {
+                            throw new ClassNotFoundException(name, e);
+                        }
+                        c = defineClass(name, b, 0, b.length);
+                    }
+                    return c;
+                }
+            }
+        };
+        Class<?> impl = child.loadClass(CachedImpl.class.getName());
+        assertNotSame(CachedImpl.class, impl);
+        Set<Class<?>> classes = GeneratedWSDLCache.classes(impl, null);
+        assertTrue(classes.contains(impl));
+        assertTrue(classes.contains(CachedBean.class));
+        assertFalse(classes.contains(String.class));
+    }
+
+    private static SDDocumentSource document(String systemId, String xml) throws Exception {
+        MutableXMLStreamBuffer xsb = new MutableXMLStreamBuffer();
+        xsb.setSystemId(systemId);
+        xsb.createFromXMLStreamReader(XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml)));
+        return SDDocumentSource.create(new URL(systemId), xsb);
+    }
+
+    private static String rootName(SDDocumentSource doc) throws Exception {
+        XMLStreamReader reader = doc.read();
+        reader.nextTag();
+        return reader.getLocalName();
+    }
+
+    @WebService
+    public static class CachedImpl {
+        public CachedBean echo(CachedBean bean) {
+            return bean;
+        }
+    }
+
+    public static class CachedBean {
+        public String value;
+    }
+
+    public static class AnnotatedBean {
+        @XmlElements({@XmlElement(name = "bean", type = CachedBean.class), @XmlElement(name = "number", type = Integer.class)})
+        public Object value;
+
+        @XmlJavaTypeAdapter(CachedAdapter.class)
+        public Object adapted;
+    }
+
+    public static class CachedAdapter extends XmlAdapter<String, Object> {
+        @Override
+        public Object unmarshal(String v) {
+            return v;
+        }
+
+        @Override
+        public String marshal(Object v) {
+            return String.valueOf(v);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.server;
+
+import junit.framework.TestCase;
+
+public class TimeoutWheelTest extends TestCase {
+
+    private static final long TIMEOUT = 6400;
+
+    public void testExpire() {
+        TimeoutWheel.Statistics stats = new TimeoutWheel.Statistics();
+        TimeoutWheel wheel = new TimeoutWheel(TIMEOUT, stats);
+        Counter e = new Counter();
+        long start = System.currentTimeMillis();
+        wheel.touch(e);
+
+        wheel.sweep(start + TIMEOUT / 2);
+        assertEquals(0, e.expired);
+
+        wheel.sweep(start + TIMEOUT + 2 * wheel.getTick());
+        assertEquals(1, e.expired);
+        assertEquals(1, stats.getTouchCount());
+        assertEquals(1, stats.getExpiredCount());
+        assertTrue(stats.getMaxExpiryDelay() <= 2 * wheel.getTick());
+
+        // not scheduled anymore
+        wheel.sweep(start + 3 * TIMEOUT);
+        assertEquals(1, e.expired);
+    }
+
+    public void testTouchPostponesExpiry() throws InterruptedException {
+        TimeoutWheel wheel = new TimeoutWheel(TIMEOUT, new TimeoutWheel.Statistics());
+        Counter e = new Counter();
+        long start = System.currentTimeMillis();
+        wheel.touch(e);
+        Thread.sleep(20);
+        wheel.touch(e);
+        long touched = System.currentTimeMillis();
+
+        // the first deadline has passed, but not the one of the last touch
+        wheel.sweep(start + TIMEOUT + 1);
+        if (touched + TIMEOUT > start + TIMEOUT + 1) {
+            assertEquals(0, e.expired);
+        }
+
+        wheel.sweep(touched + TIMEOUT + 2 * wheel.getTick());
+        assertEquals(1, e.expired);
+    }
+
+    public void testCancel() {
+        TimeoutWheel wheel = new TimeoutWheel(TIMEOUT, new TimeoutWheel.Statistics());
+        Counter e = new Counter();
+        long start = System.currentTimeMillis();
+        wheel.touch(e);
+        TimeoutWheel.cancel(e);
+
+        wheel.sweep(start + 2 * TIMEOUT);
+        assertEquals(0, e.expired);
+
+        // touching again reschedules it
+        start = System.currentTimeMillis();
+        wheel.touch(e);
+        wheel.sweep(start + 3 * TIMEOUT);
+        assertEquals(1, e.expired);
+    }
+
+    public void testMoveToOtherWheel() {
+        TimeoutWheel.Statistics stats = new TimeoutWheel.Statistics();
+        TimeoutWheel first = new TimeoutWheel(TIMEOUT, stats);
+        TimeoutWheel second = new TimeoutWheel(2 * TIMEOUT, stats);
+        Counter e = new Counter();
+        long start = System.currentTimeMillis();
+        first.touch(e);
+        second.touch(e);
+
+        first.sweep(start + 2 * TIMEOUT);
+        assertEquals(0, e.expired);
+
+        second.sweep(start + 3 * TIMEOUT);
+        assertEquals(1, e.expired);
+    }
+
+    public void testBatch() {
+        TimeoutWheel.Statistics stats = new TimeoutWheel.Statistics();
+        TimeoutWheel wheel = new TimeoutWheel(TIMEOUT, stats);
+        Counter[] entries = new Counter[1000];
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new Counter();
+            wheel.touch(entries[i]);
+        }
+        // late sweeper still expires everything once
+        wheel.sweep(start + 10 * TIMEOUT);
+        for (Counter e : entries) {
+            assertEquals(1, e.expired);
+        }
+        assertEquals(entries.length, stats.getExpiredCount());
+    }
+
+    public void testLongTimeout() {
+        // ticks of a second, the deadline is several rounds of the wheel away
+        long timeout = 600_000;
+        TimeoutWheel wheel = new TimeoutWheel(timeout, new TimeoutWheel.Statistics());
+        Counter e = new Counter();
+        long start = System.currentTimeMillis();
+        wheel.touch(e);
+
+        for (long t = start; t < start + timeout - wheel.getTick(); t += 100 * wheel.getTick()) {
+            wheel.sweep(t);
+        }
+        wheel.sweep(start + timeout / 2);
+        assertEquals(0, e.expired);
+
+        wheel.sweep(start + timeout + 2 * wheel.getTick());
+        assertEquals(1, e.expired);
+    }
+
+    public void testInvalidTimeout() {
+        try {
+            new TimeoutWheel(0, new TimeoutWheel.Statistics());
+            fail("time out must be positive");
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    private static final class Counter extends TimeoutWheel.Entry {
+        int expired;
+
+        @Override
+        protected void expired() {
+            expired++;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.http;
+
+import com.sun.xml.ws.api.server.SDDocument;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+public class DocumentCacheTest extends TestCase {
+
+    private final SDDocument wsdl = document();
+    private final SDDocument xsd = document();
+
+    public void testCache() {
+        DocumentCache cache = new DocumentCache();
+        assertNull(cache.get(wsdl, "http://a", 1));
+        DocumentCache.Document doc = cache.put(wsdl, "http://a", 1, bytes("<definitions/>"));
+        assertSame(doc, cache.get(wsdl, "http://a", 1));
+        assertNull(cache.get(wsdl, "http://b", 1));
+        assertNull(cache.get(xsd, "http://a", 1));
+
+        // new port addresses drop the documents
+        assertNull(cache.get(wsdl, "http://a", 2));
+        cache.put(xsd, "http://a", 2, bytes("<schema/>"));
+        assertNull(cache.get(wsdl, "http://a", 2));
+        assertNotNull(cache.get(xsd, "http://a", 2));
+
+        cache.clear();
+        assertNull(cache.get(xsd, "http://a", 2));
+    }
+
+    public void testETag() {
+        DocumentCache.Document a = new DocumentCache.Document(bytes("<definitions name='a'/>"));
+        DocumentCache.Document b = new DocumentCache.Document(bytes("<definitions name='b'/>"));
+        assertEquals(a.getETag(), new DocumentCache.Document(bytes("<definitions name='a'/>")).getETag());
+        assertFalse(a.getETag().equals(b.getETag()));
+        assertFalse(a.getETag().equals(a.getGzippedETag()));
+        assertTrue(a.getETag().startsWith("\"") && a.getETag().endsWith("\""));
+
+        assertFalse(DocumentCache.matches(null, a.getETag()));
+        assertTrue(DocumentCache.matches(Collections.singletonList(a.getETag()), a.getETag()));
+        assertTrue(DocumentCache.matches(Collections.singletonList(b.getETag() + ", W/" + a.getETag()), a.getETag()));
+        assertTrue(DocumentCache.matches(Collections.singletonList("*"), a.getETag()));
+        assertFalse(DocumentCache.matches(Arrays.asList(b.getETag(), a.getGzippedETag()), a.getETag()));
+    }
+
+    public void testGzip() throws Exception {
+        byte[] bytes = bytes("<definitions><types/><message/></definitions>");
+        DocumentCache.Document doc = new DocumentCache.Document(bytes);
+        byte[] gzipped = doc.getGzipped();
+        assertSame(gzipped, doc.getGzipped());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertTrue(Arrays.equals(bytes, in.readAllBytes()));
+        }
+
+        assertFalse(DocumentCache.acceptsGzip(null));
+        assertTrue(DocumentCache.acceptsGzip(Collections.singletonList("deflate, gzip")));
+        assertTrue(DocumentCache.acceptsGzip(Collections.singletonList("GZIP;q=0.5")));
+        assertFalse(DocumentCache.acceptsGzip(Collections.singletonList("gzip; q=0")));
+        assertFalse(DocumentCache.acceptsGzip(Collections.singletonList("identity")));
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static SDDocument document() {
+        return (SDDocument) Proxy.newProxyInstance(SDDocument.class.getClassLoader(),
+                new Class<?>[] {SDDocument.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
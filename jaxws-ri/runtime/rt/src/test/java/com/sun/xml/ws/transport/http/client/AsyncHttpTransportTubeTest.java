@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.http.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.xml.ws.api.BindingID;
+import com.sun.xml.ws.api.EndpointAddress;
+import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.WSBinding;
+import com.sun.xml.ws.api.message.Messages;
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.pipe.Engine;
+import com.sun.xml.ws.api.pipe.Fiber;
+import com.sun.xml.ws.api.pipe.Tube;
+import com.sun.xml.ws.binding.BindingImpl;
+import com.sun.xml.ws.client.ClientTransportException;
+import junit.framework.TestCase;
+
+import jakarta.xml.ws.BindingProvider;
+import jakarta.xml.ws.handler.MessageContext;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncHttpTransportTubeTest extends TestCase {
+
+    private static final String FAULT = "<S:Envelope xmlns:S='http://schemas.xmlsoap.org/soap/envelope/'><S:Body>"
+            + "<S:Fault><faultcode>S:Server</faultcode><faultstring>failed</faultstring></S:Fault>"
+            + "</S:Body></S:Envelope>";
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HttpServer server;
+    private ExecutorService fibers;
+
+    @Override
+    protected void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/echo", exchange -> {
+            String body = read(exchange);
+            String test = exchange.getRequestHeaders().getFirst("X-Test");
+            if (test != null) {
+                exchange.getResponseHeaders().add("X-Echo", test);
+            }
+            reply(exchange, 200, body);
+        });
+        server.createContext("/fault", exchange -> {
+            read(exchange);
+            reply(exchange, 500, FAULT);
+        });
+        server.createContext("/missing", exchange -> {
+            read(exchange);
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.createContext("/moved", exchange -> {
+            read(exchange);
+            exchange.getResponseHeaders().add("Location", "/echo");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/session", exchange -> {
+            String body = read(exchange);
+            String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+            if (cookie == null) {
+                exchange.getResponseHeaders().add("Set-Cookie", "session=1");
+            }
+            reply(exchange, 200, body.replace("hello", cookie != null ? cookie : "none"));
+        });
+        server.createContext("/slow", exchange -> {
+            String body = read(exchange);
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            reply(exchange, 200, body);
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        fibers = Executors.newSingleThreadExecutor();
+    }
+
+    @Override
+    protected void tearDown() {
+        release.countDown();
+        server.stop(0);
+        fibers.shutdownNow();
+    }
+
+    public void testRequestResponse() throws Exception {
+        Packet reply = invoke(request("/echo", "hello")).get(10, TimeUnit.SECONDS);
+        assertEquals("hello", text(reply));
+    }
+
+    public void testFault() throws Exception {
+        Packet reply = invoke(request("/fault", "hello")).get(10, TimeUnit.SECONDS);
+        assertTrue(reply.getMessage().isFault());
+    }
+
+    public void testStatusCode() throws Exception {
+        try {
+            invoke(request("/missing", "hello")).get(10, TimeUnit.SECONDS);
+            fail("404 accepted");
+        } catch (ExecutionException e) {
+            assertTrue(String.valueOf(e.getCause()), e.getCause() instanceof ClientTransportException);
+            assertTrue(e.getCause().getMessage(), e.getCause().getMessage().contains("404"));
+        }
+    }
+
+    public void testRedirectNotFollowed() throws Exception {
+        try {
+            invoke(request("/moved", "hello")).get(10, TimeUnit.SECONDS);
+            fail("Redirect followed");
+        } catch (ExecutionException e) {
+            assertTrue(String.valueOf(e.getCause()), e.getCause() instanceof ClientTransportException);
+            assertTrue(e.getCause().getMessage(), e.getCause().getMessage().contains("302"));
+        }
+    }
+
+    public void testHeaders() throws Exception {
+        Packet request = request("/echo", "hello");
+        request.invocationProperties.put(MessageContext.HTTP_REQUEST_HEADERS,
+                Collections.singletonMap("X-Test", Collections.singletonList("value")));
+        invoke(request).get(10, TimeUnit.SECONDS);
+
+        HttpResponseProperties props = request.getSatellite(HttpResponseProperties.class);
+        assertEquals(200, props.getResponseCode());
+        Map<String, List<String>> headers = props.getResponseHeaders();
+        assertEquals(Collections.singletonList("value"), headers.get("X-Echo"));
+    }
+
+    public void testCookies() throws Exception {
+        Tube tube = tube();
+        Packet first = request("/session", "hello");
+        first.invocationProperties.put(BindingProvider.SESSION_MAINTAIN_PROPERTY, Boolean.TRUE);
+        assertEquals("none", text(invoke(tube, first).get(10, TimeUnit.SECONDS)));
+
+        Packet second = request("/session", "hello");
+        second.invocationProperties.put(BindingProvider.SESSION_MAINTAIN_PROPERTY, Boolean.TRUE);
+        assertEquals("session=1", text(invoke(tube, second).get(10, TimeUnit.SECONDS)));
+    }
+
+    public void testSuspendResume() throws Exception {
+        CompletableFuture<Packet> reply = invoke(request("/slow", "hello"));
+
+        // the only thread of the fibers is free while the response is awaited
+        CompletableFuture<Boolean> free = CompletableFuture.supplyAsync(() -> true, fibers);
+        assertTrue(free.get(5, TimeUnit.SECONDS));
+        assertFalse(reply.isDone());
+
+        release.countDown();
+        assertEquals("hello", text(reply.get(10, TimeUnit.SECONDS)));
+    }
+
+    private static String read(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static void reply(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] data = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/xml;charset=utf-8");
+        exchange.sendResponseHeaders(status, data.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(data);
+        }
+    }
+
+    private static Tube tube() {
+        WSBinding binding = BindingImpl.create(BindingID.SOAP11_HTTP);
+        return new AsyncHttpTransportTube(BindingID.SOAP11_HTTP.createEncoder(binding), binding, null);
+    }
+
+    private Packet request(String path, String text) {
+        Packet packet = new Packet(Messages.createUsingPayload(
+                new StreamSource(new StringReader("<p:echo xmlns:p='urn:test'>" + text + "</p:echo>")),
+                SOAPVersion.SOAP_11));
+        packet.endpointAddress = EndpointAddress.create(
+                "http://localhost:" + server.getAddress().getPort() + path);
+        return packet;
+    }
+
+    private CompletableFuture<Packet> invoke(Packet request) {
+        return invoke(tube(), request);
+    }
+
+    private CompletableFuture<Packet> invoke(Tube tube, Packet request) {
+        CompletableFuture<Packet> reply = new CompletableFuture<>();
+        Fiber fiber = new Engine("async-http-test", fibers).createFiber();
+        fiber.start(tube, request, new Fiber.CompletionCallback() {
+            @Override
+            public void onCompletion(Packet response) {
+                reply.complete(response);
+            }
+
+            @Override
+            public void onCompletion(Throwable error) {
+                reply.completeExceptionally(error);
+            }
+        });
+        return reply;
+    }
+
+    private static String text(Packet reply) throws Exception {
+        XMLStreamReader reader = reply.getMessage().readPayload();
+        return reader.getElementText();
+    }
+}
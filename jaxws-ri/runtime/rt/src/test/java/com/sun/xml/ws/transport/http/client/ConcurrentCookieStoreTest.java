@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.http.client;
+
+import junit.framework.TestCase;
+
+import java.lang.reflect.Field;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+public class ConcurrentCookieStoreTest extends TestCase {
+
+    private final ConcurrentCookieStore store = new ConcurrentCookieStore();
+
+    public void testDomainMatch() {
+        HttpCookie session = cookie("session", ".Example.com");
+        store.add(URI.create("http://www.example.com/a"), session);
+
+        assertEquals(List.of(session), store.get(URI.create("http://www.example.com/b")));
+        assertEquals(List.of(session), store.get(URI.create("http://api.EXAMPLE.com/")));
+        assertTrue(store.get(URI.create("http://example.org/")).isEmpty());
+        assertTrue(store.get(URI.create("http://notexample.com/")).isEmpty());
+    }
+
+    public void testUriIndex() {
+        HttpCookie noDomain = new HttpCookie("id", "1");
+        store.add(URI.create("http://localhost:8080/ws"), noDomain);
+
+        assertEquals(List.of(noDomain), store.get(URI.create("http://localhost/other")));
+        assertEquals(List.of(URI.create("http://localhost")), store.getURIs());
+    }
+
+    public void testSecure() {
+        HttpCookie secure = cookie("s", ".example.com");
+        secure.setSecure(true);
+        store.add(URI.create("https://www.example.com/"), secure);
+
+        assertTrue(store.get(URI.create("http://www.example.com/")).isEmpty());
+        assertEquals(List.of(secure), store.get(URI.create("https://www.example.com/")));
+    }
+
+    public void testReplaceAndRemove() {
+        URI uri = URI.create("http://www.example.com/");
+        HttpCookie first = cookie("session", ".example.com");
+        HttpCookie second = cookie("session", ".example.com");
+        store.add(uri, first);
+        store.add(uri, second);
+
+        assertEquals(1, store.getCookies().size());
+        assertSame(second, store.getCookies().get(0));
+        assertSame(second, store.get(uri).get(0));
+
+        HttpCookie delete = cookie("session", ".example.com");
+        delete.setMaxAge(0);
+        store.add(uri, delete);
+        assertTrue(store.get(uri).isEmpty());
+        assertTrue(store.getCookies().isEmpty());
+
+        store.add(uri, first);
+        assertTrue(store.remove(null, first));
+        assertFalse(store.remove(null, first));
+        assertTrue(store.get(uri).isEmpty());
+    }
+
+    public void testExpired() throws Exception {
+        URI uri = URI.create("http://www.example.com/");
+        HttpCookie expiring = cookie("session", ".example.com");
+        expiring.setMaxAge(1);
+        store.add(uri, expiring);
+        assertEquals(1, store.get(uri).size());
+
+        Thread.sleep(2100);
+        assertTrue(store.get(uri).isEmpty());
+        assertTrue(store.getCookies().isEmpty());
+        assertTrue(store.getURIs().isEmpty());
+    }
+
+    public void testRemoveAll() {
+        assertFalse(store.removeAll());
+        store.add(URI.create("http://www.example.com/"), cookie("a", ".example.com"));
+        assertTrue(store.removeAll());
+        assertTrue(store.getCookies().isEmpty());
+    }
+
+    public void testEmptyShardsDropped() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            URI uri = URI.create("http://host" + i + ".example.com/");
+            HttpCookie c = cookie("a", "host" + i + ".example.com");
+            store.add(uri, c);
+            store.remove(uri, c);
+        }
+        assertTrue(store.getURIs().isEmpty());
+        assertTrue(index("domainIndex").isEmpty());
+        assertTrue(index("uriIndex").isEmpty());
+    }
+
+    public void testRemoveAllWhileAdding() throws Exception {
+        Thread adder = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                store.add(URI.create("http://www.example.com/"), cookie("c" + (i % 100), ".example.com"));
+            }
+        });
+        adder.start();
+        while (adder.isAlive()) {
+            store.removeAll();
+        }
+        adder.join();
+        // every cookie left is still found
+        List<HttpCookie> found = store.get(URI.create("http://www.example.com/"));
+        assertEquals(store.getCookies().size(), found.size());
+        assertTrue(found.containsAll(store.getCookies()));
+        store.removeAll();
+        assertTrue(index("domainIndex").isEmpty());
+        assertTrue(index("uriIndex").isEmpty());
+    }
+
+    private Map<?, ?> index(String name) throws Exception {
+        Field f = ConcurrentCookieStore.class.getDeclaredField(name);
+        f.setAccessible(true);
+        return (Map<?, ?>) f.get(store);
+    }
+
+    private static HttpCookie cookie(String name, String domain) {
+        HttpCookie cookie = new HttpCookie(name, "value");
+        cookie.setDomain(domain);
+        cookie.setPath("/");
+        return cookie;
+    }
+}
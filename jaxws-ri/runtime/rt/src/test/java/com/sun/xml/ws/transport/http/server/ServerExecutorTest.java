@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.http.server;
+
+import com.sun.xml.ws.api.monitoring.ExecutorStatistics;
+import com.sun.xml.ws.developer.HttpServerExecutorFeature;
+import junit.framework.TestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class ServerExecutorTest extends TestCase {
+
+    public void testUnbounded() {
+        ServerExecutor executor = ServerExecutor.create(new HttpServerExecutorFeature(0, 0, false));
+        try {
+            assertNull(executor.getRequestExecutor());
+            assertEquals(0, executor.getStatistics().getMaxThreads());
+            assertFalse(executor.getStatistics().isVirtualThreads());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testBoundedRejects() throws InterruptedException {
+        ServerExecutor executor = ServerExecutor.create(new HttpServerExecutorFeature(1, 1));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Executor requests = executor.getRequestExecutor();
+            assertNotNull(requests);
+            requests.execute(() -> {
+                running.countDown();
+                await(release);
+            });
+            assertTrue(running.await(10, TimeUnit.SECONDS));
+            requests.execute(() -> { });
+            try {
+                requests.execute(() -> { });
+                fail("Saturated executor accepted a request");
+            } catch (RejectedExecutionException e) {
+                // expected
+            }
+            ExecutorStatistics stats = executor.getStatistics();
+            assertEquals(1, stats.getActiveCount());
+            assertEquals(1, stats.getQueueSize());
+            assertEquals(1, stats.getMaxThreads());
+            assertEquals(1, stats.getMaxQueueSize());
+            assertEquals(1, stats.getRejectedCount());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    public void testVirtualLimit() throws InterruptedException {
+        ServerExecutor executor = ServerExecutor.create(new HttpServerExecutorFeature(1, 0, true));
+        if (!executor.getStatistics().isVirtualThreads()) {
+            // not supported by this JVM
+            executor.shutdown();
+            return;
+        }
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch rejected = new CountDownLatch(1);
+        try {
+            Executor requests = executor.getRequestExecutor();
+            // requests run on the calling thread
+            executor.getServerExecutor().execute(() -> requests.execute(() -> {
+                running.countDown();
+                await(release);
+            }));
+            assertTrue(running.await(10, TimeUnit.SECONDS));
+            executor.getServerExecutor().execute(() -> {
+                try {
+                    requests.execute(() -> { });
+                } catch (RejectedExecutionException e) {
+                    rejected.countDown();
+                }
+            });
+            assertTrue(rejected.await(10, TimeUnit.SECONDS));
+            assertEquals(1, executor.getStatistics().getActiveCount());
+            assertEquals(1, executor.getStatistics().getRejectedCount());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    public void testConfiguredAs() {
+        ServerExecutor executor = ServerExecutor.create(new HttpServerExecutorFeature(2, 4));
+        try {
+            assertTrue(executor.isConfiguredAs(new HttpServerExecutorFeature(2, 4)));
+            assertFalse(executor.isConfiguredAs(new HttpServerExecutorFeature(2, 8)));
+            assertFalse(executor.isConfiguredAs(new HttpServerExecutorFeature(4, 4)));
+            assertFalse(executor.isConfiguredAs(new HttpServerExecutorFeature(2, 4, true)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
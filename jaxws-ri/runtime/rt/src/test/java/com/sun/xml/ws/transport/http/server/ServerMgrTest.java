@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.http.server;
+
+import com.sun.net.httpserver.HttpContext;
+import com.sun.xml.ws.developer.HttpServerExecutorFeature;
+import com.sun.xml.ws.util.Constants;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+public class ServerMgrTest extends TestCase {
+
+    private final List<LogRecord> warnings = new CopyOnWriteArrayList<>();
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            if (record.getLevel() == Level.WARNING) {
+                warnings.add(record);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+    private final Logger logger = Logger.getLogger(Constants.LoggingDomain + ".server.http");
+
+    @Override
+    protected void setUp() {
+        logger.addHandler(handler);
+    }
+
+    @Override
+    protected void tearDown() {
+        logger.removeHandler(handler);
+    }
+
+    public void testOtherThreads() throws IOException {
+        String address = "http://localhost:" + freePort();
+        ServerMgr mgr = ServerMgr.getInstance();
+        HttpContext first = mgr.createContext(address + "/first", new HttpServerExecutorFeature(2, 4));
+        try {
+            HttpContext same = mgr.createContext(address + "/same", new HttpServerExecutorFeature(2, 4));
+            mgr.removeContext(same);
+            HttpContext none = mgr.createContext(address + "/none", null);
+            mgr.removeContext(none);
+            assertTrue(warnings.isEmpty());
+
+            HttpContext other = mgr.createContext(address + "/other", new HttpServerExecutorFeature(8, 0));
+            mgr.removeContext(other);
+            assertEquals(1, warnings.size());
+            assertSame(first.getServer(), other.getServer());
+        } finally {
+            mgr.removeContext(first);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket ss = new ServerSocket(0)) {
+            return ss.getLocalPort();
+        }
+    }
+}
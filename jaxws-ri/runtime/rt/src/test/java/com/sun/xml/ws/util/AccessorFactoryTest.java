@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.util;
+
+import junit.framework.TestCase;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+public class AccessorFactoryTest extends TestCase {
+
+    public void testField() throws Throwable {
+        Bean bean = new Bean();
+        MethodHandle setter = AccessorFactory.setter(Bean.class.getField("count"));
+        MethodHandle getter = AccessorFactory.getter(Bean.class.getField("count"));
+        assertNotNull(setter);
+        assertNotNull(getter);
+        setter.invokeExact((Object) bean, (Object) 42);
+        assertEquals(42, bean.count);
+        assertEquals(42, (Object) getter.invokeExact((Object) bean));
+    }
+
+    public void testPrivateField() throws Throwable {
+        Field f = Bean.class.getDeclaredField("secret");
+        assertNull(AccessorFactory.getter(f));
+        f.setAccessible(true);
+        MethodHandle getter = AccessorFactory.getter(f);
+        assertNotNull(getter);
+        assertEquals("hidden", (Object) getter.invokeExact((Object) new Bean()));
+    }
+
+    public void testFinalField() throws Exception {
+        assertNull(AccessorFactory.setter(Bean.class.getField("constant")));
+    }
+
+    public void testMethods() throws Throwable {
+        Bean bean = new Bean();
+        MethodHandle setter = AccessorFactory.setter(Bean.class.getMethod("setName", String.class));
+        MethodHandle getter = AccessorFactory.getter(Bean.class.getMethod("getName"));
+        setter.invokeExact((Object) bean, (Object) "duke");
+        assertEquals("duke", (Object) getter.invokeExact((Object) bean));
+        // not a getter, nor a setter
+        assertNull(AccessorFactory.getter(Bean.class.getMethod("setName", String.class)));
+        assertNull(AccessorFactory.setter(Bean.class.getMethod("getName")));
+    }
+
+    public void testInvoker() throws Throwable {
+        Method m = Bean.class.getMethod("concat", String.class, int.class);
+        MethodHandle invoker = AccessorFactory.invoker(m);
+        assertNotNull(invoker);
+        assertSame(invoker, AccessorFactory.invoker(m));
+        assertEquals("a3", (Object) invoker.invokeExact((Object) new Bean(), new Object[]{"a", 3}));
+
+        MethodHandle none = AccessorFactory.invoker(Bean.class.getMethod("setName", String.class));
+        assertNull((Object) none.invokeExact((Object) new Bean(), new Object[]{"x"}));
+
+        MethodHandle fail = AccessorFactory.invoker(Bean.class.getMethod("fail"));
+        try {
+            Object ignored = (Object) fail.invokeExact((Object) new Bean(), new Object[0]);
+            fail("exception of the invoked method must be wrapped");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    public void testMethodUtil() throws Exception {
+        Method m = Bean.class.getMethod("concat", String.class, int.class);
+        assertEquals("b1", MethodUtil.invoke(m, new Bean(), new Object[]{"b", 1}));
+        try {
+            MethodUtil.invoke(Bean.class.getMethod("fail"), new Bean(), null);
+            fail("exception of the invoked method must be wrapped");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        // thrown by the method, not caused by the arguments
+        Method cast = Bean.class.getMethod("cast", Object.class);
+        try {
+            MethodUtil.invoke(cast, new Bean(), new Object[]{1});
+            fail("exception of the invoked method must be wrapped");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof ClassCastException);
+        }
+        try {
+            MethodUtil.invoke(cast, new Bean(), new Object[]{null});
+            fail("exception of the invoked method must be wrapped");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof NullPointerException);
+        }
+    }
+
+    public void testMethodUtilArguments() throws Exception {
+        Method m = Bean.class.getMethod("concat", String.class, int.class);
+        try {
+            MethodUtil.invoke(m, new Bean(), new Object[]{1, 1});
+            fail("argument of the wrong type");
+        } catch (IllegalArgumentException e) {
+            // as Method.invoke
+        }
+        try {
+            MethodUtil.invoke(m, new Bean(), new Object[]{"a", null});
+            fail("null for a primitive argument");
+        } catch (IllegalArgumentException e) {
+            // as Method.invoke
+        }
+    }
+
+    public static class Bean {
+        public int count;
+        public final int constant = 1;
+        private String secret = "hidden";
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String concat(String s, int i) {
+            return s + i;
+        }
+
+        public void fail() {
+            throw new IllegalStateException();
+        }
+
+        public String cast(Object o) {
+            return ((String) o).trim();
+        }
+    }
+}
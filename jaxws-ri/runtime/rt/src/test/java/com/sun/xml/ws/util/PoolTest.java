@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.util;
+
+import junit.framework.TestCase;
+
+public class PoolTest extends TestCase {
+
+    public void testReuse() {
+        Pool<Object> pool = new ObjectPool(4, 0);
+        Object o = pool.take();
+        pool.recycle(o);
+        assertSame(o, pool.take());
+        assertEquals(2, pool.getTakeCount());
+        assertEquals(1, pool.getCreateCount());
+        assertEquals(1, pool.getRecycleCount());
+        assertEquals(0, pool.getSize());
+    }
+
+    public void testMaxSize() {
+        Pool<Object> pool = new ObjectPool(2, 0);
+        Object a = pool.take();
+        Object b = pool.take();
+        Object c = pool.take();
+        pool.recycle(a);
+        pool.recycle(b);
+        pool.recycle(c);
+        assertEquals(2, pool.getSize());
+        assertEquals(1, pool.getEvictCount());
+        // most recently recycled first
+        assertSame(b, pool.take());
+        assertSame(a, pool.take());
+        assertEquals(3, pool.getCreateCount());
+    }
+
+    public void testIdleEviction() throws Exception {
+        Pool<Object> pool = new ObjectPool(4, 20);
+        Object a = pool.take();
+        Object b = pool.take();
+        pool.recycle(a);
+        Thread.sleep(100);
+        pool.recycle(b);
+        assertEquals(1, pool.getSize());
+        assertEquals(1, pool.getEvictCount());
+        assertSame(b, pool.take());
+    }
+
+    public void testInvalidMaxSize() {
+        try {
+            new ObjectPool(0, 0);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static final class ObjectPool extends Pool<Object> {
+
+        ObjectPool(int maxSize, long idleTimeout) {
+            super(maxSize, idleTimeout);
+        }
+
+        @Override
+        protected Object create() {
+            return new Object();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+public class SpillableOutputStreamTest extends TestCase {
+
+    public void testInMemory() throws Exception {
+        SpillableOutputStream out = new SpillableOutputStream(1024);
+        byte[] data = data(1000);
+        out.write(data, 0, 500);
+        out.write(data, 500, 500);
+        assertEquals(1000, out.size());
+        assertFalse(out.isSpilled());
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        out.writeTo(bout);
+        assertTrue(Arrays.equals(data, bout.toByteArray()));
+        out.dispose();
+    }
+
+    public void testSpilled() throws Exception {
+        SpillableOutputStream out = new SpillableOutputStream(100);
+        byte[] data = data(100000);
+        out.write(data[0]);
+        out.write(data, 1, 99);
+        assertFalse(out.isSpilled());
+        out.write(data[100]);
+        assertTrue(out.isSpilled());
+        out.write(data, 101, data.length - 101);
+        assertEquals(data.length, out.size());
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        out.writeTo(bout);
+        assertTrue(Arrays.equals(data, bout.toByteArray()));
+        out.dispose();
+        assertFalse(out.isSpilled());
+    }
+
+    public void testNewInputStream() throws Exception {
+        SpillableOutputStream out = new SpillableOutputStream(20000);
+        byte[] data = data(50000);
+        out.write(data, 0, data.length);
+        assertTrue(out.isSpilled());
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        try (InputStream in = out.newInputStream()) {
+            byte[] buf = new byte[3000];
+            int len;
+            while ((len = in.read(buf)) != -1) {
+                bout.write(buf, 0, len);
+            }
+        }
+        assertTrue(Arrays.equals(data, bout.toByteArray()));
+        out.dispose();
+    }
+
+    public void testChunks() throws Exception {
+        byte[] data = data(30000);
+        for (int i = 0; i < 2; i++) {
+            // the second stream reuses the chunks of the first one
+            SpillableOutputStream out = new SpillableOutputStream(20000);
+            out.write(data, 0, 8000);
+            out.write(data[8000]);
+            out.write(data, 8001, 12000);
+            assertEquals(20000, out.getMemorySize());
+            assertTrue(out.isSpilled());
+            out.write(data, 20001, data.length - 20001);
+            assertEquals(data.length, out.size());
+            assertEquals(20000, out.getMemorySize());
+
+            ByteArrayOutputStream bout = new ByteArrayOutputStream();
+            out.writeTo(bout);
+            assertTrue(Arrays.equals(data, bout.toByteArray()));
+            out.dispose();
+            assertEquals(0, out.getMemorySize());
+        }
+    }
+
+    private static byte[] data(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -33,6 +33,9 @@ import com.sun.xml.ws.api.pipe.NextAction;
 import com.sun.xml.ws.api.pipe.Tube;
 import com.sun.xml.ws.api.pipe.TubeCloner;
 import com.sun.xml.ws.api.pipe.helper.AbstractTubeImpl;
+import com.sun.xml.ws.api.server.WSEndpoint;
+import com.sun.xml.ws.client.ClientSchemaValidationTube;
+import com.sun.xml.ws.server.ServerSchemaValidationTube;
 
 import junit.framework.TestCase;
 
@@ -63,6 +66,15 @@ public class AbstractSchemaValidationTubeTest extends TestCase {
 		
 	}
 
+	public void testUsesValidatorPool() {
+		assertFalse(AbstractSchemaValidationTube.usesValidatorPool(StractSchemaValidationTubeMock.class));
+		assertTrue(AbstractSchemaValidationTube.usesValidatorPool(ServerSchemaValidationTube.class));
+		assertTrue(AbstractSchemaValidationTube.usesValidatorPool(ClientSchemaValidationTube.class));
+		// a subclass with its own validator keeps using it
+		assertFalse(AbstractSchemaValidationTube.usesValidatorPool(OwnValidatorTube.class));
+		assertTrue(AbstractSchemaValidationTube.usesValidatorPool(OwnPoolTube.class));
+	}
+
 	private String runCreateSameTnsPseudoSchema(String tns)
 	    throws NoSuchMethodException, IllegalAccessException,
 	    InvocationTargetException, TransformerFactoryConfigurationError,
@@ -117,6 +129,28 @@ public class AbstractSchemaValidationTubeTest extends TestCase {
 		
 	}
 	
+	static class OwnValidatorTube extends ServerSchemaValidationTube {
+		OwnValidatorTube(WSEndpoint endpoint, WSBinding binding, Tube next) {
+			super(endpoint, binding, null, null, next);
+		}
+
+		@Override
+		protected Validator getValidator() {
+			return null;
+		}
+	}
+
+	static class OwnPoolTube extends OwnValidatorTube {
+		OwnPoolTube(WSEndpoint endpoint, WSBinding binding, Tube next) {
+			super(endpoint, binding, next);
+		}
+
+		@Override
+		protected SchemaCache.ValidatorPool getValidatorPool() {
+			return null;
+		}
+	}
+
 	class TubeMock implements Tube{
 
 		@Override
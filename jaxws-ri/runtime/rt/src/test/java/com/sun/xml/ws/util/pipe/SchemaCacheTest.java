@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.util.pipe;
+
+import com.sun.xml.ws.api.server.DocumentAddressResolver;
+import com.sun.xml.ws.api.server.PortAddressResolver;
+import com.sun.xml.ws.api.server.SDDocument;
+import junit.framework.TestCase;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class SchemaCacheTest extends TestCase {
+
+    private static final String XSD =
+            "<xsd:schema xmlns:xsd='http://www.w3.org/2001/XMLSchema' targetNamespace='urn:test'>"
+            + "<xsd:element name='value' type='xsd:string'/></xsd:schema>";
+
+    private static final DocumentAddressResolver RESOLVER = (current, referenced) -> referenced.getURL().toExternalForm();
+
+    public void testSameDocumentsCompiledOnce() throws Exception {
+        SchemaCache cache = new SchemaCache(4);
+        AtomicInteger compiled = new AtomicInteger();
+        SDDocument a = new Doc("file:a.xsd", XSD);
+        SDDocument b = new Doc("file:b.xsd", XSD);
+
+        SchemaCache.ValidatorPool first = cache.get("scope", Arrays.asList(a, b), RESOLVER, compiler(compiled));
+        // same content, other instances and order
+        SchemaCache.ValidatorPool second = cache.get("scope",
+                Arrays.asList(new Doc("file:b.xsd", XSD), new Doc("file:a.xsd", XSD)), RESOLVER, compiler(compiled));
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(1, compiled.get());
+        assertEquals(1, cache.size());
+
+        // other content, other scope
+        assertNotSame(first, cache.get("scope", Collections.singletonList(a), RESOLVER, compiler(compiled)));
+        assertNotSame(first, cache.get("other", Arrays.asList(a, b), RESOLVER, compiler(compiled)));
+        assertEquals(3, compiled.get());
+    }
+
+    public void testDigestComputedOnce() throws Exception {
+        SchemaCache cache = new SchemaCache(4);
+        AtomicInteger compiled = new AtomicInteger();
+        Doc a = new Doc("file:a.xsd", XSD);
+        List<SDDocument> docs = Collections.singletonList(a);
+        SchemaCache.ValidatorPool pool = cache.get("scope", docs, RESOLVER, compiler(compiled));
+        // the tubes created later with the same documents
+        assertSame(pool, cache.get("scope", docs, RESOLVER, compiler(compiled)));
+        assertSame(pool, cache.get("scope", docs, RESOLVER, compiler(compiled)));
+        assertEquals(1, a.written.get());
+        assertEquals(1, compiled.get());
+    }
+
+    public void testEviction() throws Exception {
+        SchemaCache cache = new SchemaCache(1);
+        AtomicInteger compiled = new AtomicInteger();
+        List<SDDocument> a = Collections.singletonList(new Doc("file:a.xsd", XSD));
+        List<SDDocument> b = Collections.singletonList(new Doc("file:b.xsd", XSD));
+        cache.get("scope", a, RESOLVER, compiler(compiled));
+        cache.get("scope", b, RESOLVER, compiler(compiled));
+        cache.get("scope", a, RESOLVER, compiler(compiled));
+        assertEquals(3, compiled.get());
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    public void testDisabled() throws Exception {
+        SchemaCache cache = new SchemaCache(0);
+        AtomicInteger compiled = new AtomicInteger();
+        List<SDDocument> a = Collections.singletonList(new Doc("file:a.xsd", XSD));
+        assertNotSame(cache.get("scope", a, RESOLVER, compiler(compiled)),
+                cache.get("scope", a, RESOLVER, compiler(compiled)));
+        assertEquals(2, compiled.get());
+        assertEquals(0, cache.size());
+    }
+
+    public void testNoSchema() throws Exception {
+        SchemaCache cache = new SchemaCache(4);
+        AtomicInteger compiled = new AtomicInteger();
+        List<SDDocument> a = Collections.singletonList(new Doc("file:a.xsd", XSD));
+        Supplier<Schema> none = () -> {
+            compiled.incrementAndGet();
+            return null;
+        };
+        assertNull(cache.get("scope", a, RESOLVER, none));
+        assertNull(cache.get("scope", a, RESOLVER, none));
+        assertEquals(1, compiled.get());
+    }
+
+    public void testFailureNotCached() throws Exception {
+        SchemaCache cache = new SchemaCache(4);
+        AtomicInteger compiled = new AtomicInteger();
+        List<SDDocument> a = Collections.singletonList(new Doc("file:a.xsd", XSD));
+        try {
+            cache.get("scope", a, RESOLVER, () -> {
+                throw new IllegalStateException("invalid schema");
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertNotNull(cache.get("scope", a, RESOLVER, compiler(compiled)));
+        assertEquals(1, compiled.get());
+    }
+
+    public void testValidators() throws Exception {
+        SchemaCache cache = new SchemaCache(4);
+        SchemaCache.ValidatorPool pool = cache.get("scope",
+                Collections.singletonList(new Doc("file:a.xsd", XSD)), RESOLVER, compiler(new AtomicInteger()));
+        Validator validator = pool.take();
+        validator.validate(new StreamSource(new StringReader("<t:value xmlns:t='urn:test'>v</t:value>")));
+        pool.recycle(validator);
+        assertSame(validator, pool.take());
+    }
+
+    private static Supplier<Schema> compiler(AtomicInteger compiled) {
+        return () -> {
+            compiled.incrementAndGet();
+            try {
+                return SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+                        .newSchema(new StreamSource(new StringReader(XSD)));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static final class Doc implements SDDocument.Schema {
+        private final URL url;
+        private final String content;
+        final AtomicInteger written = new AtomicInteger();
+
+        Doc(String url, String content) throws MalformedURLException {
+            this.url = new URL(url);
+            this.content = content;
+        }
+
+        @Override
+        public QName getRootName() {
+            return new QName(XMLConstants.W3C_XML_SCHEMA_NS_URI, "schema");
+        }
+
+        @Override
+        public boolean isWSDL() {
+            return false;
+        }
+
+        @Override
+        public boolean isSchema() {
+            return true;
+        }
+
+        @Override
+        public Set<String> getImports() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public URL getURL() {
+            return url;
+        }
+
+        @Override
+        public String getTargetNamespace() {
+            return "urn:test";
+        }
+
+        @Override
+        public void writeTo(PortAddressResolver portAddressResolver, DocumentAddressResolver resolver, OutputStream os) throws IOException {
+            written.incrementAndGet();
+            os.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void writeTo(PortAddressResolver portAddressResolver, DocumentAddressResolver resolver, XMLStreamWriter out) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
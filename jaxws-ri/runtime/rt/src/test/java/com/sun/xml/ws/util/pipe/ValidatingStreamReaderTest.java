@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.util.pipe;
+
+import junit.framework.TestCase;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.ValidatorHandler;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ValidatingStreamReaderTest extends TestCase {
+
+    private static final String XSD =
+            "<xsd:schema xmlns:xsd='http://www.w3.org/2001/XMLSchema' targetNamespace='urn:test'"
+            + " xmlns:t='urn:test' elementFormDefault='qualified'>"
+            + "<xsd:element name='echo'><xsd:complexType><xsd:sequence>"
+            + "<xsd:element name='value' type='xsd:string'/>"
+            + "<xsd:element name='count' type='xsd:int'/>"
+            + "</xsd:sequence><xsd:attribute name='id' type='xsd:int'/></xsd:complexType></xsd:element>"
+            + "<xsd:element name='ref' type='xsd:QName'/>"
+            + "</xsd:schema>";
+
+    private final List<SAXException> results = new ArrayList<>();
+
+    public void testValid() throws Exception {
+        ValidatingStreamReader reader = reader(
+                "<S:Body xmlns:S='urn:soap'><p:echo xmlns:p='urn:test' id='1'><p:value>a<!--c-->b</p:value>"
+                + "<p:count>3</p:count></p:echo><trailer/></S:Body>");
+        assertEquals("echo", reader.getLocalName());
+        assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+        assertEquals("ab", reader.getElementText());
+        assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+        assertEquals("3", reader.getElementText());
+        assertFalse(reader.isDone());
+        assertEquals(XMLStreamConstants.END_ELEMENT, reader.nextTag());
+        assertTrue(reader.isDone());
+        assertEquals(1, results.size());
+        assertNull(results.get(0));
+
+        // events after the element are not validated
+        assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+        assertEquals("trailer", reader.getLocalName());
+    }
+
+    public void testInvalidFailsFast() throws Exception {
+        ValidatingStreamReader reader = reader(
+                "<p:echo xmlns:p='urn:test'><p:count>3</p:count><p:value>a</p:value></p:echo>");
+        try {
+            reader.nextTag();
+            reader.nextTag();
+            fail("Invalid element accepted");
+        } catch (ValidatingStreamReader.ValidationFailure e) {
+            assertTrue(e.getError() instanceof SAXParseException);
+        }
+        // the failing element is the current one, nothing else was read
+        assertEquals("count", reader.getLocalName());
+        assertTrue(reader.isDone());
+        assertEquals(1, results.size());
+        assertNotNull(results.get(0));
+    }
+
+    public void testInvalidText() throws Exception {
+        ValidatingStreamReader reader = reader(
+                "<p:echo xmlns:p='urn:test'><p:value>a</p:value><p:count>three</p:count></p:echo>");
+        try {
+            while (reader.hasNext()) {
+                reader.next();
+            }
+            fail("Invalid text accepted");
+        } catch (ValidatingStreamReader.ValidationFailure e) {
+            assertTrue(e.getMessage().contains("three"));
+        }
+    }
+
+    public void testEnvelopeNamespaces() throws Exception {
+        String xml = "<S:Envelope xmlns:S='urn:soap' xmlns:e='urn:other'><S:Body>"
+                + "<p:ref xmlns:p='urn:test'>e:foo</p:ref></S:Body></S:Envelope>";
+        ValidatingStreamReader reader = reader(xml, "ref", "S", "urn:soap", "e", "urn:other");
+        assertEquals("e:foo", reader.getElementText());
+        assertTrue(reader.isDone());
+        assertEquals(1, results.size());
+        assertNull(results.get(0));
+
+        // the prefix declared on the envelope doesn't resolve without them
+        results.clear();
+        reader = reader(xml, "ref");
+        try {
+            reader.getElementText();
+            fail("Undeclared prefix accepted");
+        } catch (ValidatingStreamReader.ValidationFailure e) {
+            assertNotNull(results.get(0));
+        }
+    }
+
+    private ValidatingStreamReader reader(String xml) throws Exception {
+        return reader(xml, "echo");
+    }
+
+    private ValidatingStreamReader reader(String xml, String name, String... inscope) throws Exception {
+        Schema schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+                .newSchema(new StreamSource(new StringReader(XSD)));
+        ValidatorHandler handler = schema.newValidatorHandler();
+        handler.setErrorHandler(new ErrorHandler() {
+            @Override
+            public void warning(SAXParseException exception) {
+            }
+
+            @Override
+            public void error(SAXParseException exception) throws SAXException {
+                throw exception;
+            }
+
+            @Override
+            public void fatalError(SAXParseException exception) throws SAXException {
+                throw exception;
+            }
+        });
+        XMLStreamReader in = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml));
+        in.nextTag();
+        while (!name.equals(in.getLocalName())) {
+            in.nextTag();
+        }
+        return new ValidatingStreamReader(in, inscope, handler, (h, failure) -> results.add(failure));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -48,6 +48,12 @@ import java.util.logging.Logger;
  */
 public class ServletAdapter extends HttpAdapter implements BoundEndpoint {
     final String name;
+    // timeout of the asynchronous requests, negative for the one of the container
+    private final long asyncTimeout;
+    // whether the asynchronous requests are read and written with listeners
+    private final boolean nonBlocking;
+    // maximum size of the requests read with listeners, negative for no limit
+    private final long maxRequestSize;
 
 	protected ServletAdapter(String name, String urlPattern, WSEndpoint<?> endpoint, ServletAdapterList owner) {
         super(endpoint, owner, urlPattern);
@@ -72,6 +78,38 @@ public class ServletAdapter extends HttpAdapter implements BoundEndpoint {
             disableJreplicaCookie = HighAvailabilityProvider.INSTANCE.isDisabledJreplica();
         }
         stickyCookie = sticky;
+
+        ServletContext context = getServletContext();
+        asyncTimeout = getLongInitParameter(context, WSServlet.JAXWS_RI_PROPERTY_ASYNC_TIMEOUT, "the container's timeout");
+        nonBlocking = Boolean.parseBoolean(getInitParameter(context, WSServlet.JAXWS_RI_PROPERTY_NON_BLOCKING));
+        maxRequestSize = getLongInitParameter(context, WSServlet.JAXWS_RI_PROPERTY_MAX_REQUEST_SIZE, "no limit");
+    }
+
+    /*
+     * Gets the init parameter as a number, -1 if not set or invalid.
+     */
+    private long getLongInitParameter(ServletContext context, String key, String fallback) {
+        String value = getInitParameter(context, key);
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.WARNING, "Invalid ''{0}'' value ''{1}'', using {2}.",
+                        new Object[]{key, value, fallback});
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Gets the init parameter of this endpoint, or else the one of all the endpoints.
+     */
+    private String getInitParameter(ServletContext context, String key) {
+        if (context == null) {
+            return null;
+        }
+        String value = context.getInitParameter(key + '.' + name);
+        return value != null ? value : context.getInitParameter(key);
     }
 
     public ServletContext getServletContext() {
@@ -150,6 +188,11 @@ public class ServletAdapter extends HttpAdapter implements BoundEndpoint {
      * When run in async mode, this method returns immediately. The response is delayed until the application is ready with the response or
      *  the corresponding asynchronous operation times out. The CompletionCallback is guaranteed to run after response is committed..
      *
+     * <p>
+     * With the {@link WSServlet#JAXWS_RI_PROPERTY_NON_BLOCKING} init parameter, the request is read with a
+     * {@link jakarta.servlet.ReadListener} before it is processed, and the response is written with a
+     * {@link jakarta.servlet.WriteListener}, so that slow clients don't hold container threads.
+     *
      * @param context Servlet Context
      * @param request Servlet Request
      * @param response Servlet Response
@@ -159,7 +202,7 @@ public class ServletAdapter extends HttpAdapter implements BoundEndpoint {
     public void invokeAsync(ServletContext context, HttpServletRequest request, HttpServletResponse response, final CompletionCallback callback) throws IOException {
         boolean asyncStarted = false;
         try {
-            WSHTTPConnection connection = new ServletConnectionImpl(this, context, request, response);
+            final ServletConnectionImpl connection = new ServletConnectionImpl(this, context, request, response);
             if (handleGet(connection)) {
                 return;
             }
@@ -168,8 +211,10 @@ public class ServletAdapter extends HttpAdapter implements BoundEndpoint {
                 final jakarta.servlet.AsyncContext asyncContext = request.startAsync(request, response);
                 final AsyncCompletionCheck completionCheck = new AsyncCompletionCheck();
                 new WSAsyncListener(connection, callback).addListenerTo(asyncContext,completionCheck);
-                //asyncContext.setTimeout(10000L);// TODO get it from @ or config file
-                super.invokeAsync(connection, new CompletionCallback() {
+                if (asyncTimeout >= 0) {
+                    asyncContext.setTimeout(asyncTimeout);
+                }
+                final CompletionCallback complete = new CompletionCallback() {
                     @Override
                     public void onCompletion() {
                         synchronized (completionCheck) {
@@ -179,7 +224,30 @@ public class ServletAdapter extends HttpAdapter implements BoundEndpoint {
                             }
                         }
                     }
-                });
+                };
+                if (nonBlocking) {
+                    connection.readNonBlocking(maxRequestSize, new ServletConnectionImpl.ReadCallback() {
+                        @Override
+                        public void onRead() throws IOException {
+                            ServletAdapter.super.invokeAsync(connection, new CompletionCallback() {
+                                @Override
+                                public void onCompletion() {
+                                    // complete once the response is written
+                                    connection.whenWritten(complete::onCompletion);
+                                }
+                            });
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            LOGGER.log(Level.FINE, "Cannot read the request", t);
+                            connection.close();
+                            complete.onCompletion();
+                        }
+                    });
+                } else {
+                    super.invokeAsync(connection, complete);
+                }
                 asyncStarted = true;
             } else {
                 super.handle(connection);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -21,8 +21,13 @@ import com.sun.xml.ws.transport.Headers;
 import com.sun.xml.ws.transport.http.WSHTTPConnection;
 import com.sun.xml.ws.developer.JAXWSProperties;
 import com.sun.xml.ws.util.ReadAllStream;
+import com.sun.xml.ws.util.SpillableOutputStream;
 
+import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
@@ -41,6 +46,8 @@ import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  *{@link WSHTTPConnection} implemented for {@link HttpServlet}.
@@ -59,6 +66,8 @@ public class ServletConnectionImpl extends WSHTTPConnection implements WebServic
     private HaInfo haInfo;
     private ServerInputStream in;
     private OutputStream out;
+    // response written with a WriteListener
+    private boolean nonBlocking;
 
     public ServletConnectionImpl(@NotNull ServletAdapter adapter, ServletContext context, HttpServletRequest request, HttpServletResponse response) {
         this.adapter = adapter;
@@ -188,6 +197,9 @@ public class ServletConnectionImpl extends WSHTTPConnection implements WebServic
                 }
             }
         }
+        if (out == null && nonBlocking) {
+            out = new NonBlockingOutputStream();
+        }
         if (out == null) {
             out = new FilterOutputStream(response.getOutputStream()) {
                 boolean closed;
@@ -219,6 +231,101 @@ public class ServletConnectionImpl extends WSHTTPConnection implements WebServic
         return out;
     }
 
+    /**
+     * Reads the whole request with a {@link ReadListener}, so that no
+     * container thread waits for a slow client, and makes it the input
+     * of this connection. The response is then written with a
+     * {@link WriteListener} once it is encoded.
+     *
+     * <p>
+     * The request is kept on the file system beyond {@link #IN_MEMORY}
+     * bytes. A request larger than {@code maxSize} is rejected with status
+     * 413 and reported to {@link ReadCallback#onError(Throwable)}.
+     *
+     * <p>
+     * Only for requests in asynchronous mode.
+     *
+     * @param maxSize maximum size of the request, negative for no limit
+     */
+    void readNonBlocking(final long maxSize, final ReadCallback callback) throws IOException {
+        nonBlocking = true;
+        if (maxSize >= 0 && request.getContentLengthLong() > maxSize) {
+            callback.onError(tooLarge(maxSize));
+            return;
+        }
+        final ServletInputStream sin = request.getInputStream();
+        // don't trust the client with the size of the request
+        final SpillableOutputStream body = new SpillableOutputStream(IN_MEMORY);
+        sin.setReadListener(new ReadListener() {
+            private final byte[] chunk = new byte[CHUNK_SIZE];
+            private boolean rejected;
+
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (!rejected && sin.isReady()) {
+                    int n = sin.read(chunk);
+                    if (n == -1) {
+                        return;
+                    }
+                    body.write(chunk, 0, n);
+                    if (maxSize >= 0 && body.size() > maxSize) {
+                        rejected = true;
+                        body.dispose();
+                        callback.onError(tooLarge(maxSize));
+                    }
+                }
+            }
+
+            @Override
+            public void onAllDataRead() throws IOException {
+                if (rejected) {
+                    return;
+                }
+                in = new ServerInputStream(new FilterInputStream(body.newInputStream()) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            body.dispose();
+                        }
+                    }
+                });
+                callback.onRead();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                body.dispose();
+                if (!rejected) {
+                    callback.onError(t);
+                }
+            }
+        });
+    }
+
+    /*
+     * Replies with 413 to a request larger than maxSize.
+     */
+    private IOException tooLarge(long maxSize) {
+        status = HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE;
+        response.setStatus(status);
+        response.setContentLength(0);
+        return new IOException("Request larger than " + maxSize + " bytes");
+    }
+
+    /**
+     * Runs the task once the response is written to the client, right
+     * away unless it is written with a {@link WriteListener}.
+     */
+    void whenWritten(Runnable task) {
+        if (out instanceof NonBlockingOutputStream) {
+            ((NonBlockingOutputStream) out).whenWritten(task);
+        } else {
+            task.run();
+        }
+    }
+
     @Override
     public @NotNull WebServiceContextDelegate getWebServiceContextDelegate() {
         return this;
@@ -451,6 +558,129 @@ public class ServletConnectionImpl extends WSHTTPConnection implements WebServic
         model = parse(ServletConnectionImpl.class);
     }
 
+    private static final Logger LOGGER = Logger.getLogger(ServletConnectionImpl.class.getName());
+
+    private static final int CHUNK_SIZE = 8192;
+    // size of the request read without blocking kept in memory
+    private static final int IN_MEMORY = 64 * 1024;
+
+    /**
+     * Receives the request read by {@link #readNonBlocking(long, ReadCallback)}.
+     */
+    interface ReadCallback {
+        /**
+         * Called once the whole request is read.
+         */
+        void onRead() throws IOException;
+
+        /**
+         * Called if the request can't be read.
+         */
+        void onError(Throwable t);
+    }
+
+    /**
+     * Keeps the encoded response, and writes it to the client with a
+     * {@link WriteListener} when closed. As the request, the response is
+     * kept on the file system beyond {@link #IN_MEMORY} bytes.
+     */
+    private final class NonBlockingOutputStream extends OutputStream implements WriteListener {
+        private final SpillableOutputStream body = new SpillableOutputStream(IN_MEMORY);
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+        private ServletOutputStream sout;
+        private InputStream data;
+        private boolean closed;
+        private boolean done;
+        private Runnable onWritten;
+
+        @Override
+        public void write(int b) throws IOException {
+            body.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            body.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            if (!response.isCommitted() && !response.containsHeader("Content-Length")) {
+                response.setContentLengthLong(body.size());
+            }
+            data = body.newInputStream();
+            sout = response.getOutputStream();
+            sout.setWriteListener(this);
+        }
+
+        @Override
+        public void onWritePossible() throws IOException {
+            while (sout.isReady()) {
+                int n = data.read(chunk);
+                if (n == -1) {
+                    done();
+                    return;
+                }
+                sout.write(chunk, 0, n);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            LOGGER.log(Level.FINE, "Cannot write the response", t);
+            done();
+        }
+
+        void whenWritten(Runnable task) {
+            synchronized (this) {
+                if (!done) {
+                    onWritten = task;
+                    task = null;
+                }
+            }
+            if (task != null) {
+                task.run();
+                return;
+            }
+            // in case the response wasn't fully encoded
+            try {
+                close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Cannot write the response", e);
+                done();
+            }
+        }
+
+        private void done() {
+            Runnable task;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                task = onWritten;
+                onWritten = null;
+            }
+            try {
+                if (data != null) {
+                    data.close();
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Cannot close the response", e);
+            }
+            body.dispose();
+            if (task != null) {
+                task.run();
+            }
+        }
+    }
+
     // http server's InputStream.close() throws exception if
     // all the bytes are not read. Work around until it is fixed.
     private static class ServerInputStream extends FilterInputStream {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -101,5 +101,26 @@ public class WSServlet extends HttpServlet {
         "com.sun.xml.ws.server.http.publishWSDL";
     public static final String JAXWS_RI_PROPERTY_PUBLISH_STATUS_PAGE =
         "com.sun.xml.ws.server.http.publishStatusPage";
+    /**
+     * Timeout in milliseconds of the asynchronous requests, the one of the
+     * container if not set. Suffixed with '.' and the name of an endpoint,
+     * it is the timeout of that endpoint.
+     */
+    public static final String JAXWS_RI_PROPERTY_ASYNC_TIMEOUT =
+        "com.sun.xml.ws.server.http.asyncTimeout";
+    /**
+     * Whether the asynchronous requests are read and their responses written
+     * without blocking, false if not set. Suffixed with '.' and the name of
+     * an endpoint, it is the setting of that endpoint.
+     */
+    public static final String JAXWS_RI_PROPERTY_NON_BLOCKING =
+        "com.sun.xml.ws.server.http.nonBlocking";
+    /**
+     * Maximum size in bytes of the requests read without blocking, unlimited
+     * if not set. Larger requests are rejected with status 413. Suffixed
+     * with '.' and the name of an endpoint, it is the limit of that endpoint.
+     */
+    public static final String JAXWS_RI_PROPERTY_MAX_REQUEST_SIZE =
+        "com.sun.xml.ws.server.http.maxRequestSize";
 
 }
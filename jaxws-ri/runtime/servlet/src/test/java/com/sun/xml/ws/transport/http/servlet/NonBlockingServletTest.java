@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.transport.http.servlet;
+
+import com.sun.xml.ws.api.server.WSEndpoint;
+import jakarta.jws.WebService;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import junit.framework.TestCase;
+import org.apache.catalina.Context;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs an endpoint reading and writing without blocking in an embedded
+ * Tomcat with two request threads.
+ */
+public class NonBlockingServletTest extends TestCase {
+
+    private static final int MAX_REQUEST_SIZE = 300000;
+
+    private Tomcat tomcat;
+    private WSEndpoint<Echo> endpoint;
+    private int port;
+
+    @Override
+    protected void setUp() throws Exception {
+        endpoint = WSEndpoint.create(Echo.class, false, null, null, null, null, null, null, null, null, false);
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+        tomcat.setPort(0);
+        Connector connector = tomcat.getConnector();
+        connector.setProperty("minSpareThreads", "1");
+        connector.setProperty("maxThreads", "2");
+        Context context = tomcat.addContext("", null);
+        context.addParameter(WSServlet.JAXWS_RI_PROPERTY_NON_BLOCKING, "true");
+        context.addParameter(WSServlet.JAXWS_RI_PROPERTY_MAX_REQUEST_SIZE + ".echo", String.valueOf(MAX_REQUEST_SIZE));
+        Wrapper wrapper = Tomcat.addServlet(context, "echo", new EchoServlet(endpoint));
+        wrapper.setAsyncSupported(true);
+        context.addServletMappingDecoded("/echo", "echo");
+        tomcat.start();
+        port = connector.getLocalPort();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        tomcat.stop();
+        tomcat.destroy();
+        endpoint.dispose();
+    }
+
+    public void testSlowClients() throws Exception {
+        ExecutorService clients = Executors.newCachedThreadPool();
+        try {
+            AtomicInteger finished = new AtomicInteger();
+            List<Future<String>> slow = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                String text = "slow" + i;
+                slow.add(clients.submit(() -> {
+                    try {
+                        // 2 seconds to send the request
+                        return post(envelope(text), false, 10, 200);
+                    } finally {
+                        finished.incrementAndGet();
+                    }
+                }));
+            }
+            Thread.sleep(300);
+
+            // the slow clients don't hold the request threads
+            String response = post(envelope("fast"), false, 1, 0);
+            assertTrue(response, response.startsWith("HTTP/1.1 200"));
+            assertTrue(response, response.contains("fast"));
+            assertEquals(0, finished.get());
+
+            for (int i = 0; i < slow.size(); i++) {
+                response = slow.get(i).get(10, TimeUnit.SECONDS);
+                assertTrue(response, response.startsWith("HTTP/1.1 200"));
+                assertTrue(response, response.contains("slow" + i));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    public void testLargeRequest() throws Exception {
+        // kept on the file system, and so is the response
+        String text = text(MAX_REQUEST_SIZE - 1000);
+        String response = post(envelope(text), false, 20, 0);
+        assertTrue(response.substring(0, 20), response.startsWith("HTTP/1.1 200"));
+        assertTrue(response.contains(text));
+    }
+
+    public void testTooLargeContentLength() throws Exception {
+        String response = post(envelope(text(MAX_REQUEST_SIZE)), false, 1, 0);
+        assertTrue(response, response.startsWith("HTTP/1.1 413"));
+    }
+
+    public void testTooLargeChunked() throws Exception {
+        String response = post(envelope(text(MAX_REQUEST_SIZE)), true, 10, 0);
+        assertTrue(response, response.startsWith("HTTP/1.1 413"));
+    }
+
+    private static String envelope(String text) {
+        return "<S:Envelope xmlns:S='http://schemas.xmlsoap.org/soap/envelope/'><S:Body>"
+                + "<ns:echo xmlns:ns='http://servlet.http.transport.ws.xml.sun.com/'><arg0>" + text + "</arg0></ns:echo>"
+                + "</S:Body></S:Envelope>";
+    }
+
+    private static String text(int length) {
+        char[] text = new char[length];
+        Arrays.fill(text, 'a');
+        return new String(text);
+    }
+
+    /*
+     * Sends the request in slices, with a pause after each one, and reads the response.
+     */
+    private String post(String body, boolean chunked, int slices, long pause) throws Exception {
+        byte[] data = body.getBytes(StandardCharsets.UTF_8);
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream out = socket.getOutputStream();
+            String headers = "POST /echo HTTP/1.1\r\n"
+                    + "Host: localhost\r\n"
+                    + "Content-Type: text/xml; charset=utf-8\r\n"
+                    + "SOAPAction: \"\"\r\n"
+                    + (chunked ? "Transfer-Encoding: chunked\r\n" : "Content-Length: " + data.length + "\r\n")
+                    + "Connection: close\r\n\r\n";
+            out.write(headers.getBytes(StandardCharsets.ISO_8859_1));
+            int slice = (data.length + slices - 1) / slices;
+            try {
+                for (int off = 0; off < data.length; off += slice) {
+                    int len = Math.min(slice, data.length - off);
+                    if (chunked) {
+                        out.write((Integer.toHexString(len) + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+                    }
+                    out.write(data, off, len);
+                    if (chunked) {
+                        out.write("\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                    }
+                    out.flush();
+                    if (pause > 0) {
+                        Thread.sleep(pause);
+                    }
+                }
+                if (chunked) {
+                    out.write("0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // the request was rejected before it was sent
+            }
+            return new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class EchoServlet extends HttpServlet {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient WSEndpoint<?> endpoint;
+        private transient ServletAdapter adapter;
+
+        EchoServlet(WSEndpoint<?> endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public void init() {
+            adapter = new ServletAdapterList(getServletContext()).createAdapter("echo", "/echo", endpoint);
+        }
+
+        @Override
+        protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            adapter.invokeAsync(getServletContext(), request, response, () -> { });
+        }
+    }
+
+    @WebService
+    public static class Echo {
+        public String echo(String value) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.api.server.WSEndpoint;
+import com.sun.xml.ws.developer.VirtualThreadsFeature;
+import com.sun.xml.ws.transport.local.InVmServer;
+import jakarta.jws.WebService;
+import jakarta.xml.ws.Dispatch;
+import jakarta.xml.ws.Response;
+import jakarta.xml.ws.Service;
+import jakarta.xml.ws.WebServiceFeature;
+import jakarta.xml.ws.soap.SOAPBinding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@value #CALLS} concurrent {@link Dispatch#invokeAsync(Object)} calls to an
+ * endpoint that takes {@link #latency} milliseconds to reply, with the fibers
+ * of the dispatch run on platform threads, the default, or on virtual threads
+ * with {@link VirtualThreadsFeature}.
+ *
+ * <p>
+ * The score is in calls per second. The peak resident set size of the JVM
+ * and the peak number of platform threads are printed at the end of each
+ * trial, the resident set size only on Linux.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncDispatchBenchmark {
+
+    static final int CALLS = 10_000;
+
+    /**
+     * Threads of the fibers: platform or virtual.
+     */
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    /**
+     * Time the endpoint takes to reply, in milliseconds.
+     */
+    @Param({"10"})
+    public int latency;
+
+    private InVmServer server;
+    private Dispatch<Source> dispatch;
+    private String request;
+    private long peakRss;
+
+    @Setup
+    public void setup() throws IOException {
+        DelayedEchoImpl.latency = latency;
+        WSEndpoint<DelayedEchoImpl> endpoint = WSEndpoint.create(DelayedEchoImpl.class, false, null,
+                Payloads.SERVICE, Payloads.PORT, null, null, null, null, null, true);
+        server = new InVmServer("async-dispatch", Collections.<WSEndpoint<?>>singletonList(endpoint));
+
+        Service service = Service.create(Payloads.SERVICE);
+        // the endpoint replies on the thread of the fiber, which waits meanwhile
+        service.addPort(Payloads.PORT, SOAPBinding.SOAP11HTTP_BINDING, "in-vm://async-dispatch/");
+        WebServiceFeature[] features = "virtual".equals(threads)
+                ? new WebServiceFeature[] {new VirtualThreadsFeature()}
+                : new WebServiceFeature[0];
+        dispatch = service.createDispatch(Payloads.PORT, Source.class, Service.Mode.PAYLOAD, features);
+        request = Payloads.echoStringPayload("hello");
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.undeploy();
+        System.out.println();
+        System.out.println(threads + " threads: peak RSS " + (peakRss > 0 ? peakRss + " kB" : "n/a")
+                + ", peak platform threads " + ManagementFactory.getThreadMXBean().getPeakThreadCount());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void invokeAsync(Blackhole bh) throws Exception {
+        List<Response<Source>> responses = new ArrayList<>(CALLS);
+        for (int i = 0; i < CALLS; i++) {
+            responses.add(dispatch.invokeAsync(new StreamSource(new StringReader(request))));
+        }
+        for (Response<Source> response : responses) {
+            bh.consume(response.get());
+        }
+        peakRss = Math.max(peakRss, rss());
+    }
+
+    /*
+     * The resident set size of the JVM in kB, 0 if unknown.
+     */
+    private static long rss() throws IOException {
+        Path status = Paths.get("/proc/self/status");
+        if (!Files.isReadable(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status, StandardCharsets.US_ASCII)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.substring(6).trim().split("\\s+")[0]);
+            }
+        }
+        return 0;
+    }
+
+    @WebService(endpointInterface = "com.sun.xml.ws.benchmark.Echo",
+            serviceName = "EchoService", portName = "EchoPort", targetNamespace = Payloads.NS)
+    public static class DelayedEchoImpl extends EchoImpl {
+
+        static volatile int latency;
+
+        public DelayedEchoImpl() {
+        }
+
+        @Override
+        public String echoString(String value) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        }
+    }
+}
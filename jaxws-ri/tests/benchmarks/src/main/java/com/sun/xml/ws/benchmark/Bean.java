@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JAXB bean of a size given by the number of its items.
+ */
+@XmlRootElement(name = "bean", namespace = Payloads.NS)
+@XmlType(name = "bean", namespace = Payloads.NS)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class Bean {
+
+    private String name;
+    private int count;
+    private List<String> items = new ArrayList<>();
+
+    public Bean() {
+    }
+
+    Bean(int count) {
+        this.name = "bean";
+        this.count = count;
+        for (int i = 0; i < count; i++) {
+            items.add("item-" + i);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public List<String> getItems() {
+        return items;
+    }
+}
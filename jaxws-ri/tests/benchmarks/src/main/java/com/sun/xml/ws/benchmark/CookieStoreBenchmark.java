@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.transport.http.client.ConcurrentCookieStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cookie handling of a session maintaining client shared by one thread per
+ * core: every request reads the cookies of its endpoint, as
+ * {@code HttpTransportPipe.addCookies} does, and one in ten responses sets a
+ * cookie, as {@code HttpTransportPipe.recordCookies} does. Run with
+ * {@code -t 1} for the single-threaded cost.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class CookieStoreBenchmark {
+
+    /**
+     * Cookie store: the one of the JDK or {@link ConcurrentCookieStore}.
+     */
+    @Param({"jdk", "concurrent"})
+    public String store;
+
+    /**
+     * Number of hosts the client sends requests to.
+     */
+    @Param({"1", "16"})
+    public int hosts;
+
+    private CookieManager manager;
+    private URI[] uris;
+    private Map<String, List<String>> setCookie;
+
+    @Setup
+    public void setup() throws IOException {
+        manager = new CookieManager("concurrent".equals(store) ? new ConcurrentCookieStore() : null,
+                CookiePolicy.ACCEPT_ALL);
+        uris = new URI[hosts];
+        for (int i = 0; i < hosts; i++) {
+            uris[i] = URI.create("http://service" + i + ".example.com/ws");
+            manager.put(uris[i], Collections.singletonMap("Set-Cookie",
+                    Collections.singletonList("JSESSIONID=" + i + "; Path=/")));
+        }
+        setCookie = Collections.singletonMap("Set-Cookie",
+                Collections.singletonList("route=1; Path=/"));
+    }
+
+    @Benchmark
+    public Map<String, List<String>> request() throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        URI uri = uris[random.nextInt(uris.length)];
+        Map<String, List<String>> cookies = manager.get(uri, Collections.emptyMap());
+        if (random.nextInt(10) == 0) {
+            manager.put(uri, setCookie);
+        }
+        return cookies;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+/**
+ * JAXB bean with binary content, sent as an attachment with MTOM.
+ */
+@XmlRootElement(name = "data", namespace = Payloads.NS)
+@XmlAccessorType(XmlAccessType.FIELD)
+public class Data {
+
+    private byte[] content;
+
+    public Data() {
+    }
+
+    Data(int size) {
+        content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import jakarta.jws.WebService;
+
+/**
+ * Service endpoint interface of the benchmarked service.
+ */
+@WebService(name = "Echo", targetNamespace = Payloads.NS)
+public interface Echo {
+
+    String echoString(String value);
+
+    Bean echoBean(Bean value);
+
+    byte[] echoData(byte[] data);
+}
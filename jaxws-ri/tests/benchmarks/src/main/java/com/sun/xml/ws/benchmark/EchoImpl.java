@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import jakarta.jws.WebService;
+
+/**
+ * Benchmarked service, returns its input.
+ */
+@WebService(endpointInterface = "com.sun.xml.ws.benchmark.Echo",
+        serviceName = "EchoService", portName = "EchoPort", targetNamespace = Payloads.NS)
+public class EchoImpl implements Echo {
+
+    public EchoImpl() {
+    }
+
+    @Override
+    public String echoString(String value) {
+        return value;
+    }
+
+    @Override
+    public Bean echoBean(Bean value) {
+        return value;
+    }
+
+    @Override
+    public byte[] echoData(byte[] data) {
+        return data;
+    }
+}
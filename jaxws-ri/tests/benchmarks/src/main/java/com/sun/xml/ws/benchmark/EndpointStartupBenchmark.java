@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.api.server.WSEndpoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Creation of an endpoint without a packaged WSDL, which builds the runtime
+ * model of the SEI, generates the WSDL and the schema, and parses them.
+ * With the cache, the documents generated on the first creation are read
+ * from the {@code GeneratedWSDLCache} directory, as on a warm restart.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndpointStartupBenchmark {
+
+    /**
+     * Whether the generated documents are cached.
+     */
+    @Param({"false", "true"})
+    public boolean cache;
+
+    private Path dir;
+
+    @Setup
+    public void setup() throws IOException {
+        if (cache) {
+            dir = Files.createTempDirectory("wsdl-cache");
+            // read when the first WSDL is generated, every fork has its own
+            System.setProperty("com.sun.xml.ws.server.GeneratedWSDLCache.dir", dir.toString());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (dir != null) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    public Object createEndpoint() {
+        WSEndpoint<EchoImpl> endpoint = Payloads.createEndpoint();
+        endpoint.dispose();
+        return endpoint;
+    }
+}
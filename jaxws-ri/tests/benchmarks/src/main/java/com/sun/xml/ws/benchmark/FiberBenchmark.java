@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.pipe.Engine;
+import com.sun.xml.ws.api.pipe.Fiber;
+import com.sun.xml.ws.api.pipe.NextAction;
+import com.sun.xml.ws.api.pipe.Tube;
+import com.sun.xml.ws.api.pipe.TubeCloner;
+import com.sun.xml.ws.api.pipe.helper.AbstractFilterTubeImpl;
+import com.sun.xml.ws.api.pipe.helper.AbstractTubeImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduling of {@link Fiber}s through a tubeline of pass-through tubes,
+ * synchronously on the calling thread and asynchronously on the
+ * {@link Engine} executor, a fixed thread pool or virtual threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FiberBenchmark {
+
+    /**
+     * Number of tubes in the tubeline.
+     */
+    @Param({"1", "8"})
+    public int tubes;
+
+    /**
+     * Threads of the engine: a fixed pool, or virtual threads as
+     * enabled with {@link Engine#setVirtualThreads(boolean)}.
+     */
+    @Param({"fixed", "virtual"})
+    public String threads;
+
+    private ExecutorService executor;
+    private Engine engine;
+    private Tube tubeline;
+
+    @Setup
+    public void setup() {
+        if ("virtual".equals(threads)) {
+            engine = new Engine("benchmark");
+            engine.setVirtualThreads(true);
+        } else {
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            engine = new Engine("benchmark", executor);
+        }
+        Tube tube = new ReturnTube();
+        for (int i = 1; i < tubes; i++) {
+            tube = new PassThroughTube(tube);
+        }
+        tubeline = tube;
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Packet runSync() {
+        return engine.createFiber().runSync(tubeline, new Packet());
+    }
+
+    @Benchmark
+    public Packet start() throws Exception {
+        final CompletableFuture<Packet> response = new CompletableFuture<>();
+        engine.createFiber().start(tubeline, new Packet(), new Fiber.CompletionCallback() {
+            @Override
+            public void onCompletion(Packet packet) {
+                response.complete(packet);
+            }
+
+            @Override
+            public void onCompletion(Throwable error) {
+                response.completeExceptionally(error);
+            }
+        });
+        return response.get();
+    }
+
+    private static final class PassThroughTube extends AbstractFilterTubeImpl {
+
+        PassThroughTube(Tube next) {
+            super(next);
+        }
+
+        private PassThroughTube(PassThroughTube that, TubeCloner cloner) {
+            super(that, cloner);
+        }
+
+        @Override
+        public PassThroughTube copy(TubeCloner cloner) {
+            return new PassThroughTube(this, cloner);
+        }
+    }
+
+    private static final class ReturnTube extends AbstractTubeImpl {
+
+        ReturnTube() {
+        }
+
+        private ReturnTube(ReturnTube that, TubeCloner cloner) {
+            super(that, cloner);
+        }
+
+        @Override
+        public NextAction processRequest(Packet request) {
+            return doReturnWith(request);
+        }
+
+        @Override
+        public NextAction processResponse(Packet response) {
+            return doReturnWith(response);
+        }
+
+        @Override
+        public NextAction processException(Throwable t) {
+            return doThrow(t);
+        }
+
+        @Override
+        public void preDestroy() {
+        }
+
+        @Override
+        public ReturnTube copy(TubeCloner cloner) {
+            return new ReturnTube(this, cloner);
+        }
+    }
+}
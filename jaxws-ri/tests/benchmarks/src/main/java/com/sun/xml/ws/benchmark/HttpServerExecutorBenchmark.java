@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.developer.HttpServerExecutorFeature;
+import jakarta.xml.ws.Endpoint;
+import jakarta.xml.ws.WebServiceFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests from as many clients as there are cores to an endpoint published
+ * on the HTTP server of the runtime, with its threads configured by
+ * {@link HttpServerExecutorFeature}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class HttpServerExecutorBenchmark {
+
+    /**
+     * Threads of the HTTP server: an unbounded pool, a bounded pool or virtual threads.
+     */
+    @Param({"cached", "bounded", "virtual"})
+    public String mode;
+
+    private Endpoint endpoint;
+    private URL url;
+    private byte[] request;
+
+    @Setup
+    public void setup() throws IOException {
+        WebServiceFeature[] features;
+        switch (mode) {
+            case "bounded":
+                features = new WebServiceFeature[] {
+                        new HttpServerExecutorFeature(Runtime.getRuntime().availableProcessors(), 64)};
+                break;
+            case "virtual":
+                features = new WebServiceFeature[] {new HttpServerExecutorFeature()};
+                break;
+            default:
+                features = new WebServiceFeature[0];
+        }
+        int port;
+        try (ServerSocket ss = new ServerSocket(0)) {
+            port = ss.getLocalPort();
+        }
+        url = new URL("http://localhost:" + port + "/echo");
+        endpoint = Endpoint.create(new EchoImpl(), features);
+        endpoint.publish(url.toString());
+        request = Payloads.envelope(0, Payloads.echoStringPayload("hello"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        endpoint.stop();
+    }
+
+    /**
+     * Posts a request and reads the response, a 503 response is counted as a request too.
+     */
+    @Benchmark
+    public int echoString(Blackhole bh) throws IOException {
+        HttpURLConnection con = (HttpURLConnection) url.openConnection();
+        con.setRequestMethod("POST");
+        con.setDoOutput(true);
+        con.setRequestProperty("Content-Type", Payloads.SOAP11_CONTENT_TYPE);
+        con.setRequestProperty("SOAPAction", "\"\"");
+        try (OutputStream out = con.getOutputStream()) {
+            out.write(request);
+        }
+        int status = con.getResponseCode();
+        InputStream in = status < 400 ? con.getInputStream() : con.getErrorStream();
+        if (in != null) {
+            try (InputStream is = in) {
+                byte[] buf = new byte[4096];
+                int len;
+                while ((len = is.read(buf)) != -1) {
+                    bh.consume(len);
+                }
+            }
+        }
+        return status;
+    }
+}
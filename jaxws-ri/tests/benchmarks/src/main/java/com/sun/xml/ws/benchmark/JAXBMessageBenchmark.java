@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.message.Message;
+import com.sun.xml.ws.api.message.Messages;
+import com.sun.xml.ws.api.streaming.XMLStreamWriterFactory;
+import jakarta.xml.bind.JAXBContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing of {@link com.sun.xml.ws.message.jaxb.JAXBMessage}s, as done
+ * when encoding the requests of proxies and the responses of endpoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JAXBMessageBenchmark {
+
+    /**
+     * Number of items in the payload.
+     */
+    @Param({"1", "100"})
+    public int items;
+
+    private JAXBContext context;
+    private Bean bean;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup() throws Exception {
+        context = JAXBContext.newInstance(Bean.class);
+        bean = new Bean(items);
+        out = new ByteArrayOutputStream(8192);
+    }
+
+    @Benchmark
+    public int writeTo() throws Exception {
+        out.reset();
+        Message message = Messages.create(context, bean, SOAPVersion.SOAP_11);
+        XMLStreamWriter writer = XMLStreamWriterFactory.create(out);
+        message.writeTo(writer);
+        writer.flush();
+        XMLStreamWriterFactory.recycle(writer);
+        return out.size();
+    }
+
+    @Benchmark
+    public int writePayloadTo() throws Exception {
+        out.reset();
+        Message message = Messages.create(context, bean, SOAPVersion.SOAP_11);
+        XMLStreamWriter writer = XMLStreamWriterFactory.create(out);
+        message.writePayloadTo(writer);
+        writer.flush();
+        XMLStreamWriterFactory.recycle(writer);
+        return out.size();
+    }
+}
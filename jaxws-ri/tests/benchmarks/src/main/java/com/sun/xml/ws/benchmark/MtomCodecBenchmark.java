@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.api.BindingID;
+import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.WSBinding;
+import com.sun.xml.ws.api.message.Messages;
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.pipe.Codec;
+import com.sun.xml.ws.api.pipe.Codecs;
+import com.sun.xml.ws.api.pipe.ContentType;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.ws.soap.MTOMFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of MTOM messages with a binary attachment by
+ * {@link com.sun.xml.ws.encoding.MtomCodec}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MtomCodecBenchmark {
+
+    /**
+     * Size of the attachment in bytes.
+     */
+    @Param({"1024", "65536"})
+    public int size;
+
+    private Codec codec;
+    private JAXBContext context;
+    private Unmarshaller unmarshaller;
+    private Data data;
+    private ByteArrayOutputStream out;
+    private byte[] encoded;
+    private String contentType;
+
+    @Setup
+    public void setup() throws Exception {
+        WSBinding binding = BindingID.SOAP11_HTTP.createBinding(new MTOMFeature(true));
+        codec = Codecs.createSOAPBindingCodec(binding, Codecs.createSOAPEnvelopeXmlCodec(SOAPVersion.SOAP_11));
+        context = JAXBContext.newInstance(Data.class);
+        unmarshaller = context.createUnmarshaller();
+        data = new Data(size);
+        out = new ByteArrayOutputStream(size + 4096);
+
+        contentType = encode().getContentType();
+        encoded = out.toByteArray();
+    }
+
+    @Benchmark
+    public ContentType encode() throws Exception {
+        out.reset();
+        Packet packet = new Packet(Messages.create(context, data, SOAPVersion.SOAP_11));
+        packet.setState(Packet.State.ClientRequest);
+        packet.setMtomFeature(new MTOMFeature(true));
+        return codec.encode(packet, out);
+    }
+
+    @Benchmark
+    public Data decode() throws Exception {
+        Packet packet = new Packet();
+        codec.decode(new ByteArrayInputStream(encoded), contentType, packet);
+        return packet.getMessage().readPayloadAsJAXB(unmarshaller);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.model.WSDLOperationMapping;
+import com.sun.xml.ws.api.pipe.Codecs;
+import com.sun.xml.ws.api.server.WSEndpoint;
+import com.sun.xml.ws.wsdl.OperationDispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatching of requests to the WSDL operations of an endpoint, which is
+ * done by {@code PayloadQNameBasedOperationFinder} for
+ * endpoints without WS-Addressing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OperationDispatcherBenchmark {
+
+    @Param({"echoString", "echoBean", "echoData"})
+    public String operation;
+
+    private WSEndpoint<EchoImpl> endpoint;
+    private OperationDispatcher dispatcher;
+    private Packet request;
+
+    @Setup
+    public void setup() throws Exception {
+        endpoint = Payloads.createEndpoint();
+        dispatcher = new OperationDispatcher(endpoint.getPort(), endpoint.getBinding(), endpoint.getSEIModel());
+
+        String payload;
+        switch (operation) {
+            case "echoString": payload = Payloads.echoStringPayload("hello"); break;
+            case "echoBean": payload = Payloads.echoBeanPayload(1); break;
+            default: payload = Payloads.echoDataPayload(); break;
+        }
+        request = new Packet();
+        // the payload name is read from the start of the body, so the message can be reused
+        Codecs.createSOAPEnvelopeXmlCodec(SOAPVersion.SOAP_11).decode(
+                new ByteArrayInputStream(Payloads.envelope(0, payload)), Payloads.SOAP11_CONTENT_TYPE, request);
+    }
+
+    @TearDown
+    public void tearDown() {
+        endpoint.dispose();
+    }
+
+    @Benchmark
+    public WSDLOperationMapping dispatch() throws Exception {
+        return dispatcher.getWSDLOperationMapping(request);
+    }
+}
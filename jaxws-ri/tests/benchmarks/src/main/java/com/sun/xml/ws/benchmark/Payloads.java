@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.api.message.Message;
+import com.sun.xml.ws.api.server.WSEndpoint;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Messages and services shared by the benchmarks.
+ */
+final class Payloads {
+
+    static final String NS = "http://benchmark.ws.xml.sun.com/";
+    static final QName SERVICE = new QName(NS, "EchoService");
+    static final QName PORT = new QName(NS, "EchoPort");
+
+    static final String SOAP11_CONTENT_TYPE = "text/xml; charset=utf-8";
+
+    private Payloads() {
+    }
+
+    /**
+     * SOAP 1.1 envelope with WS-Addressing headers, the given number of
+     * additional headers, and the given payload.
+     */
+    static byte[] envelope(int extraHeaders, String payload) {
+        StringBuilder sb = new StringBuilder(1024 + payload.length());
+        sb.append("<S:Envelope xmlns:S=\"http://schemas.xmlsoap.org/soap/envelope/\"")
+                .append(" xmlns:wsa=\"http://www.w3.org/2005/08/addressing\">")
+                .append("<S:Header>")
+                .append("<wsa:To>http://localhost:8080/echo</wsa:To>")
+                .append("<wsa:Action>").append(NS).append("Echo/echoStringRequest</wsa:Action>")
+                .append("<wsa:MessageID>uuid:7c4a9d5e-4f1b-4c5e-9d7a-3b2f1e0c8a6d</wsa:MessageID>")
+                .append("<wsa:ReplyTo><wsa:Address>http://www.w3.org/2005/08/addressing/anonymous</wsa:Address></wsa:ReplyTo>");
+        for (int i = 0; i < extraHeaders; i++) {
+            sb.append("<h:extra").append(i).append(" xmlns:h=\"urn:benchmark:headers\">")
+                    .append("value-").append(i)
+                    .append("</h:extra").append(i).append(">");
+        }
+        sb.append("</S:Header>")
+                .append("<S:Body>").append(payload).append("</S:Body>")
+                .append("</S:Envelope>");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Request payload of the echoString operation.
+     */
+    static String echoStringPayload(String value) {
+        return "<ns:echoString xmlns:ns=\"" + NS + "\"><arg0>" + value + "</arg0></ns:echoString>";
+    }
+
+    /**
+     * Request payload of the echoBean operation, with the given number of items.
+     */
+    static String echoBeanPayload(int items) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<ns:echoBean xmlns:ns=\"").append(NS).append("\"><arg0>")
+                .append("<name>bean</name><count>").append(items).append("</count>");
+        for (int i = 0; i < items; i++) {
+            sb.append("<items>item-").append(i).append("</items>");
+        }
+        sb.append("</arg0></ns:echoBean>");
+        return sb.toString();
+    }
+
+    /**
+     * Request payload of the echoData operation.
+     */
+    static String echoDataPayload() {
+        return "<ns:echoData xmlns:ns=\"" + NS + "\"><arg0>AAECAwQFBgcICQ==</arg0></ns:echoData>";
+    }
+
+    /**
+     * Reads all the events of the payload of the message.
+     */
+    static void drainPayload(Message message, Blackhole bh) throws XMLStreamException {
+        XMLStreamReader reader = message.readPayload();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamReader.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamReader.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamReader.CHARACTERS) {
+                bh.consume(reader.getTextLength());
+            }
+        }
+    }
+
+    static WSEndpoint<EchoImpl> createEndpoint() {
+        return WSEndpoint.create(EchoImpl.class, false, null, SERVICE, PORT, null, null, null, null, null, true);
+    }
+}
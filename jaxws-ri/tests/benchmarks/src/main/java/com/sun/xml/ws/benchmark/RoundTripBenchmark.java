@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.api.server.WSEndpoint;
+import com.sun.xml.ws.transport.local.InVmServer;
+import jakarta.xml.ws.Service;
+import jakarta.xml.ws.soap.SOAPBinding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls from a proxy to an endpoint over the in-VM transport, covering the
+ * client and server tubelines, the codecs and the databinding on both sides.
+ * The {@code in-vm-direct} transport passes the messages without the codecs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoundTripBenchmark {
+
+    /**
+     * Number of items in the bean.
+     */
+    @Param({"1", "100"})
+    public int items;
+
+    /**
+     * Scheme of the in-VM transport.
+     */
+    @Param({"in-vm", "in-vm-direct"})
+    public String transport;
+
+    private InVmServer server;
+    private Echo port;
+    private Bean bean;
+    private byte[] data;
+
+    @Setup
+    public void setup() throws Exception {
+        WSEndpoint<EchoImpl> endpoint = Payloads.createEndpoint();
+        server = new InVmServer("benchmark", Collections.<WSEndpoint<?>>singletonList(endpoint));
+
+        Service service = Service.create(Payloads.SERVICE);
+        service.addPort(Payloads.PORT, SOAPBinding.SOAP11HTTP_BINDING, transport + "://benchmark/");
+        port = service.getPort(Payloads.PORT, Echo.class);
+
+        bean = new Bean(items);
+        data = new Data(items * 16).getContent();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.undeploy();
+    }
+
+    @Benchmark
+    public String echoString() {
+        return port.echoString("hello");
+    }
+
+    @Benchmark
+    public Bean echoBean() {
+        return port.echoBean(bean);
+    }
+
+    @Benchmark
+    public byte[] echoData() {
+        return port.echoData(data);
+    }
+}
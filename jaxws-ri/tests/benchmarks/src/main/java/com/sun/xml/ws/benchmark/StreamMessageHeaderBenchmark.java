@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.addressing.AddressingVersion;
+import com.sun.xml.ws.api.message.AddressingUtils;
+import com.sun.xml.ws.api.message.Header;
+import com.sun.xml.ws.api.message.MessageHeaders;
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.pipe.Codecs;
+import com.sun.xml.ws.api.pipe.StreamSOAPCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the SOAP headers of a decoded
+ * {@link com.sun.xml.ws.message.stream.StreamMessage}, and the WS-Addressing
+ * lookups done on them by the runtime.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StreamMessageHeaderBenchmark {
+
+    /**
+     * Number of headers in addition to the WS-Addressing ones.
+     */
+    @Param({"0", "4", "16"})
+    public int extraHeaders;
+
+    private StreamSOAPCodec codec;
+    private byte[] envelope;
+
+    @Setup
+    public void setup() {
+        codec = Codecs.createSOAPEnvelopeXmlCodec(SOAPVersion.SOAP_11);
+        envelope = Payloads.envelope(extraHeaders, Payloads.echoStringPayload("hello"));
+    }
+
+    @Benchmark
+    public void headers(Blackhole bh) throws Exception {
+        Packet packet = new Packet();
+        codec.decode(new ByteArrayInputStream(envelope), Payloads.SOAP11_CONTENT_TYPE, packet);
+        MessageHeaders headers = packet.getMessage().getHeaders();
+        bh.consume(AddressingUtils.getTo(headers, AddressingVersion.W3C, SOAPVersion.SOAP_11));
+        bh.consume(AddressingUtils.getAction(headers, AddressingVersion.W3C, SOAPVersion.SOAP_11));
+        bh.consume(AddressingUtils.getMessageID(headers, AddressingVersion.W3C, SOAPVersion.SOAP_11));
+        for (Iterator<Header> it = headers.getHeaders(); it.hasNext();) {
+            Header header = it.next();
+            bh.consume(header.getNamespaceURI());
+            bh.consume(header.getLocalPart());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.xml.ws.benchmark;
+
+import com.sun.xml.ws.api.SOAPVersion;
+import com.sun.xml.ws.api.message.Message;
+import com.sun.xml.ws.api.message.Messages;
+import com.sun.xml.ws.api.message.Packet;
+import com.sun.xml.ws.api.pipe.Codecs;
+import com.sun.xml.ws.api.pipe.ContentType;
+import com.sun.xml.ws.api.pipe.StreamSOAPCodec;
+import jakarta.xml.bind.JAXBContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding and encoding of SOAP 1.1 envelopes by {@link StreamSOAPCodec}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StreamSOAPCodecBenchmark {
+
+    /**
+     * Number of items in the payload.
+     */
+    @Param({"1", "100"})
+    public int items;
+
+    private StreamSOAPCodec codec;
+    private byte[] envelope;
+    private JAXBContext context;
+    private Bean bean;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup() throws Exception {
+        codec = Codecs.createSOAPEnvelopeXmlCodec(SOAPVersion.SOAP_11);
+        envelope = Payloads.envelope(0, Payloads.echoBeanPayload(items));
+        context = JAXBContext.newInstance(Bean.class);
+        bean = new Bean(items);
+        out = new ByteArrayOutputStream(envelope.length * 2);
+    }
+
+    @Benchmark
+    public void decode(Blackhole bh) throws Exception {
+        Packet packet = new Packet();
+        codec.decode(new ByteArrayInputStream(envelope), Payloads.SOAP11_CONTENT_TYPE, packet);
+        Message message = packet.getMessage();
+        Payloads.drainPayload(message, bh);
+    }
+
+    @Benchmark
+    public ContentType encode() throws Exception {
+        out.reset();
+        Packet packet = new Packet(Messages.create(context, bean, SOAPVersion.SOAP_11));
+        return codec.encode(packet, out);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+/**
+ * JMH benchmarks of the message pipeline.
+ *
+ * <p>
+ * The module is built with the {@code benchmarks} profile, which produces
+ * an executable {@code target/benchmarks.jar}:
+ * <pre>
+ * mvn -Pbenchmarks -pl tests/benchmarks -am package -DskipTests
+ * java -jar tests/benchmarks/target/benchmarks.jar [regexp] [-prof gc]
+ * </pre>
+ */
+package com.sun.xml.ws.benchmark;